@@ -1,12 +1,16 @@
 package leonil.sulude.api.gateway.filter;
 
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.context.ContextRegistry;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.util.UUID;
 
@@ -26,23 +30,42 @@ import java.util.UUID;
  * HOW IT WORKS:
  * -------------
  * 1. Checks if the request already contains "X-Correlation-Id"
- * 2. If not, generates a new UUID
- * 3. Stores the value in MDC (thread-local logging context)
- * 4. Adds the header to the response
- * 5. Clears MDC after request completes (critical to avoid leakage)
+ * 2. If not, generates a new UUID and adds it to the proxied request,
+ *    so downstream services log the same ID
+ * 3. Adds the header to the response
+ * 4. Stores the value in the Reactor Context of the request pipeline
  *
  * IMPORTANT:
  * ----------
- * MDC uses ThreadLocal internally.
- * Since threads are reused, failing to clear MDC may cause
- * correlation IDs to leak between unrelated requests.
+ * The filter never touches MDC directly. A reactive request hops between
+ * threads, so a ThreadLocal set here would leak into whatever request the
+ * thread serves next, or be missing after the hop.
+ *
+ * Instead, the MDC entry is registered as a ThreadLocalAccessor and
+ * Reactor's automatic context propagation
+ * ({@code spring.reactor.context-propagation=auto}) restores it from the
+ * Context whenever an operator runs on another thread, and removes only
+ * this key afterwards. Other MDC keys (traceId, spanId) are left alone,
+ * and nothing is copied per signal: only one String is carried in the Context.
  */
-@Slf4j
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorrelationIdFilter implements WebFilter {
 
     public static final String CORRELATION_HEADER = "X-Correlation-Id";
 
+    // Reactor Context key and MDC key
+    public static final String CORRELATION_KEY = "correlationId";
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(
+                CORRELATION_KEY,
+                () -> MDC.get(CORRELATION_KEY),
+                value -> MDC.put(CORRELATION_KEY, value),
+                () -> MDC.remove(CORRELATION_KEY)
+        );
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
 
@@ -51,22 +74,23 @@ public class CorrelationIdFilter implements WebFilter {
                 .getHeaders()
                 .getFirst(CORRELATION_HEADER);
 
-        // 2. Generate one if missing
+        // 2. Generate one if missing and forward it downstream
         if (correlationId == null || correlationId.isBlank()) {
             correlationId = UUID.randomUUID().toString();
+            String generated = correlationId;
+            ServerHttpRequest request = exchange.getRequest().mutate()
+                    .headers(headers -> headers.set(CORRELATION_HEADER, generated))
+                    .build();
+            exchange = exchange.mutate().request(request).build();
         }
 
-        // 3. Store in MDC (thread-local logging context)
-        MDC.put("correlationId", correlationId);
-
-        // 4. Add to response header (so clients can see it)
+        // 3. Add to response header (so clients can see it)
         exchange.getResponse()
                 .getHeaders()
-                .add(CORRELATION_HEADER, correlationId);
+                .set(CORRELATION_HEADER, correlationId);
 
-        // 5. Continue filter chain
+        // 4. Continue the chain with the ID in the Reactor Context
         return chain.filter(exchange)
-                // 6. Always clear MDC to prevent thread pollution
-                .doFinally(signalType -> MDC.clear());
+                .contextWrite(Context.of(CORRELATION_KEY, correlationId));
     }
 }
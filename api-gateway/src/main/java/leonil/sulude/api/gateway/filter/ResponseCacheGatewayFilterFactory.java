@@ -0,0 +1,399 @@
+package leonil.sulude.api.gateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ResponseCache route filter
+ *
+ * PURPOSE:
+ * --------
+ * Keeps successful GET responses of a route in memory so repeated reads
+ * (most catalog traffic) are answered by the gateway without an upstream call.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * 1. Entries are keyed by path, query, Accept, Accept-Encoding and the auth scope
+ * 2. Bounded by entry count (size eviction) and TTL; the TTL is capped by the
+ *    upstream {@code max-age} / {@code s-maxage}
+ * 3. Responses with {@code no-store}, {@code no-cache}, {@code private} (unless keyed
+ *    per principal), {@code Set-Cookie} or {@code Vary: *} are never stored
+ * 4. Concurrent misses for the same key are collapsed: one request goes upstream,
+ *    the others wait for its response
+ * 5. {@code If-None-Match} / {@code If-Modified-Since} are answered locally with 304
+ * 6. A successful write (non-GET) through the route clears that route's cache;
+ *    writes reaching upstream through other gateway instances are bounded by the TTL
+ *
+ * CONFIGURATION (per route):
+ * --------------------------
+ * <pre>
+ * filters:
+ *   - name: ResponseCache
+ *     args:
+ *       ttl: 10s
+ *       maxEntries: 10000
+ *       varyOnAuth: AUTHENTICATED   # NONE | AUTHENTICATED | PRINCIPAL
+ * </pre>
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    // Representation headers replayed from the cache; everything else is per request
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.VARY
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheGatewayFilterFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        super(Config.class);
+        // Slice tests run without actuator metrics; the global registry is then a no-op
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl", "maxEntries");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Must wrap the response before NettyWriteResponseFilter writes the upstream body
+        return new OrderedGatewayFilter(new ResponseCacheFilter(config),
+                NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    /**
+     * How cached responses are partitioned between callers.
+     */
+    public enum AuthScope {
+        /** One entry for every caller. */
+        NONE,
+        /** Separate entries for anonymous and authenticated callers (shared by all users). */
+        AUTHENTICATED,
+        /** One entry per principal; required for user-specific responses. */
+        PRINCIPAL
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(10);
+        private long maxEntries = 10_000;
+        private int maxEntryBytes = 1024 * 1024;
+        private AuthScope varyOnAuth = AuthScope.AUTHENTICATED;
+    }
+
+    /**
+     * Stored response.
+     *
+     * @param headers  representation headers (see STORED_HEADERS)
+     * @param body     response bytes
+     * @param ttl      time to live of this entry
+     * @param storedAt System.nanoTime() when stored, for the Age header
+     */
+    record CachedResponse(HttpHeaders headers, byte[] body, Duration ttl, long storedAt) {}
+
+    private class ResponseCacheFilter implements GatewayFilter {
+
+        private final Config config;
+        private final Cache<String, CachedResponse> cache;
+        private final ConcurrentMap<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+        ResponseCacheFilter(Config config) {
+            this.config = config;
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(config.getMaxEntries())
+                    .expireAfter(Expiry.creating((String key, CachedResponse response) -> response.ttl()))
+                    .build();
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange).doOnSuccess(done -> {
+                    if (exchange.getResponse().getStatusCode() != null
+                            && exchange.getResponse().getStatusCode().is2xxSuccessful()) {
+                        cache.invalidateAll();
+                    }
+                });
+            }
+            return cacheKey(exchange).flatMap(key -> lookup(exchange, chain, key));
+        }
+
+        private Mono<Void> lookup(ServerWebExchange exchange, GatewayFilterChain chain, String key) {
+
+            // Client-forced revalidation skips lookup and collapsing, but refreshes the entry
+            List<String> requestCacheControl = exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.CACHE_CONTROL);
+            boolean forceRefresh = requestCacheControl.stream()
+                    .anyMatch(value -> value.contains("no-cache") || value.contains("no-store"));
+
+            if (!forceRefresh) {
+                CachedResponse cached = cache.getIfPresent(key);
+                if (cached != null) {
+                    count(exchange, "hit");
+                    return serve(exchange, cached, "HIT");
+                }
+            }
+
+            CompletableFuture<CachedResponse> leader = new CompletableFuture<>();
+            CompletableFuture<CachedResponse> running = forceRefresh ? null : inFlight.putIfAbsent(key, leader);
+
+            if (running != null) {
+                count(exchange, "collapsed");
+                // A follower must not cancel the shared upstream call when its own client goes away
+                return Mono.fromFuture(running, true)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(response -> response.isPresent()
+                                ? serve(exchange, response.get(), "HIT")
+                                : chain.filter(exchange)); // Leader's response was not cacheable
+            }
+
+            count(exchange, "miss");
+
+            // Always fetch a full representation; conditional requests are answered here
+            ServerWebExchange upstream = exchange.mutate()
+                    .request(request -> request.headers(headers -> {
+                        headers.remove(HttpHeaders.IF_NONE_MATCH);
+                        headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                    }))
+                    .response(new CapturingResponse(exchange, key, leader))
+                    .build();
+
+            return chain.filter(upstream)
+                    .doFinally(signal -> {
+                        leader.complete(null); // No-op when the response was already captured
+                        inFlight.remove(key, leader);
+                    });
+        }
+
+        private Mono<String> cacheKey(ServerWebExchange exchange) {
+            ServerHttpRequest request = exchange.getRequest();
+            HttpHeaders headers = request.getHeaders();
+            String query = request.getURI().getRawQuery();
+            String base = request.getURI().getRawPath() + (query != null ? "?" + query : "")
+                    + " " + headers.getFirst(HttpHeaders.ACCEPT)
+                    + " " + headers.getFirst(HttpHeaders.ACCEPT_ENCODING);
+
+            return switch (config.getVaryOnAuth()) {
+                case NONE -> Mono.just(base);
+                case AUTHENTICATED -> Mono.just(
+                        (headers.containsKey(HttpHeaders.AUTHORIZATION) ? "auth " : "anon ") + base);
+                case PRINCIPAL -> exchange.getPrincipal()
+                        .map(Principal::getName)
+                        .map(name -> "user:" + name + " " + base)
+                        .defaultIfEmpty("anon " + base);
+            };
+        }
+
+        /**
+         * Returns the entry to store, or null when the response must not be cached (RFC 9111).
+         */
+        private CachedResponse toCacheEntry(ServerHttpRequest request, ServerHttpResponse response, byte[] body) {
+            HttpHeaders headers = response.getHeaders();
+            if (response.getStatusCode() != HttpStatus.OK
+                    || body.length > config.getMaxEntryBytes()
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || headers.getVary().contains("*")) {
+                return null;
+            }
+
+            CacheControl cacheControl = CacheControl.parse(headers.getCacheControl());
+            boolean perPrincipal = config.getVaryOnAuth() == AuthScope.PRINCIPAL;
+            if (cacheControl.noStore() || cacheControl.noCache() || (cacheControl.isPrivate() && !perPrincipal)) {
+                return null;
+            }
+            // A shared cache may only reuse responses to authorized requests when the origin allows it
+            if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) && !perPrincipal
+                    && !cacheControl.isPublic() && !cacheControl.mustRevalidate() && cacheControl.sMaxAge() == null) {
+                return null;
+            }
+
+            Duration ttl = config.getTtl();
+            Long lifetime = cacheControl.sMaxAge() != null ? cacheControl.sMaxAge() : cacheControl.maxAge();
+            if (lifetime != null && Duration.ofSeconds(lifetime).compareTo(ttl) < 0) {
+                ttl = Duration.ofSeconds(lifetime);
+            }
+            if (ttl.isZero() || ttl.isNegative()) {
+                return null;
+            }
+
+            HttpHeaders stored = new HttpHeaders();
+            STORED_HEADERS.forEach(name -> {
+                List<String> values = headers.get(name);
+                if (values != null) {
+                    stored.put(name, values);
+                }
+            });
+            return new CachedResponse(HttpHeaders.readOnlyHttpHeaders(stored), body, ttl, System.nanoTime());
+        }
+
+        private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, String cacheStatus) {
+            ServerHttpResponse response = exchange.getResponse();
+            HttpHeaders headers = response.getHeaders();
+            headers.putAll(cached.headers());
+            headers.set(HttpHeaders.AGE, String.valueOf(Duration.ofNanos(System.nanoTime() - cached.storedAt()).toSeconds()));
+            headers.set(CACHE_STATUS_HEADER, cacheStatus);
+
+            if (notModified(exchange.getRequest(), cached)) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return response.setComplete();
+            }
+
+            response.setStatusCode(HttpStatus.OK);
+            headers.setContentLength(cached.body().length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+        }
+
+        private void count(ServerWebExchange exchange, String result) {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            meterRegistry.counter("gateway.response.cache",
+                    "route", route != null ? route.getId() : "unknown",
+                    "result", result).increment();
+        }
+
+        /**
+         * Buffers the upstream body, stores it when cacheable and hands it to waiting requests.
+         */
+        private class CapturingResponse extends ServerHttpResponseDecorator {
+
+            private final ServerWebExchange exchange;
+            private final String key;
+            private final CompletableFuture<CachedResponse> leader;
+
+            CapturingResponse(ServerWebExchange exchange, String key, CompletableFuture<CachedResponse> leader) {
+                super(exchange.getResponse());
+                this.exchange = exchange;
+                this.key = key;
+                this.leader = leader;
+            }
+
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return DataBufferUtils.join(body).flatMap(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+
+                    CachedResponse entry = toCacheEntry(exchange.getRequest(), getDelegate(), bytes);
+                    if (entry != null) {
+                        cache.put(key, entry);
+                    }
+                    leader.complete(entry);
+
+                    getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                    if (entry != null && notModified(exchange.getRequest(), entry)) {
+                        setStatusCode(HttpStatus.NOT_MODIFIED);
+                        getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                        return setComplete();
+                    }
+                    return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        }
+    }
+
+    /**
+     * If-None-Match takes precedence; If-Modified-Since is only used without it (RFC 9110).
+     */
+    private static boolean notModified(ServerHttpRequest request, CachedResponse cached) {
+        HttpHeaders requestHeaders = request.getHeaders();
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        String etag = cached.headers().getETag();
+        if (!ifNoneMatch.isEmpty()) {
+            return etag != null && ifNoneMatch.stream()
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+        }
+        try {
+            long ifModifiedSince = requestHeaders.getIfModifiedSince();
+            long lastModified = cached.headers().getLastModified();
+            return ifModifiedSince != -1 && lastModified != -1 && lastModified <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false; // Unparseable date: ignore the condition
+        }
+    }
+
+    /**
+     * Response Cache-Control directives relevant to a shared cache.
+     */
+    private record CacheControl(boolean noStore, boolean noCache, boolean isPrivate, boolean isPublic,
+                                boolean mustRevalidate, Long maxAge, Long sMaxAge) {
+
+        static CacheControl parse(String header) {
+            boolean noStore = false, noCache = false, isPrivate = false, isPublic = false, mustRevalidate = false;
+            Long maxAge = null, sMaxAge = null;
+            if (header != null) {
+                for (String part : header.split(",")) {
+                    String directive = part.trim().toLowerCase();
+                    switch (directive) {
+                        case "no-store" -> noStore = true;
+                        case "no-cache" -> noCache = true;
+                        case "private" -> isPrivate = true;
+                        case "public" -> isPublic = true;
+                        case "must-revalidate" -> mustRevalidate = true;
+                        default -> {
+                            if (directive.startsWith("max-age=")) {
+                                maxAge = seconds(directive.substring("max-age=".length()));
+                            } else if (directive.startsWith("s-maxage=")) {
+                                sMaxAge = seconds(directive.substring("s-maxage=".length()));
+                            }
+                        }
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, isPrivate, isPublic, mustRevalidate, maxAge, sMaxAge);
+        }
+
+        private static Long seconds(String value) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return 0L; // Invalid lifetime: treat as stale (RFC 9111 4.2.1)
+            }
+        }
+    }
+}
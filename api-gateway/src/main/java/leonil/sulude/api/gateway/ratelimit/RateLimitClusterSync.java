@@ -0,0 +1,96 @@
+package leonil.sulude.api.gateway.ratelimit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cluster-wide rate limiting over RabbitMQ.
+ *
+ * Every sync interval each gateway instance publishes the tokens it consumed
+ * per bucket to a fanout exchange; every instance drains what the others
+ * consumed from its own buckets. Buckets stay local and lock-free on the
+ * request path, and the cluster overshoots a limit by at most one interval
+ * of traffic. Enabled with {@code gateway.rate-limit.cluster.enabled=true}.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "gateway.rate-limit.cluster.enabled", havingValue = "true")
+public class RateLimitClusterSync {
+
+    public static final String EXCHANGE = "gateway.rate-limit";
+
+    private static final TypeReference<Map<String, Long>> CONSUMPTION_TYPE = new TypeReference<>() {};
+
+    // Identifies this instance's own broadcasts, which the fanout also delivers back
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RateLimiter rateLimiter;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitClusterSync(RateLimiter rateLimiter, RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public FanoutExchange rateLimitExchange() {
+        return new FanoutExchange(EXCHANGE, false, true);
+    }
+
+    // One exclusive, auto-deleted queue per gateway instance
+    @Bean
+    public AnonymousQueue rateLimitQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding rateLimitBinding(FanoutExchange rateLimitExchange, AnonymousQueue rateLimitQueue) {
+        return BindingBuilder.bind(rateLimitQueue).to(rateLimitExchange);
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.cluster.sync-interval:500ms}")
+    public void publish() {
+        Map<String, Long> consumed = rateLimiter.drainLocalConsumption();
+        if (consumed.isEmpty()) {
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(EXCHANGE, "", objectMapper.writeValueAsBytes(consumed),
+                    message -> {
+                        message.getMessageProperties().setAppId(instanceId);
+                        return message;
+                    });
+        } catch (Exception e) {
+            // Limits stay enforced locally; only the cluster-wide view degrades
+            log.warn("Could not publish rate limit consumption: {}", e.getMessage());
+        }
+    }
+
+    @RabbitListener(queues = "#{rateLimitQueue.name}")
+    public void onConsumption(Message message) throws IOException {
+        if (instanceId.equals(message.getMessageProperties().getAppId())) {
+            return;
+        }
+        rateLimiter.applyRemoteConsumption(objectMapper.readValue(message.getBody(), CONSUMPTION_TYPE));
+    }
+}
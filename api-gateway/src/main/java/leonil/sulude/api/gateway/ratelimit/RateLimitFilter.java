@@ -0,0 +1,149 @@
+package leonil.sulude.api.gateway.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitFilter
+ *
+ * PURPOSE:
+ * --------
+ * Stops a single client from saturating the downstream services.
+ *
+ * HOW IT WORKS:
+ * -------------
+ * 1. Picks the first configured policy whose paths match the request
+ * 2. Resolves the client key (JWT subject, IP or route) for that policy
+ * 3. Takes a token from the client's bucket ({@link RateLimiter})
+ * 4. Adds RateLimit-Limit / -Remaining / -Reset / -Policy headers
+ *    (IETF draft "RateLimit header fields for HTTP")
+ * 5. Rejects with 429 and Retry-After when the bucket is empty
+ *
+ * Runs as a global filter, after authentication (the JWT subject is known)
+ * and before the response cache, so cached reads also count.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = -100;
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final List<PolicyMatcher> matchers;
+    private final MeterRegistry meterRegistry;
+
+    private record PolicyMatcher(RateLimitProperties.Policy policy, List<PathPattern> patterns) {
+        boolean matches(PathContainer path) {
+            return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+        }
+    }
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = properties.isEnabled();
+        this.matchers = properties.getPolicies().stream()
+                .map(policy -> new PolicyMatcher(policy, policy.getPaths().stream()
+                        .map(PathPatternParser.defaultInstance::parse)
+                        .toList()))
+                .toList();
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        RateLimitProperties.Policy policy = matchers.stream()
+                .filter(matcher -> matcher.matches(path))
+                .map(PolicyMatcher::policy)
+                .findFirst()
+                .orElse(null);
+        if (policy == null) {
+            return chain.filter(exchange);
+        }
+
+        return resolveKey(exchange, policy).flatMap(key -> {
+            TokenBucket.Consumption consumption = rateLimiter.tryConsume(policy, key);
+
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            headers.set("RateLimit-Limit", String.valueOf(policy.getCapacity()));
+            headers.set("RateLimit-Remaining", String.valueOf(consumption.remaining()));
+            headers.set("RateLimit-Reset", String.valueOf(seconds(consumption.nanosUntilFull())));
+            headers.set("RateLimit-Policy", policy.getCapacity() + ";w=" + policy.windowSeconds());
+
+            if (consumption.allowed()) {
+                return chain.filter(exchange);
+            }
+
+            meterRegistry.counter("gateway.rate-limit.rejected", "policy", policy.getName()).increment();
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, seconds(consumption.nanosUntilToken()))));
+            return tooManyRequests(exchange.getResponse());
+        });
+    }
+
+    private Mono<String> resolveKey(ServerWebExchange exchange, RateLimitProperties.Policy policy) {
+        return switch (policy.getKey()) {
+            case IP -> Mono.just("ip:" + clientIp(exchange));
+            case ROUTE -> {
+                Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+                yield Mono.just("route:" + (route != null ? route.getId() : "unknown"));
+            }
+            case USER -> exchange.getPrincipal()
+                    .map(Principal::getName)
+                    .map(name -> "user:" + name)
+                    .defaultIfEmpty("ip:" + clientIp(exchange));
+        };
+    }
+
+    // The gateway is the edge: the socket address is the client, forwarded headers are not trusted
+    private String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        return remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : "unknown";
+    }
+
+    private Mono<Void> tooManyRequests(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        // Same shape as the services' ApiError
+        byte[] body = ("{\"status\":429,\"error\":\"Too Many Requests\","
+                + "\"message\":\"Rate limit exceeded, retry later\","
+                + "\"timestamp\":\"" + LocalDateTime.now() + "\"}").getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static long seconds(long nanos) {
+        return (long) Math.ceil(nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,71 @@
+package leonil.sulude.api.gateway.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limiting configuration ({@code gateway.rate-limit.*}).
+ *
+ * Policies are evaluated in order; the first one whose path patterns match
+ * the request applies, so specific policies (login) go before general ones.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound of tracked buckets (clients x policies); idle buckets expire
+    private long maxBuckets = 100_000;
+
+    private List<Policy> policies = new ArrayList<>();
+
+    private Cluster cluster = new Cluster();
+
+    public enum KeyType {
+        /** JWT subject, falling back to the client IP for anonymous requests. */
+        USER,
+        /** Client IP address. */
+        IP,
+        /** One bucket shared by every caller of the route. */
+        ROUTE
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        private KeyType key = KeyType.USER;
+        // Burst size
+        private long capacity = 100;
+        // Sustained rate: refillTokens every refillPeriod
+        private long refillTokens = 50;
+        private Duration refillPeriod = Duration.ofSeconds(1);
+
+        double tokensPerNano() {
+            return (double) refillTokens / refillPeriod.toNanos();
+        }
+
+        /**
+         * Seconds needed to refill an empty bucket, advertised as the policy window.
+         */
+        long windowSeconds() {
+            return Math.max(1, (long) Math.ceil(capacity / tokensPerNano() / 1_000_000_000d));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        // Share consumption with other gateway instances over RabbitMQ
+        private boolean enabled = false;
+        private Duration syncInterval = Duration.ofMillis(500);
+    }
+}
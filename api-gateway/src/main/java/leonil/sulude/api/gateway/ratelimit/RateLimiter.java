@@ -0,0 +1,87 @@
+package leonil.sulude.api.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory token buckets, one per (policy, client key).
+ *
+ * Each gateway instance enforces limits locally without coordination. When
+ * cluster sync is enabled, locally consumed tokens are also recorded so
+ * {@link RateLimitClusterSync} can broadcast them; consumption reported by
+ * other instances is drained from the local buckets, which keeps the
+ * effective limit close to cluster-wide within one sync interval.
+ */
+@Component
+public class RateLimiter {
+
+    private static final String SEPARATOR = "|";
+
+    private final Map<String, RateLimitProperties.Policy> policies;
+    private final boolean recordConsumption;
+    private final Cache<String, TokenBucket> buckets;
+    private final ConcurrentMap<String, LongAdder> unsyncedConsumption = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.policies = properties.getPolicies().stream()
+                .collect(Collectors.toMap(RateLimitProperties.Policy::getName, Function.identity()));
+        this.recordConsumption = properties.getCluster().isEnabled();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                // An idle bucket is full again after its window, so dropping it loses nothing
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public TokenBucket.Consumption tryConsume(RateLimitProperties.Policy policy, String key) {
+        String bucketKey = policy.getName() + SEPARATOR + key;
+        long now = System.nanoTime();
+        TokenBucket.Consumption consumption = buckets
+                .get(bucketKey, k -> new TokenBucket(policy.getCapacity(), policy.tokensPerNano(), now))
+                .tryConsume(now);
+        if (recordConsumption && consumption.allowed()) {
+            unsyncedConsumption.computeIfAbsent(bucketKey, k -> new LongAdder()).increment();
+        }
+        return consumption;
+    }
+
+    /**
+     * Returns and resets the tokens consumed locally since the previous call.
+     */
+    public Map<String, Long> drainLocalConsumption() {
+        Map<String, Long> consumed = new HashMap<>();
+        unsyncedConsumption.forEach((bucketKey, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                consumed.put(bucketKey, count);
+            } else {
+                unsyncedConsumption.remove(bucketKey, adder);
+            }
+        });
+        return consumed;
+    }
+
+    /**
+     * Applies tokens consumed by other instances.
+     */
+    public void applyRemoteConsumption(Map<String, Long> consumed) {
+        long now = System.nanoTime();
+        consumed.forEach((bucketKey, count) -> {
+            RateLimitProperties.Policy policy = policies.get(bucketKey.substring(0, Math.max(0, bucketKey.indexOf(SEPARATOR))));
+            if (policy != null) {
+                buckets.get(bucketKey, k -> new TokenBucket(policy.getCapacity(), policy.tokensPerNano(), now))
+                        .drain(count, now);
+            }
+        });
+    }
+}
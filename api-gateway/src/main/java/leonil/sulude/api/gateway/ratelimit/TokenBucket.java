@@ -0,0 +1,72 @@
+package leonil.sulude.api.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket.
+ *
+ * The state (tokens, last refill time) is an immutable pair swapped with CAS,
+ * so concurrent requests never block each other; a losing thread simply
+ * recomputes from the new state. Refill is lazy: tokens are added for the
+ * elapsed time whenever the bucket is touched.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    private record State(double tokens, long refilledAt) {}
+
+    /**
+     * Result of a consumption attempt.
+     *
+     * @param allowed         whether a token was taken
+     * @param remaining       whole tokens left
+     * @param nanosUntilFull  time until the bucket is full again
+     * @param nanosUntilToken time until the next token (0 when one is available)
+     */
+    public record Consumption(boolean allowed, long remaining, long nanosUntilFull, long nanosUntilToken) {}
+
+    public TokenBucket(long capacity, double tokensPerNano, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerNano;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    public Consumption tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, now);
+            boolean allowed = tokens >= 1;
+            State next = new State(allowed ? tokens - 1 : tokens, Math.max(now, current.refilledAt()));
+            if (state.compareAndSet(current, next)) {
+                return new Consumption(
+                        allowed,
+                        (long) next.tokens(),
+                        (long) ((capacity - next.tokens()) / tokensPerNano),
+                        next.tokens() >= 1 ? 0 : (long) Math.ceil((1 - next.tokens()) / tokensPerNano)
+                );
+            }
+        }
+    }
+
+    /**
+     * Removes tokens consumed elsewhere (other gateway instances), never going below zero.
+     */
+    public void drain(long consumed, long now) {
+        while (true) {
+            State current = state.get();
+            State next = new State(Math.max(0, refill(current, now) - consumed), Math.max(now, current.refilledAt()));
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private double refill(State current, long now) {
+        // nanoTime readings from different threads may arrive out of order
+        long elapsed = Math.max(0, now - current.refilledAt());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+}
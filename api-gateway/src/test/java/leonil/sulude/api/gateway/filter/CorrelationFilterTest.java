@@ -1,11 +1,27 @@
 package leonil.sulude.api.gateway.filter;
 
 import leonil.sulude.api.gateway.CorrelationTestController;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * WebFlux slice test that loads only the controller and filter layer.
@@ -13,9 +29,16 @@ import org.springframework.test.web.reactive.server.WebTestClient;
  * allowing the CorrelationIdFilter to be tested in isolation.
  */
 @WebFluxTest(controllers = CorrelationTestController.class)
-@Import(CorrelationIdFilter.class)
+@Import({CorrelationIdFilter.class, CorrelationFilterTest.ThreadSwitchController.class,
+        CorrelationFilterTest.ThreadSwitchSecurity.class})
 class CorrelationFilterTest {
 
+    // The application enables this with spring.reactor.context-propagation=auto
+    @BeforeAll
+    static void enableContextPropagation() {
+        Hooks.enableAutomaticContextPropagation();
+    }
+
     @Autowired
     private WebTestClient webTestClient;
 
@@ -47,4 +70,52 @@ class CorrelationFilterTest {
                 .expectStatus().isOk()
                 .expectHeader().valueEquals("X-Correlation-Id", "test-correlation-123");
     }
+
+    /**
+     * Verifies that the correlation ID reaches the MDC on another thread
+     * through the Reactor Context, and that it does not leak afterwards.
+     */
+    @Test
+    void shouldRestoreCorrelationIdInMdcAfterThreadSwitch() {
+
+        webTestClient.get()
+                .uri("/test/correlation")
+                .header("X-Correlation-Id", "test-correlation-456")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("test-correlation-456");
+
+        assertNull(MDC.get("correlationId")); // Test thread is left clean
+    }
+
+    /**
+     * Returns the correlation ID seen in the MDC after switching threads,
+     * to verify propagation through the Reactor Context.
+     */
+    @RestController
+    static class ThreadSwitchController {
+
+        @GetMapping("/test/correlation")
+        Mono<String> correlation() {
+            return Mono.just("OK")
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(ok -> String.valueOf(MDC.get("correlationId")));
+        }
+    }
+
+    /**
+     * Opens only the test endpoint above; the gateway itself permits just /test.
+     */
+    @TestConfiguration
+    static class ThreadSwitchSecurity {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        SecurityWebFilterChain threadSwitchChain(ServerHttpSecurity http) {
+            return http
+                    .securityMatcher(ServerWebExchangeMatchers.pathMatchers("/test/correlation"))
+                    .authorizeExchange(exchanges -> exchanges.anyExchange().permitAll())
+                    .build();
+        }
+    }
 }
\ No newline at end of file
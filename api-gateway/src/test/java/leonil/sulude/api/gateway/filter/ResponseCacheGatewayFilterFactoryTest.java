@@ -0,0 +1,129 @@
+package leonil.sulude.api.gateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ResponseCache route filter.
+ *
+ * The upstream service is replaced by a filter chain that writes a fixed
+ * JSON body and counts how many requests reach it.
+ */
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private GatewayFilter filter;
+
+    private String upstreamCacheControl;
+
+    private Duration upstreamDelay;
+
+    private final GatewayFilterChain upstream = exchange -> Mono.defer(() -> {
+        upstreamCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, "application/json");
+        headers.set(HttpHeaders.ETAG, "\"v1\"");
+        headers.set(HttpHeaders.CACHE_CONTROL, upstreamCacheControl);
+        byte[] body = "[{\"title\":\"Yoga\"}]".getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    }).delaySubscription(upstreamDelay);
+
+    @BeforeEach
+    void setup() {
+        upstreamCacheControl = "max-age=30, must-revalidate, public";
+        upstreamDelay = Duration.ZERO;
+        filter = new ResponseCacheGatewayFilterFactory(new StaticListableBeanFactory()
+                        .getBeanProvider(MeterRegistry.class))
+                .apply(new ResponseCacheGatewayFilterFactory.Config());
+    }
+
+    /**
+     * Tests that a repeated GET is answered from the gateway cache.
+     */
+    @Test
+    void shouldServeRepeatedGetFromCache() {
+
+        MockServerWebExchange first = get(MockServerHttpRequest.get("/api/offers"));
+        MockServerWebExchange second = get(MockServerHttpRequest.get("/api/offers"));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("[{\"title\":\"Yoga\"}]", second.getResponse().getBodyAsString().block());
+        assertEquals("\"v1\"", second.getResponse().getHeaders().getETag());
+    }
+
+    /**
+     * Tests that concurrent misses for the same key trigger a single upstream call.
+     */
+    @Test
+    void shouldCollapseConcurrentMisses() {
+
+        upstreamDelay = Duration.ofMillis(200);
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/offers"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/offers"));
+
+        Mono.when(filter.filter(first, upstream), filter.filter(second, upstream)).block(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("[{\"title\":\"Yoga\"}]", first.getResponse().getBodyAsString().block());
+        assertEquals("[{\"title\":\"Yoga\"}]", second.getResponse().getBodyAsString().block());
+    }
+
+    /**
+     * Tests that a matching If-None-Match is answered with 304 from the cache.
+     */
+    @Test
+    void shouldAnswerRevalidationWithNotModified() {
+
+        get(MockServerHttpRequest.get("/api/offers"));
+        MockServerWebExchange revalidation = get(MockServerHttpRequest.get("/api/offers")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+    }
+
+    /**
+     * Tests that anonymous and authenticated callers do not share entries,
+     * and that no-store responses are never cached.
+     */
+    @Test
+    void shouldVaryOnAuthScopeAndRespectNoStore() {
+
+        get(MockServerHttpRequest.get("/api/offers"));
+        get(MockServerHttpRequest.get("/api/offers").header(HttpHeaders.AUTHORIZATION, "Bearer a"));
+        get(MockServerHttpRequest.get("/api/offers").header(HttpHeaders.AUTHORIZATION, "Bearer b"));
+
+        assertEquals(2, upstreamCalls.get()); // Authenticated users share one entry
+
+        upstreamCacheControl = "no-store";
+        get(MockServerHttpRequest.get("/api/resources/1"));
+        get(MockServerHttpRequest.get("/api/resources/1"));
+
+        assertEquals(4, upstreamCalls.get());
+    }
+
+    private MockServerWebExchange get(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, upstream).block(Duration.ofSeconds(5));
+        return exchange;
+    }
+}
@@ -0,0 +1,127 @@
+package leonil.sulude.api.gateway.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RateLimitFilter and RateLimiter.
+ *
+ * These tests validate:
+ * - 429 with Retry-After once a bucket is empty, and RateLimit-* headers
+ * - The stricter login policy is matched before the general one
+ * - Consumption reported by another instance drains local buckets
+ */
+class RateLimitFilterTest {
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+
+    private final GatewayFilterChain upstream = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new RateLimitProperties();
+        properties.setPolicies(List.of(
+                policy("login", "/api/auth/login", RateLimitProperties.KeyType.IP, 2),
+                policy("default", "/api/**", RateLimitProperties.KeyType.USER, 5)
+        ));
+    }
+
+    /**
+     * Tests that login requests beyond the login burst are rejected with 429.
+     */
+    @Test
+    void shouldRejectWhenLoginBucketIsEmpty() {
+
+        RateLimitFilter filter = filter(new RateLimiter(properties));
+
+        MockServerWebExchange first = send(filter, "/api/auth/login", "10.0.0.1");
+        send(filter, "/api/auth/login", "10.0.0.1");
+        MockServerWebExchange third = send(filter, "/api/auth/login", "10.0.0.1");
+        MockServerWebExchange otherClient = send(filter, "/api/auth/login", "10.0.0.2");
+
+        assertEquals(3, forwarded.get()); // Third request of 10.0.0.1 was not forwarded
+        assertEquals("2", first.getResponse().getHeaders().getFirst("RateLimit-Limit"));
+        assertEquals("1", first.getResponse().getHeaders().getFirst("RateLimit-Remaining"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+        assertNotNull(third.getResponse().getHeaders().getFirst("Retry-After"));
+        assertNull(otherClient.getResponse().getStatusCode()); // Separate bucket per IP
+    }
+
+    /**
+     * Tests that other paths use the general policy.
+     */
+    @Test
+    void shouldApplyGeneralPolicyToOtherPaths() {
+
+        MockServerWebExchange exchange = send(filter(new RateLimiter(properties)), "/api/offers", "10.0.0.1");
+
+        assertEquals("5", exchange.getResponse().getHeaders().getFirst("RateLimit-Limit"));
+        assertEquals("5;w=5", exchange.getResponse().getHeaders().getFirst("RateLimit-Policy"));
+    }
+
+    /**
+     * Tests that tokens consumed on another instance are drained from the local bucket.
+     */
+    @Test
+    void shouldApplyConsumptionFromOtherInstances() {
+
+        properties.getCluster().setEnabled(true);
+        RateLimiter instanceA = new RateLimiter(properties);
+        RateLimiter instanceB = new RateLimiter(properties);
+        RateLimitProperties.Policy login = properties.getPolicies().get(0);
+
+        assertTrue(instanceA.tryConsume(login, "ip:10.0.0.1").allowed());
+        assertTrue(instanceA.tryConsume(login, "ip:10.0.0.1").allowed());
+
+        // Local stand-in for the RabbitMQ broadcast
+        Map<String, Long> consumed = instanceA.drainLocalConsumption();
+        instanceB.applyRemoteConsumption(consumed);
+
+        assertEquals(Map.of("login|ip:10.0.0.1", 2L), consumed);
+        assertFalse(instanceB.tryConsume(login, "ip:10.0.0.1").allowed());
+        assertTrue(instanceA.drainLocalConsumption().isEmpty());
+    }
+
+    private RateLimitFilter filter(RateLimiter rateLimiter) {
+        return new RateLimitFilter(rateLimiter, properties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    private MockServerWebExchange send(RateLimitFilter filter, String path, String ip) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .remoteAddress(new InetSocketAddress(ip, 40000)));
+        filter.filter(exchange, upstream).block(Duration.ofSeconds(5));
+        return exchange;
+    }
+
+    private RateLimitProperties.Policy policy(String name, String path, RateLimitProperties.KeyType key, long capacity) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPaths(List.of(path));
+        policy.setKey(key);
+        policy.setCapacity(capacity);
+        policy.setRefillTokens(1);
+        policy.setRefillPeriod(Duration.ofSeconds(1));
+        return policy;
+    }
+}
@@ -0,0 +1,16 @@
+-- Accounts of every role. Login and registration look users up by email:
+-- the unique constraint's index serves both findByEmail and existsByEmail.
+CREATE TABLE users (
+    id                      UUID         NOT NULL,
+    name                    VARCHAR(255) NOT NULL,
+    email                   VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    role                    VARCHAR(255) NOT NULL,
+    enabled                 BOOLEAN      NOT NULL,
+    account_non_expired     BOOLEAN      NOT NULL,
+    account_non_locked      BOOLEAN      NOT NULL,
+    credentials_non_expired BOOLEAN      NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('CLIENT', 'PROVIDER', 'ADMIN'))
+);
@@ -0,0 +1,125 @@
+package leonil.sulude.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON results (baseline and current).
+ *
+ * For every benchmark present in both files, the primary score (time per
+ * operation) and gc.alloc.rate.norm (bytes allocated per operation) are
+ * compared. A benchmark regresses when one of them grows by more than the
+ * threshold. Allocation also needs to grow by more than ALLOCATION_SLACK
+ * bytes, so a benchmark that allocates nothing is not flagged for the few
+ * bytes of profiler noise.
+ *
+ * Can also be run on its own:
+ *   java -cp target/benchmarks.jar leonil.sulude.benchmarks.BaselineReport baseline.json current.json [threshold]
+ */
+public class BaselineReport {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private static final double ALLOCATION_SLACK = 16;
+
+    private final List<Row> rows;
+
+    private BaselineReport(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    public static void main(String[] args) throws IOException {
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        BaselineReport report = compare(Path.of(args[0]), Path.of(args[1]), threshold);
+        System.out.println(report.render());
+        if (report.hasRegressions()) {
+            System.exit(1);
+        }
+    }
+
+    public static BaselineReport compare(Path baselineFile, Path currentFile, double threshold) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Measurement> baseline = read(mapper.readTree(baselineFile.toFile()));
+        Map<String, Measurement> current = read(mapper.readTree(currentFile.toFile()));
+
+        List<Row> rows = new ArrayList<>();
+        current.forEach((name, now) -> {
+            Measurement before = baseline.get(name);
+            if (before != null) {
+                boolean slower = now.score() > before.score() * (1 + threshold);
+                boolean allocates = now.allocation() > before.allocation() * (1 + threshold) + ALLOCATION_SLACK;
+                rows.add(new Row(name, before, now, slower || allocates));
+            }
+        });
+        return new BaselineReport(rows);
+    }
+
+    public boolean hasRegressions() {
+        return rows.stream().anyMatch(Row::regressed);
+    }
+
+    public String render() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-70s %14s %14s %8s %12s %12s  %s%n",
+                "Benchmark", "Baseline", "Current", "Delta", "Base B/op", "Curr B/op", ""));
+        for (Row row : rows) {
+            out.append(String.format("%-70s %14.3f %14.3f %+7.1f%% %12.1f %12.1f  %s%n",
+                    row.name(),
+                    row.baseline().score(),
+                    row.current().score(),
+                    (row.current().score() / row.baseline().score() - 1) * 100,
+                    row.baseline().allocation(),
+                    row.current().allocation(),
+                    row.regressed() ? "REGRESSION" : ""));
+        }
+        if (rows.isEmpty()) {
+            out.append("No benchmark in common with the baseline").append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+
+    /**
+     * Indexes the results by benchmark name and parameters, e.g.
+     * "UnavailablePeriodScanBenchmark.ensureBookable(periods=500)".
+     */
+    private static Map<String, Measurement> read(JsonNode results) {
+        Map<String, Measurement> measurements = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            String benchmark = result.path("benchmark").asText();
+            StringBuilder name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+
+            JsonNode params = result.path("params");
+            if (!params.isMissingNode() && params.size() > 0) {
+                List<String> values = new ArrayList<>();
+                for (Map.Entry<String, JsonNode> field : params.properties()) {
+                    values.add(field.getKey() + "=" + field.getValue().asText());
+                }
+                name.append('(').append(String.join(",", values)).append(')');
+            }
+
+            measurements.put(name.toString(), new Measurement(
+                    result.path("primaryMetric").path("score").asDouble(),
+                    allocation(result.path("secondaryMetrics"))));
+        }
+        return measurements;
+    }
+
+    // Older JMH versions prefix secondary metrics with a middle dot
+    private static double allocation(JsonNode secondaryMetrics) {
+        JsonNode metric = secondaryMetrics.has(ALLOCATION)
+                ? secondaryMetrics.get(ALLOCATION)
+                : secondaryMetrics.path("·" + ALLOCATION);
+        return metric.path("score").asDouble(0);
+    }
+
+    private record Measurement(double score, double allocation) {}
+
+    private record Row(String name, Measurement baseline, Measurement current, boolean regressed) {}
+}
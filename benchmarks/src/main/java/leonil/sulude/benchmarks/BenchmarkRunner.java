@@ -0,0 +1,84 @@
+package leonil.sulude.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Entry point of benchmarks.jar.
+ *
+ * Runs the benchmarks with the GC profiler (allocation rate per operation
+ * and GC counts), writes the JMH JSON result and compares it with the
+ * committed baseline:
+ *
+ *   java -jar target/benchmarks.jar [regexp...] [--threshold=0.10]
+ *                                   [--baseline=baseline/jmh-baseline.json]
+ *                                   [--save-baseline]
+ *
+ * The process exits with 1 when a benchmark regressed by more than the
+ * threshold (time or allocation), so it can gate a CI job.
+ * With --save-baseline the result replaces the baseline instead.
+ *
+ * For any other JMH option, run the JMH runner directly:
+ *   java -cp target/benchmarks.jar org.openjdk.jmh.Main -h
+ */
+public class BenchmarkRunner {
+
+    private static final Path RESULT = Path.of("target", "jmh-result.json");
+
+    public static void main(String[] args) throws RunnerException, IOException {
+
+        Path baseline = Path.of("baseline", "jmh-baseline.json");
+        double threshold = 0.10;
+        boolean saveBaseline = false;
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .result(RESULT.toString())
+                .resultFormat(ResultFormatType.JSON);
+
+        for (String arg : args) {
+            if (arg.startsWith("--baseline=")) {
+                baseline = Path.of(arg.substring("--baseline=".length()));
+            } else if (arg.startsWith("--threshold=")) {
+                threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+            } else if (arg.equals("--save-baseline")) {
+                saveBaseline = true;
+            } else {
+                options.include(arg);
+            }
+        }
+
+        Files.createDirectories(RESULT.getParent());
+        new Runner(options.build()).run();
+
+        if (saveBaseline) {
+            if (baseline.getParent() != null) {
+                Files.createDirectories(baseline.getParent());
+            }
+            Files.copy(RESULT, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline saved to " + baseline);
+            return;
+        }
+
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + ", run with --save-baseline to create one");
+            return;
+        }
+
+        BaselineReport report = BaselineReport.compare(baseline, RESULT, threshold);
+        System.out.println(report.render());
+
+        if (report.hasRegressions()) {
+            System.exit(1);
+        }
+    }
+}
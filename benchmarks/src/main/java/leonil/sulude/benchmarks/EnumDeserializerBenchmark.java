@@ -0,0 +1,57 @@
+package leonil.sulude.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.model.ServiceCategory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Case-insensitive enum parsing of ServiceCategoryDeserializer and
+ * BookingStatusDeserializer (registered with @JsonDeserialize on the enums),
+ * used for every catalog resource and booking request decoded by booking-service.
+ *
+ * The "last" values are the worst case of the linear scan over values().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumDeserializerBenchmark {
+
+    private ObjectReader categoryReader;
+
+    private ObjectReader statusReader;
+
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = new ObjectMapper();
+        categoryReader = mapper.readerFor(ServiceCategory.class);
+        statusReader = mapper.readerFor(BookingStatus.class);
+    }
+
+    @Benchmark
+    public ServiceCategory categoryFirst() throws IOException {
+        return categoryReader.readValue("\"education\"");
+    }
+
+    @Benchmark
+    public ServiceCategory categoryLast() throws IOException {
+        return categoryReader.readValue("\"other\"");
+    }
+
+    @Benchmark
+    public BookingStatus statusFirst() throws IOException {
+        return statusReader.readValue("\"pending\"");
+    }
+
+    @Benchmark
+    public BookingStatus statusLast() throws IOException {
+        return statusReader.readValue("\"CANCELLED\"");
+    }
+}
@@ -0,0 +1,72 @@
+package leonil.sulude.benchmarks;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import leonil.sulude.shared.security.JwtService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway JwtService: runs once per authenticated request in the
+ * JwtAuthenticationFilter (isTokenValid, then extractUsername).
+ *
+ * The token is signed with the same HS256 key the auth-service uses,
+ * so parsing and signature verification are measured end to end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "uma-super-secret-key-com-pelo-menos-32-caracteres";
+
+    private JwtService jwtService;
+
+    private String token;
+
+    private String tamperedToken;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        jwtService = new JwtService();
+
+        // Injected by @Value in the gateway
+        Field secret = JwtService.class.getDeclaredField("secret");
+        secret.setAccessible(true);
+        secret.set(jwtService, SECRET);
+
+        token = Jwts.builder()
+                .setSubject("alice@example.com")
+                .claim("role", "CUSTOMER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // Same header and claims, broken signature
+        tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return jwtService.isTokenValid(token);
+    }
+
+    @Benchmark
+    public boolean invalidSignature() {
+        return jwtService.isTokenValid(tamperedToken);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+}
@@ -0,0 +1,65 @@
+package leonil.sulude.benchmarks;
+
+import leonil.sulude.log.config.JacksonConfig;
+import leonil.sulude.log.messaging.LogEventListener;
+import leonil.sulude.log.repository.LogEventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogEventListener.handleLogEvent of log-service: JSON deserialization of
+ * the message and mapping to the LogEvent entity, per consumed message.
+ *
+ * The repository is a proxy whose save hands the entity to the Blackhole,
+ * so the database is not part of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogEventListenerBenchmark {
+
+    private static final String WITH_CORRELATION = """
+            {"correlationId":"0b7e7a3c-5f0e-4c55-9a4e-3d2f1c6b8a90","serviceName":"booking-service",\
+            "eventType":"BOOKING_CREATED","level":"INFO",\
+            "message":"Booking created for resource 6f1c2b0e-8d4a-4c1e-9f3b-2a7d5e9c1b44",\
+            "timestamp":"2030-01-07T09:00:00.123456Z"}""";
+
+    // Published outside of an HTTP request: the listener generates the correlation ID
+    private static final String WITHOUT_CORRELATION = """
+            {"serviceName":"catalog-service","eventType":"RESOURCE_UPDATED","level":"INFO",\
+            "message":"Resource updated","timestamp":"2030-01-07T09:00:00.123456Z"}""";
+
+    private LogEventListener listener;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        LogEventRepository repository = (LogEventRepository) Proxy.newProxyInstance(
+                LogEventRepository.class.getClassLoader(),
+                new Class<?>[]{LogEventRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("save")) {
+                        blackhole.consume(args[0]);
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        listener = new LogEventListener(repository, new JacksonConfig().objectMapper());
+    }
+
+    @Benchmark
+    public void httpEvent() {
+        listener.handleLogEvent(WITH_CORRELATION);
+    }
+
+    @Benchmark
+    public void systemEvent() {
+        listener.handleLogEvent(WITHOUT_CORRELATION);
+    }
+}
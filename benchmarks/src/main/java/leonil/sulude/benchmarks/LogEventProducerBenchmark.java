@@ -0,0 +1,73 @@
+package leonil.sulude.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leonil.sulude.booking.logging.LogEventProducer;
+import leonil.sulude.booking.logging.dto.LogEventMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogEventProducer.send, which runs on the request thread of booking-,
+ * catalog- and auth-service (the three producers are identical).
+ *
+ * Measures MDC lookup, JSON serialization and the log.event.send timer.
+ * The broker is replaced by a RabbitTemplate that hands the payload to
+ * the Blackhole, so network I/O is not part of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogEventProducerBenchmark {
+
+    private LogEventProducer producer;
+
+    private Blackhole blackhole;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+
+        // Same configuration as booking-service JacksonConfig
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        RabbitTemplate template = new RabbitTemplate() {
+            @Override
+            public void convertAndSend(String exchange, String routingKey, Object object) {
+                LogEventProducerBenchmark.this.blackhole.consume(object);
+            }
+        };
+
+        producer = new LogEventProducer(template, mapper, new SimpleMeterRegistry());
+
+        MDC.put("correlationId", "0b7e7a3c-5f0e-4c55-9a4e-3d2f1c6b8a90");
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.remove("correlationId");
+    }
+
+    @Benchmark
+    public void send() {
+        producer.send(LogEventMessage.builder()
+                .serviceName("booking-service")
+                .eventType("BOOKING_CREATED")
+                .level("INFO")
+                .message("Booking created for resource 6f1c2b0e-8d4a-4c1e-9f3b-2a7d5e9c1b44")
+                .timestamp(Instant.now())
+                .build());
+    }
+}
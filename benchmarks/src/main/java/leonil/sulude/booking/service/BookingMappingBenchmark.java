@@ -0,0 +1,71 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of BookingServiceImpl (getAll, search, getById),
+ * which delegates to BookingRules.toResponseDTO.
+ *
+ * Declared in leonil.sulude.booking.service because BookingRules is package-private.
+ * A page is mapped the way BookingServiceImpl does it: one catalog resource
+ * lookup per booking in the map returned by fetchResources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingMappingBenchmark {
+
+    @Param({"1", "50"})
+    private int pageSize;
+
+    private List<Booking> bookings;
+
+    private Map<UUID, ServiceResourceResponseDTO> resources;
+
+    @Setup
+    public void setup() {
+        UUID resourceId = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+        bookings = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Booking booking = new Booking();
+            booking.setId(UUID.randomUUID());
+            booking.setResourceId(resourceId);
+            booking.setCustomerName("Customer " + i);
+            booking.setCustomerEmail("customer" + i + "@example.com");
+            booking.setStartTime(start.plusHours(i));
+            booking.setEndTime(start.plusHours(i).plusMinutes(45));
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setCreatedAt(start.minusDays(1));
+            bookings.add(booking);
+        }
+
+        resources = Map.of(resourceId, new ServiceResourceResponseDTO(
+                resourceId, "Yoga class", new BigDecimal("25.00"), 45, true, List.of()));
+    }
+
+    @Benchmark
+    public List<BookingResponseDTO> mapPage() {
+        List<BookingResponseDTO> page = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            page.add(BookingRules.toResponseDTO(booking, resources.get(booking.getResourceId())));
+        }
+        return page;
+    }
+}
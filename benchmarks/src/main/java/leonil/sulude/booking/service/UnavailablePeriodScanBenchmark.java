@@ -0,0 +1,62 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingRequestDTO;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.dto.UnavailablePeriodDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap scan of the unavailable periods of a resource, run by
+ * BookingRules.ensureBookable on every booking creation.
+ *
+ * The requested slot conflicts with none of the periods, so every
+ * period is visited (the worst case for the linear scan).
+ * Declared in leonil.sulude.booking.service because BookingRules is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnavailablePeriodScanBenchmark {
+
+    @Param({"0", "10", "500"})
+    private int periods;
+
+    private ServiceResourceResponseDTO resource;
+
+    private BookingRequestDTO request;
+
+    @Setup
+    public void setup() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+        // One unavailable hour per day, the booking is after all of them
+        List<UnavailablePeriodDTO> unavailable = new ArrayList<>(periods);
+        for (int i = 0; i < periods; i++) {
+            LocalDateTime from = start.plusDays(i).withHour(12);
+            unavailable.add(new UnavailablePeriodDTO(from, from.plusHours(1)));
+        }
+
+        resource = new ServiceResourceResponseDTO(
+                UUID.randomUUID(), "Meeting room", new BigDecimal("40.00"), 60, true, unavailable);
+
+        LocalDateTime slot = start.plusDays(periods + 1L).withHour(9);
+        request = new BookingRequestDTO(resource.id(), "Alice", "alice@example.com",
+                slot, slot.plusHours(1), null);
+    }
+
+    @Benchmark
+    public ServiceResourceResponseDTO ensureBookable() {
+        BookingRules.ensureBookable(resource, request);
+        return resource;
+    }
+}
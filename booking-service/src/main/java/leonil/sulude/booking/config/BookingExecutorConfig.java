@@ -0,0 +1,111 @@
+package leonil.sulude.booking.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded executors of booking-service.
+ *
+ * - bookingCreateExecutor: used by BookingServiceImpl.create to run the overlap
+ *   check concurrently with the catalog fetch. The pool is bounded on both
+ *   threads and queue; when saturated the caller runs the task itself, so under
+ *   overload create degrades to the sequential behaviour instead of failing or
+ *   queueing without limit.
+ * - catalogCallExecutor: runs catalog calls and their hedges (CatalogCallGuard).
+ *   It has no queue: admission is decided by the adaptive concurrency limit,
+ *   so work never waits here behind a slow catalog.
+ * - shardQueryExecutor (sharded mode only): runs the per-shard legs of
+ *   cross-shard reads (Shards.onEachShard). When saturated the caller runs
+ *   a leg itself, so a scatter degrades to querying the shards in sequence.
+ */
+@Configuration
+public class BookingExecutorConfig {
+
+    @Bean(name = "bookingCreateExecutor")
+    public ThreadPoolTaskExecutor bookingCreateExecutor(
+            @Value("${booking.create.executor.core-size:16}") int coreSize,
+            @Value("${booking.create.executor.max-size:32}") int maxSize,
+            @Value("${booking.create.executor.queue-capacity:200}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("booking-create-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(contextPropagation());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean(name = "catalogCallExecutor")
+    public ThreadPoolTaskExecutor catalogCallExecutor(
+            @Value("${booking.catalog.executor.core-size:8}") int coreSize,
+            @Value("${booking.catalog.executor.max-size:64}") int maxSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("catalog-call-");
+        executor.setTaskDecorator(contextPropagation());
+        return executor;
+    }
+
+    @Bean(name = "shardQueryExecutor")
+    @ConditionalOnProperty(name = "booking.sharding.enabled", havingValue = "true")
+    public ThreadPoolTaskExecutor shardQueryExecutor(
+            @Value("${booking.sharding.executor.core-size:8}") int coreSize,
+            @Value("${booking.sharding.executor.max-size:32}") int maxSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("shard-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(contextPropagation());
+        return executor;
+    }
+
+    /**
+     * Carries the caller's context into the worker thread: the MDC (correlationId),
+     * so logs of both stages stay attached to the request, and every registered
+     * ThreadLocalAccessor, including the current Observation. Without the latter,
+     * Feign and JDBC spans started on the worker become root spans and no
+     * traceparent reaches catalog-service.
+     */
+    private TaskDecorator contextPropagation() {
+        TaskDecorator observations = new ContextPropagatingTaskDecorator();
+        return task -> mdcPropagation(observations.decorate(task));
+    }
+
+    private Runnable mdcPropagation(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
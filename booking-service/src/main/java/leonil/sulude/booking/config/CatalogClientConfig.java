@@ -0,0 +1,46 @@
+package leonil.sulude.booking.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import leonil.sulude.booking.feignclient.CatalogCallGuard;
+import leonil.sulude.booking.util.AimdConcurrencyLimiter;
+import leonil.sulude.booking.util.HedgeBudget;
+import leonil.sulude.booking.util.LatencyTracker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Tail-latency protection of booking -> catalog calls (see CatalogCallGuard).
+ * Settings live under booking.catalog.* in application.yaml.
+ */
+@Configuration
+public class CatalogClientConfig {
+
+    @Bean
+    public CatalogCallGuard catalogCallGuard(
+            @Qualifier("catalogCallExecutor") Executor catalogCallExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${booking.catalog.hedging.percentile:0.95}") double hedgePercentile,
+            @Value("${booking.catalog.hedging.min-delay:20ms}") Duration minHedgeDelay,
+            @Value("${booking.catalog.hedging.initial-delay:200ms}") Duration initialHedgeDelay,
+            @Value("${booking.catalog.hedging.budget-ratio:0.1}") double hedgeBudgetRatio,
+            @Value("${booking.catalog.hedging.budget-burst:10}") int hedgeBudgetBurst,
+            @Value("${booking.catalog.limiter.initial-limit:16}") int initialLimit,
+            @Value("${booking.catalog.limiter.min-limit:4}") int minLimit,
+            @Value("${booking.catalog.limiter.max-limit:48}") int maxLimit,
+            @Value("${booking.catalog.limiter.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${booking.catalog.limiter.latency-threshold:1s}") Duration latencyThreshold) {
+
+        return new CatalogCallGuard(
+                catalogCallExecutor,
+                new AimdConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold.toNanos()),
+                new LatencyTracker(1024, hedgePercentile, 100, initialHedgeDelay),
+                new HedgeBudget(hedgeBudgetRatio, hedgeBudgetBurst),
+                minHedgeDelay.toNanos(),
+                meterRegistry);
+    }
+}
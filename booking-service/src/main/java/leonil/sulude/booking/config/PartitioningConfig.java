@@ -0,0 +1,29 @@
+package leonil.sulude.booking.config;
+
+import leonil.sulude.booking.partition.BookingRepartitioner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Online hash partitioning of the bookings table, started from the JMX-only
+ * repartition endpoint (RepartitionEndpoint).
+ *
+ * Runs on the primary datasource (or on each shard): its statements are writes
+ * outside any read-only transaction.
+ */
+@Configuration
+public class PartitioningConfig {
+
+    @Bean
+    public BookingRepartitioner bookingRepartitioner(
+            DataSource dataSource,
+            @Value("${booking.partitioning.batch-size:1000}") int batchSize,
+            @Value("${booking.partitioning.batch-pause:50ms}") Duration batchPause,
+            @Value("${booking.partitioning.lock-timeout:5s}") Duration lockTimeout) {
+        return new BookingRepartitioner(dataSource, batchSize, batchPause, lockTimeout);
+    }
+}
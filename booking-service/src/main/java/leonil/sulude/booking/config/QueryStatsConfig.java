@@ -0,0 +1,67 @@
+package leonil.sulude.booking.config;
+
+import leonil.sulude.shared.jdbc.QueryCountFilter;
+import leonil.sulude.shared.jdbc.QueryStats;
+import leonil.sulude.shared.jdbc.QueryStatsEndpoint;
+import leonil.sulude.shared.jdbc.QueryStatsListener;
+import net.ttddyy.observation.boot.autoconfigure.ProxyDataSourceBuilderCustomizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Wiring of the JDBC statement statistics (jdbc-support, see QueryStatsListener):
+ * - Statistics, the statement listener and /actuator/querystats, configured
+ *   under booking.query-stats.
+ * - Proxies result sets so the rows read can be counted. Every ResultSet
+ *   call then goes through the proxy; set booking.query-stats.count-rows=false
+ *   to keep only update counts.
+ * - Counts the statements of every request (N+1 detection).
+ */
+@Configuration
+public class QueryStatsConfig {
+
+    @Bean
+    public QueryStats queryStats(
+            @Value("${booking.query-stats.max-queries-per-request:20}") int maxQueriesPerRequest) {
+        return new QueryStats(maxQueriesPerRequest);
+    }
+
+    /**
+     * Picked up by datasource-micrometer as a query and method listener.
+     */
+    @Bean
+    public QueryStatsListener queryStatsListener(
+            QueryStats stats,
+            @Value("${booking.query-stats.slow-threshold:200ms}") Duration slowThreshold) {
+        return new QueryStatsListener(stats, slowThreshold);
+    }
+
+    @Bean
+    public QueryStatsEndpoint queryStatsEndpoint(QueryStats stats) {
+        return new QueryStatsEndpoint(stats);
+    }
+
+    @Bean
+    public ProxyDataSourceBuilderCustomizer resultSetRowCounting(
+            @Value("${booking.query-stats.count-rows:true}") boolean countRows) {
+
+        return (builder, dataSource, beanName, dataSourceName) -> {
+            if (countRows) {
+                builder.proxyResultSet();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(QueryStats stats) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(stats));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
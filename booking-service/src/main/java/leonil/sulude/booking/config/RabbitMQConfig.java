@@ -0,0 +1,52 @@
+package leonil.sulude.booking.config;
+
+import leonil.sulude.booking.messaging.BookingEventConstants;
+import leonil.sulude.booking.messaging.CatalogEventConstants;
+import org.springframework.amqp.core.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ infrastructure used by the booking-service.
+ *
+ * Declares the durable queue that feeds the calendar projection and binds it
+ * to the catalog exchange, so resource changes published while booking-service
+ * is down are applied when it comes back. Also declares the exchange where
+ * booking events (e.g. waitlist promotions) are published.
+ */
+@Configuration
+public class RabbitMQConfig {
+
+    @Bean
+    public TopicExchange catalogExchange() {
+        return new TopicExchange(
+                CatalogEventConstants.CATALOG_EXCHANGE,
+                true,   // durable: survives broker restarts
+                false   // autoDelete: exchange is not deleted automatically
+        );
+    }
+
+    @Bean
+    public TopicExchange bookingExchange() {
+        return new TopicExchange(
+                BookingEventConstants.BOOKING_EXCHANGE,
+                true,   // durable: survives broker restarts
+                false   // autoDelete: exchange is not deleted automatically
+        );
+    }
+
+    @Bean
+    public Queue calendarQueue() {
+        return QueueBuilder
+                .durable(CatalogEventConstants.CALENDAR_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public Binding calendarBinding() {
+        return BindingBuilder
+                .bind(calendarQueue())
+                .to(catalogExchange())
+                .with(CatalogEventConstants.RESOURCE_ROUTING_KEY);
+    }
+}
@@ -0,0 +1,47 @@
+package leonil.sulude.booking.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Infrastructure for the reactive booking create path.
+ *
+ * - A load-balanced WebClient resolving "catalog-service" through Eureka,
+ *   using the application ObjectMapper (same JSON handling as Feign). It replaces
+ *   Boot's builder, so the ObservationRegistry is set here for client spans and
+ *   traceparent propagation.
+ * - A bounded scheduler for JDBC calls. JPA is blocking, so repository calls
+ *   are offloaded here instead of running on Netty/Reactor threads. The thread
+ *   count matches the Hikari pool, so offloaded work never queues for a connection.
+ */
+@Configuration
+public class ReactiveConfig {
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(ObjectMapper objectMapper,
+                                                          ObservationRegistry observationRegistry) {
+        return WebClient.builder()
+                .observationRegistry(observationRegistry)
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                });
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(
+            @Value("${booking.reactive.jdbc-threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads,
+            @Value("${booking.reactive.jdbc-queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "booking-jdbc");
+    }
+}
@@ -0,0 +1,137 @@
+package leonil.sulude.booking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import leonil.sulude.shared.jdbc.ReadYourWrites;
+import leonil.sulude.shared.jdbc.ReadYourWritesFilter;
+import leonil.sulude.shared.jdbc.ReplicaLagMonitor;
+import leonil.sulude.shared.jdbc.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Read/write split (jdbc-support): read-only transactions (listings, lookups) run on a replica,
+ * so they stop competing with booking inserts for primary connections.
+ *
+ * Active when booking.datasource.replica.url is set and bookings are not sharded
+ * (ShardingConfig); otherwise the auto-configured datasource is used unchanged.
+ *
+ * - Two Hikari pools, booking-primary and booking-replica, each exported as hikaricp.*{pool}.
+ * - routingDataSource (the one JPA and Flyway use) defers the checkout to the first
+ *   statement, then ReplicaRoutingDataSource picks the pool.
+ * - Only the two pools are wrapped by datasource-proxy (jdbc.excluded-data-source-bean-names),
+ *   so every statement is observed once, under the pool that ran it.
+ */
+@Configuration
+@ConditionalOnExpression("!'${booking.datasource.replica.url:}'.isBlank() and !${booking.sharding.enabled:false}")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("booking-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("booking.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${booking.datasource.replica.url}") String url,
+            @Value("${booking.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${booking.datasource.replica.password:${spring.datasource.password:}}") String password) {
+
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("booking-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${booking.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${booking.datasource.replica.lag-check-interval:1s}") Duration checkInterval,
+            MeterRegistry meterRegistry) {
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, maxLag);
+        Gauge.builder("booking.datasource.replica.lag", monitor, ReplicaLagMonitor::lagSeconds)
+                .description("Replay lag of the read replica")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        monitor.start(checkInterval);
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            ReplicaLagMonitor lagMonitor,
+            @Value("${booking.datasource.replica.read-your-writes-window:2s}") Duration window) {
+        return new ReadYourWrites(window, lagMonitor);
+    }
+
+    /**
+     * Registered on the transaction manager by Spring Boot.
+     */
+    @Bean
+    public TransactionExecutionListener readYourWritesRecorder(ReadYourWrites readYourWrites) {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+                if (commitFailure == null && !transaction.isReadOnly()) {
+                    readYourWrites.recordWrite();
+                }
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWrites readYourWrites) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWrites));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    @Bean
+    @Primary
+    public DataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                        @Qualifier("replicaDataSource") DataSource replica,
+                                        ReplicaLagMonitor lagMonitor,
+                                        ReadYourWrites readYourWrites,
+                                        MeterRegistry meterRegistry) {
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(new ReplicaRoutingDataSource(
+                "booking.datasource.connections", primary, replica, lagMonitor, readYourWrites, meterRegistry));
+        // Hikari defaults; known up front so no connection is opened just to read them
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+}
@@ -0,0 +1,96 @@
+package leonil.sulude.booking.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import leonil.sulude.booking.shard.ShardPools;
+import leonil.sulude.booking.shard.ShardRing;
+import leonil.sulude.booking.shard.ShardRoutingDataSource;
+import leonil.sulude.booking.shard.Shards;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Persistence mode of booking-service.
+ *
+ * By default there is one database and Shards.single(). With booking.sharding.enabled
+ * every resource is assigned by consistent hash to one of the databases (or schemas)
+ * listed in booking.sharding.shards:
+ * - shardedDataSource (used by JPA) routes each connection to the shard selected
+ *   by Shards; the checkout is deferred to the first statement
+ * - Flyway migrates every shard at startup
+ * - Read replica routing (ReadReplicaConfig) is not combined with sharding
+ */
+@Configuration
+public class ShardingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "booking.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public Shards shards() {
+        return Shards.single();
+    }
+
+    @Slf4j
+    @Configuration
+    @ConditionalOnProperty(name = "booking.sharding.enabled", havingValue = "true")
+    static class ShardedPersistence {
+
+        @Bean
+        public ShardPools shardPools(@Value("${booking.sharding.shards}") List<String> urls,
+                                     @Value("${spring.datasource.username:}") String username,
+                                     @Value("${spring.datasource.password:}") String password,
+                                     @Value("${booking.sharding.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                     MeterRegistry meterRegistry) {
+            return new ShardPools(urls, username, password, maximumPoolSize, meterRegistry);
+        }
+
+        @Bean
+        public Shards shards(ShardPools pools, @Qualifier("shardQueryExecutor") Executor scatterExecutor) {
+            log.info("Bookings sharded by resourceId over {}", pools.names());
+            return new Shards(new ShardRing(pools.names()), scatterExecutor);
+        }
+
+        @Bean
+        @Primary
+        public DataSource shardedDataSource(ShardPools pools, MeterRegistry meterRegistry) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+            dataSource.setTargetDataSource(new ShardRoutingDataSource(pools.dataSources(), meterRegistry));
+            // Hikari defaults; known up front so no connection is opened just to read them
+            dataSource.setDefaultAutoCommit(true);
+            dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            dataSource.afterPropertiesSet();
+            return dataSource;
+        }
+
+        /**
+         * Applies db/migration to every shard, with the settings of spring.flyway.*
+         */
+        @Bean
+        public FlywayMigrationStrategy migrateEveryShard(ShardPools pools) {
+            return flyway -> {
+                for (String shard : pools.names()) {
+                    FluentConfiguration configuration = Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(pools.dataSource(shard));
+                    String schema = pools.schema(shard);
+                    if (schema != null) {
+                        configuration.schemas(schema);
+                    }
+                    configuration.load().migrate();
+                }
+            };
+        }
+    }
+}
@@ -5,9 +5,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import leonil.sulude.booking.dto.BookingPageDTO;
 import leonil.sulude.booking.dto.BookingRequestDTO;
 import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.BookingSearchRequestDTO;
 import leonil.sulude.booking.service.BookingService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,6 +27,8 @@ import java.util.UUID;
 @RequestMapping("/api/bookings")
 public class BookingController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService service;
 
     public BookingController(BookingService service) {
@@ -31,18 +36,36 @@ public class BookingController {
     }
 
     /**
-     * Returns all bookings stored in the system.
+     * Returns a keyset page of the caller's bookings, optionally filtered.
+     *
+     * Pages are ordered by start time; the cursor for the next page is sent in the
+     * X-Next-Cursor header. Bookings are scoped to the customer identified by the JWT;
+     * only admins may list other customers (customerEmail) or all of them.
      *
+     * @param query Filters, cursor and page size
+     * @param authorization Authorization header forwarded by the gateway
      * @return List of bookings
      */
     @Operation(
-            summary = "Retrieve all bookings",
-            description = "Returns a list of all bookings stored in the system."
+            summary = "Retrieve bookings",
+            description = "Returns the authenticated customer's bookings filtered by resource, time window and status, "
+                    + "using keyset pagination. Admins may list any customer."
     )
     @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid filter or cursor")
+    @ApiResponse(responseCode = "403", description = "No valid token, or customerEmail does not match the authenticated user")
     @GetMapping
-    public List<BookingResponseDTO> getAll() {
-        return service.getAll();
+    public ResponseEntity<List<BookingResponseDTO>> getAll(
+            @Valid BookingSearchRequestDTO query,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+
+        BookingPageDTO page = service.search(query, authorization);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     /**
@@ -85,6 +108,25 @@ public class BookingController {
         return ResponseEntity.created(location).body(created);
     }
 
+    /**
+     * Cancels a booking, freeing its slot for the waitlist.
+     *
+     * @param id Booking ID
+     * @return The cancelled booking, 404 if not found
+     */
+    @Operation(
+            summary = "Cancel a booking",
+            description = "Marks a booking as cancelled. The first waitlisted request for the slot is booked automatically."
+    )
+    @ApiResponse(responseCode = "200", description = "Booking cancelled")
+    @ApiResponse(responseCode = "404", description = "Booking not found")
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<BookingResponseDTO> cancel(@PathVariable UUID id) {
+        return service.cancel(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Deletes a booking by its ID.
      *
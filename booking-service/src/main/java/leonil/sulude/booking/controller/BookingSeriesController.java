@@ -0,0 +1,90 @@
+package leonil.sulude.booking.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import leonil.sulude.booking.dto.BookingSeriesRequestDTO;
+import leonil.sulude.booking.dto.BookingSeriesResponseDTO;
+import leonil.sulude.booking.service.BookingSeriesService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@Tag(
+        name = "Booking Series",
+        description = "Endpoints for managing recurring bookings"
+)
+@RestController
+@RequestMapping("/api/bookings/series")
+public class BookingSeriesController {
+
+    private final BookingSeriesService service;
+
+    public BookingSeriesController(BookingSeriesService service) {
+        this.service = service;
+    }
+
+    /**
+     * Returns a booking series and its materialized occurrences.
+     *
+     * @param id Series ID
+     * @return Series if found, 404 otherwise
+     */
+    @Operation(
+            summary = "Retrieve a booking series by ID",
+            description = "Returns the recurrence and the occurrences generated so far."
+    )
+    @ApiResponse(responseCode = "200", description = "Series found")
+    @ApiResponse(responseCode = "404", description = "Series not found")
+    @GetMapping("/{id}")
+    public ResponseEntity<BookingSeriesResponseDTO> getById(@PathVariable UUID id) {
+        return service.getById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Creates a recurring booking series.
+     *
+     * All occurrences within the booking horizon are checked and created at once;
+     * if any of them conflicts, nothing is created.
+     *
+     * @param series Request body containing the first occurrence and the recurrence rule
+     * @return The created series with location header
+     */
+    @Operation(
+            summary = "Create a booking series",
+            description = "Creates recurring bookings from an RRULE (FREQ=DAILY|WEEKLY, INTERVAL, BYDAY, COUNT, UNTIL)."
+    )
+    @ApiResponse(responseCode = "201", description = "Series created successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid request data or recurrence rule")
+    @ApiResponse(responseCode = "409", description = "An occurrence conflicts with an existing booking")
+    @PostMapping
+    public ResponseEntity<BookingSeriesResponseDTO> create(@Valid @RequestBody BookingSeriesRequestDTO series) {
+        BookingSeriesResponseDTO created = service.create(series);
+        URI location = URI.create("/api/bookings/series/" + created.id());
+        return ResponseEntity.created(location).body(created);
+    }
+
+    /**
+     * Cancels a booking series, removing its future occurrences.
+     *
+     * @param id Series ID
+     * @return 204 if cancelled, 404 otherwise
+     */
+    @Operation(
+            summary = "Cancel a booking series",
+            description = "Stops the series and deletes its future occurrences."
+    )
+    @ApiResponse(responseCode = "204", description = "Series cancelled successfully")
+    @ApiResponse(responseCode = "404", description = "Series not found")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancel(@PathVariable UUID id) {
+        return service.cancel(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,58 @@
+package leonil.sulude.booking.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import leonil.sulude.booking.dto.CalendarDayDTO;
+import leonil.sulude.booking.service.CalendarService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Tag(
+        name = "Calendar",
+        description = "Provider calendar views built from bookings and catalog availability"
+)
+@RestController
+@RequestMapping("/api/bookings/calendar")
+public class CalendarController {
+
+    private final CalendarService service;
+
+    public CalendarController(CalendarService service) {
+        this.service = service;
+    }
+
+    /**
+     * Returns the calendar of one or more resources, grouped by day.
+     *
+     * Each day lists the bookings and unavailable periods touching it, ordered by start time.
+     * Days without entries are omitted. Both bounds are inclusive. Booking IDs and
+     * customer names are only returned to admins; other callers see occupied slots.
+     *
+     * @param resourceIds Resources to include
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param authorization Authorization header forwarded by the gateway
+     * @return Calendar days
+     */
+    @Operation(
+            summary = "Retrieve provider calendar",
+            description = "Returns bookings and unavailable periods per resource and day in a date range."
+    )
+    @ApiResponse(responseCode = "200", description = "Calendar retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Missing resources or invalid date range")
+    @ApiResponse(responseCode = "403", description = "No valid token")
+    @GetMapping
+    public List<CalendarDayDTO> getCalendar(
+            @RequestParam(name = "resourceId", required = false) List<UUID> resourceIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return service.getCalendar(resourceIds, from, to, authorization);
+    }
+}
@@ -0,0 +1,54 @@
+package leonil.sulude.booking.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import leonil.sulude.booking.dto.BookingRequestDTO;
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.service.ReactiveBookingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+@Tag(
+        name = "Booking",
+        description = "Endpoints for managing service bookings"
+)
+@RestController
+@RequestMapping("/api/bookings/reactive")
+public class ReactiveBookingController {
+
+    private final ReactiveBookingService service;
+
+    public ReactiveBookingController(ReactiveBookingService service) {
+        this.service = service;
+    }
+
+    /**
+     * Creates a new booking through the reactive pipeline.
+     *
+     * Same contract and validation as POST /api/bookings, but the overlap check and
+     * the catalog lookup run concurrently and no servlet thread is held while waiting.
+     *
+     * @param booking Request body containing booking details
+     * @return The created booking with location header
+     */
+    @Operation(
+            summary = "Create a new booking (reactive)",
+            description = "Creates a booking, checking availability and catalog data concurrently."
+    )
+    @ApiResponse(responseCode = "201", description = "Booking created successfully")
+    @ApiResponse(responseCode = "409", description = "Booking conflict")
+    @ApiResponse(responseCode = "503", description = "Resource or catalog service unavailable")
+    @ApiResponse(responseCode = "400", description = "Invalid request data")
+    @PostMapping
+    public Mono<ResponseEntity<BookingResponseDTO>> create(@Valid @RequestBody BookingRequestDTO booking) {
+        return service.create(booking)
+                .map(created -> ResponseEntity
+                        .created(URI.create("/api/bookings/" + created.id()))
+                        .body(created));
+    }
+}
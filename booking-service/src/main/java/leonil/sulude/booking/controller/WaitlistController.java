@@ -0,0 +1,88 @@
+package leonil.sulude.booking.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import leonil.sulude.booking.dto.WaitlistEntryResponseDTO;
+import leonil.sulude.booking.dto.WaitlistRequestDTO;
+import leonil.sulude.booking.service.WaitlistService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@Tag(
+        name = "Waitlist",
+        description = "Endpoints for queueing on already booked slots"
+)
+@RestController
+@RequestMapping("/api/bookings/waitlist")
+public class WaitlistController {
+
+    private final WaitlistService service;
+
+    public WaitlistController(WaitlistService service) {
+        this.service = service;
+    }
+
+    /**
+     * Returns a waitlist entry with its current position.
+     *
+     * @param id Entry ID
+     * @return Entry if found, 404 otherwise
+     */
+    @Operation(
+            summary = "Retrieve a waitlist entry",
+            description = "Returns the entry status, its position in the queue and the booking once promoted."
+    )
+    @ApiResponse(responseCode = "200", description = "Entry found")
+    @ApiResponse(responseCode = "404", description = "Entry not found")
+    @GetMapping("/{id}")
+    public ResponseEntity<WaitlistEntryResponseDTO> getById(@PathVariable UUID id) {
+        return service.getById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Joins the waitlist for a booked slot.
+     * Repeating the call for the same slot and customer returns the existing entry.
+     *
+     * @param request Slot and customer details
+     * @return The waitlist entry with location header
+     */
+    @Operation(
+            summary = "Join the waitlist",
+            description = "Queues a request for a booked slot. The slot is booked automatically when it frees up "
+                    + "and a booking.waitlist.promoted event is published."
+    )
+    @ApiResponse(responseCode = "201", description = "Entry queued (or promoted immediately)")
+    @ApiResponse(responseCode = "400", description = "Invalid request data")
+    @PostMapping
+    public ResponseEntity<WaitlistEntryResponseDTO> join(@Valid @RequestBody WaitlistRequestDTO request) {
+        WaitlistEntryResponseDTO entry = service.join(request);
+        URI location = URI.create("/api/bookings/waitlist/" + entry.id());
+        return ResponseEntity.created(location).body(entry);
+    }
+
+    /**
+     * Leaves the waitlist.
+     *
+     * @param id Entry ID
+     * @return 204 if removed, 404 otherwise
+     */
+    @Operation(
+            summary = "Leave the waitlist",
+            description = "Cancels a waiting entry. Already promoted entries are left untouched."
+    )
+    @ApiResponse(responseCode = "204", description = "Entry cancelled")
+    @ApiResponse(responseCode = "404", description = "Entry not found")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> leave(@PathVariable UUID id) {
+        return service.leave(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
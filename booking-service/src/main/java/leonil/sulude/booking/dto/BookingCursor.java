@@ -0,0 +1,42 @@
+package leonil.sulude.booking.dto;
+
+import leonil.sulude.booking.exception.InvalidBookingQueryException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last booking returned in a page.
+ *
+ * Pages are ordered by (startTime, id), so the next page starts strictly after
+ * this pair. Unlike OFFSET pagination, the database seeks directly to the
+ * position through the (…, start_time) indexes instead of skipping rows.
+ *
+ * The cursor is exposed to clients as an opaque base64url string.
+ */
+public record BookingCursor(LocalDateTime startTime, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new BookingCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidBookingQueryException("Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package leonil.sulude.booking.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated booking query.
+ *
+ * @param items      bookings ordered by (startTime, id)
+ * @param nextCursor cursor for the following page, null when this is the last one
+ */
+public record BookingPageDTO(
+        List<BookingResponseDTO> items,
+        String nextCursor
+) {}
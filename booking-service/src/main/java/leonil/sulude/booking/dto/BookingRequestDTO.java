@@ -3,6 +3,7 @@ package leonil.sulude.booking.dto;
 import jakarta.validation.constraints.*;
 import leonil.sulude.booking.model.BookingStatus;
 import leonil.sulude.booking.validation.EndAfterStart;
+import leonil.sulude.booking.validation.TimeRange;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -29,4 +30,4 @@ public record BookingRequestDTO(
         LocalDateTime endTime,
 
         BookingStatus status // optional, defaults to PENDING in the entity
-) {}
+) implements TimeRange {}
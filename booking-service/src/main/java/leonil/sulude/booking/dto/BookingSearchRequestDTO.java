@@ -0,0 +1,48 @@
+package leonil.sulude.booking.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import leonil.sulude.booking.model.BookingStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Query parameters accepted by GET /api/bookings.
+ *
+ * - customerEmail: defaults to the email in the caller's JWT; another customer's
+ *                  email is only accepted from an admin
+ * - from / to:     half-open window [from, to) applied to the booking start time
+ * - cursor:        opaque keyset cursor returned in the X-Next-Cursor header
+ * - limit:         page size (defaults to 20)
+ */
+public record BookingSearchRequestDTO(
+
+        @Email(message = "Email should be valid")
+        String customerEmail,
+
+        UUID resourceId,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime from,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime to,
+
+        BookingStatus status,
+
+        String cursor,
+
+        @Min(value = 1, message = "Limit must be at least 1")
+        @Max(value = 100, message = "Limit must not exceed 100")
+        Integer limit
+) {
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    public int effectiveLimit() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+}
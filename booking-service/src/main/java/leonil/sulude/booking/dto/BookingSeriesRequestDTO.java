@@ -0,0 +1,36 @@
+package leonil.sulude.booking.dto;
+
+import jakarta.validation.constraints.*;
+import leonil.sulude.booking.validation.EndAfterStart;
+import leonil.sulude.booking.validation.TimeRange;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@EndAfterStart
+public record BookingSeriesRequestDTO(
+
+        @NotNull(message = "ServiceResource ID is required")
+        UUID resourceId,
+
+        @NotBlank(message = "Customer name is required")
+        String customerName,
+
+        @NotBlank(message = "Customer email is required")
+        @Email(message = "Email should be valid")
+        String customerEmail,
+
+        // First occurrence; its duration applies to the whole series
+        @NotNull(message = "Start time is required")
+        @Future(message = "Start time must be in the future")
+        LocalDateTime startTime,
+
+        @NotNull(message = "End time is required")
+        @Future(message = "End time must be in the future")
+        LocalDateTime endTime,
+
+        @NotBlank(message = "Recurrence rule is required")
+        @Size(max = 255, message = "Recurrence rule must be at most 255 characters")
+        String recurrence // e.g. FREQ=WEEKLY;BYDAY=MO,WE;COUNT=24
+
+) implements TimeRange {}
@@ -0,0 +1,18 @@
+package leonil.sulude.booking.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record BookingSeriesResponseDTO(
+        UUID id,
+        UUID resourceId,
+        String customerName,
+        String customerEmail,
+        String recurrence,
+        LocalDateTime firstStartTime,
+        Integer durationInMinutes,
+        boolean active,
+        LocalDateTime materializedUntil, // Occurrences after this are generated later
+        List<LocalDateTime> occurrences  // Start times of the materialized occurrences
+) {}
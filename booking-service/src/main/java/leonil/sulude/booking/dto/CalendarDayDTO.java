@@ -0,0 +1,11 @@
+package leonil.sulude.booking.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record CalendarDayDTO(
+        UUID resourceId,
+        LocalDate day,
+        List<CalendarEntryDTO> entries
+) {}
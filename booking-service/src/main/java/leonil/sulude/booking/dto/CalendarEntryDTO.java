@@ -0,0 +1,19 @@
+package leonil.sulude.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.model.CalendarEntryType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Booking-only fields are omitted for unavailable periods
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CalendarEntryDTO(
+        CalendarEntryType type,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        UUID bookingId,
+        BookingStatus status,
+        String customerName
+) {}
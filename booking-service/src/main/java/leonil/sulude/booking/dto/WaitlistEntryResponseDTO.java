@@ -0,0 +1,19 @@
+package leonil.sulude.booking.dto;
+
+import leonil.sulude.booking.model.WaitlistStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record WaitlistEntryResponseDTO(
+        UUID id,
+        UUID resourceId,
+        String customerName,
+        String customerEmail,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        WaitlistStatus status,
+        Long position,   // 1-based place in the queue, null unless WAITING
+        UUID bookingId,  // Set once promoted
+        LocalDateTime createdAt
+) {}
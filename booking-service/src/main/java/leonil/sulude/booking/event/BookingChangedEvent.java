@@ -0,0 +1,31 @@
+package leonil.sulude.booking.event;
+
+import leonil.sulude.booking.model.Booking;
+
+import java.util.UUID;
+
+/**
+ * In-process notification that a booking was written or removed.
+ *
+ * Published by the booking write paths and consumed by read models
+ * (calendar projection) so they never have to scan the bookings table.
+ *
+ * @param bookingId  affected booking
+ * @param booking    current state, or the last known state when the booking was removed
+ * @param changeType kind of change
+ */
+public record BookingChangedEvent(UUID bookingId, Booking booking, ChangeType changeType) {
+
+    public enum ChangeType {
+        UPSERTED,
+        REMOVED
+    }
+
+    public static BookingChangedEvent upserted(Booking booking) {
+        return new BookingChangedEvent(booking.getId(), booking, ChangeType.UPSERTED);
+    }
+
+    public static BookingChangedEvent removed(Booking booking) {
+        return new BookingChangedEvent(booking.getId(), booking, ChangeType.REMOVED);
+    }
+}
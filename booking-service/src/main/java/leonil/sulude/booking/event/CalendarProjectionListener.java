@@ -0,0 +1,42 @@
+package leonil.sulude.booking.event;
+
+import leonil.sulude.booking.service.CalendarService;
+import leonil.sulude.booking.shard.Shards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the calendar projection in sync with booking writes.
+ *
+ * Runs on the caller's thread once the booking (or series) transaction has
+ * committed, so a provider refreshing the calendar right after a booking already
+ * sees it, and a rolled back booking never reaches the calendar. The projection is
+ * written in its own transaction: a failure here is logged and never undoes the booking.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarProjectionListener {
+
+    private final CalendarService calendarService;
+    private final Shards shards;
+
+    // Bookings created outside a transaction (single create) publish after their save committed
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        try {
+            // Calendar rows live on the shard of the booking
+            shards.runOnShardOf(event.booking().getResourceId(), () -> {
+                switch (event.changeType()) {
+                    case UPSERTED -> calendarService.applyBooking(event.booking());
+                    case REMOVED -> calendarService.removeBooking(event.bookingId());
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to update calendar for booking {}", event.bookingId(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package leonil.sulude.booking.event;
+
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Promotes waitlisted requests whenever a booking frees its slot,
+ * i.e. it is cancelled (or expires) or an active booking is deleted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistPromotionListener {
+
+    private final WaitlistService waitlistService;
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        Booking booking = event.booking();
+        if (booking == null) {
+            return;
+        }
+
+        boolean slotFreed = switch (event.changeType()) {
+            case UPSERTED -> booking.getStatus() == BookingStatus.CANCELLED;
+            case REMOVED -> booking.getStatus() != BookingStatus.CANCELLED;
+        };
+        if (!slotFreed) {
+            return;
+        }
+
+        try {
+            waitlistService.promote(booking.getResourceId(), booking.getStartTime(), booking.getEndTime());
+        } catch (Exception e) {
+            // The cancellation itself succeeded; the next freed slot retries promotion
+            log.error("Waitlist promotion failed for booking {}", event.bookingId(), e);
+        }
+    }
+}
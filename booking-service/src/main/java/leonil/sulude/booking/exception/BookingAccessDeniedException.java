@@ -0,0 +1,7 @@
+package leonil.sulude.booking.exception;
+
+public class BookingAccessDeniedException extends RuntimeException {
+    public BookingAccessDeniedException(String message) {
+        super(message);
+    }
+}
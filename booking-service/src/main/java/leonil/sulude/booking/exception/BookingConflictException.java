@@ -1,7 +1,23 @@
 package leonil.sulude.booking.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
 public class BookingConflictException extends RuntimeException {
+
+    // PostgreSQL exclusion_violation
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     public BookingConflictException(String message) {
         super(message);
     }
+
+    /**
+     * True when the no-overlap exclusion constraint of bookings rejected a write:
+     * two overlapping requests both passed the overlap check.
+     */
+    public static boolean isOverlapViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState());
+    }
 }
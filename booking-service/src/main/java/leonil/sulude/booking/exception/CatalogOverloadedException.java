@@ -0,0 +1,11 @@
+package leonil.sulude.booking.exception;
+
+/**
+ * Raised when a catalog call is shed by the adaptive concurrency limit.
+ * Handled as ResourceUnavailableException (503); never retried.
+ */
+public class CatalogOverloadedException extends ResourceUnavailableException {
+    public CatalogOverloadedException(String message) {
+        super(message);
+    }
+}
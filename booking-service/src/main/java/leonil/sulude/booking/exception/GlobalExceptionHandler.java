@@ -68,9 +68,14 @@ public class GlobalExceptionHandler {
 
     /**
      * Handles database integrity issues like null constraint violations or duplicate keys.
+     * Overlapping bookings rejected by the database are reported as a booking conflict.
      */
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiError> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (BookingConflictException.isOverlapViolation(ex)) {
+            return handleConflict(new BookingConflictException("Resource is already booked during this time."));
+        }
+
         String rootMessage = ex.getMostSpecificCause().getMessage().toLowerCase();
         String userMessage;
 
@@ -201,6 +206,53 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(apiError);
     }
 
+    /**
+     * Handles malformed search parameters such as a corrupted pagination cursor.
+     * Returns HTTP 400 (Bad Request).
+     */
+    @ExceptionHandler(InvalidBookingQueryException.class)
+    public ResponseEntity<ApiError> handleInvalidQuery(InvalidBookingQueryException ex) {
+        ApiError apiError = new ApiError(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                Collections.emptyList()
+        );
+        return ResponseEntity.badRequest().body(apiError);
+    }
+
+    /**
+     * Handles attempts to list bookings of a customer other than the one
+     * identified by the JWT.
+     * Returns HTTP 403 (Forbidden).
+     */
+    @ExceptionHandler(BookingAccessDeniedException.class)
+    public ResponseEntity<ApiError> handleAccessDenied(BookingAccessDeniedException ex) {
+        ApiError apiError = new ApiError(
+                HttpStatus.FORBIDDEN.value(),
+                "Forbidden",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                Collections.emptyList()
+        );
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(apiError);
+    }
 
+    /**
+     * Handles recurrence rules that cannot be parsed or expand to an unusable schedule.
+     * Returns HTTP 400 (Bad Request).
+     */
+    @ExceptionHandler(InvalidRecurrenceException.class)
+    public ResponseEntity<ApiError> handleInvalidRecurrence(InvalidRecurrenceException ex) {
+        ApiError apiError = new ApiError(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid Recurrence",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                Collections.emptyList()
+        );
+        return ResponseEntity.badRequest().body(apiError);
+    }
 
 }
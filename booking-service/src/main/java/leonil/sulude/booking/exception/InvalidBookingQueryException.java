@@ -0,0 +1,7 @@
+package leonil.sulude.booking.exception;
+
+public class InvalidBookingQueryException extends RuntimeException {
+    public InvalidBookingQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package leonil.sulude.booking.exception;
+
+public class InvalidRecurrenceException extends RuntimeException {
+    public InvalidRecurrenceException(String message) {
+        super(message);
+    }
+}
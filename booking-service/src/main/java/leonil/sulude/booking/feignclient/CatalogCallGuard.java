@@ -0,0 +1,177 @@
+package leonil.sulude.booking.feignclient;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import leonil.sulude.booking.exception.CatalogOverloadedException;
+import leonil.sulude.booking.util.AimdConcurrencyLimiter;
+import leonil.sulude.booking.util.HedgeBudget;
+import leonil.sulude.booking.util.LatencyTracker;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tail-latency protection for blocking catalog calls.
+ *
+ * - Adaptive concurrency: calls above the AIMD limit are rejected with
+ *   CatalogOverloadedException before they queue.
+ * - Hedging: when the first attempt is still running after the observed p95,
+ *   a second attempt is sent and the first successful answer wins. The load
+ *   balancer round-robins, so the hedge normally lands on another instance
+ *   (e.g. while one catalog pod is paused in GC). Hedges are capped by a budget.
+ *
+ * Attempts run on the dedicated catalog executor; the returned future never
+ * blocks the caller. The hedge decision runs on a timer thread of its own, and
+ * a hedge is one more call in flight: it takes its own slot under the limit.
+ * Hedges refused by the limit or by the saturated executor are counted.
+ */
+public class CatalogCallGuard implements AutoCloseable {
+
+    static final String HEDGE_METRIC = "catalog.hedge.requests";
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final Executor executor;
+    private final ScheduledThreadPoolExecutor hedgeTimer;
+    private final AimdConcurrencyLimiter limiter;
+    private final LatencyTracker latencyTracker;
+    private final HedgeBudget hedgeBudget;
+    private final long minHedgeDelayNanos;
+
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesSuppressed;
+    private final Counter hedgesLimited;
+    private final Counter hedgesRejected;
+    private final Counter shed;
+
+    public CatalogCallGuard(Executor executor,
+                            AimdConcurrencyLimiter limiter,
+                            LatencyTracker latencyTracker,
+                            HedgeBudget hedgeBudget,
+                            long minHedgeDelayNanos,
+                            MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.limiter = limiter;
+        this.latencyTracker = latencyTracker;
+        this.hedgeBudget = hedgeBudget;
+        this.minHedgeDelayNanos = minHedgeDelayNanos;
+
+        this.hedgeTimer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "catalog-hedge-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Calls answered before their hedge delay cancel the decision; drop it from the queue right away
+        hedgeTimer.setRemoveOnCancelPolicy(true);
+
+        this.hedgesSent = Counter.builder(HEDGE_METRIC).tag("outcome", "sent").register(meterRegistry);
+        this.hedgesWon = Counter.builder(HEDGE_METRIC).tag("outcome", "won").register(meterRegistry);
+        this.hedgesSuppressed = Counter.builder(HEDGE_METRIC).tag("outcome", "budget_exhausted").register(meterRegistry);
+        this.hedgesLimited = Counter.builder(HEDGE_METRIC).tag("outcome", "limited").register(meterRegistry);
+        this.hedgesRejected = Counter.builder(HEDGE_METRIC).tag("outcome", "rejected").register(meterRegistry);
+        this.shed = Counter.builder("catalog.concurrency.rejected")
+                .description("Catalog calls shed by the adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("catalog.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("catalog.concurrency.in_flight", limiter, AimdConcurrencyLimiter::getInFlight).register(meterRegistry);
+        Gauge.builder("catalog.hedge.delay", this, guard -> guard.hedgeDelayNanos() / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> call(Supplier<T> attempt) {
+        if (!limiter.tryAcquire()) {
+            shed.increment();
+            return CompletableFuture.failedFuture(
+                    new CatalogOverloadedException("Catalog service overloaded, try again later"));
+        }
+        hedgeBudget.onRequest();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger();
+        launch(attempt, result, outstanding, false);
+
+        if (!result.isDone()) {
+            try {
+                // The hedge is launched from the timer thread: carry the caller's trace and correlationId there
+                Runnable hedge = CONTEXT_SNAPSHOTS.captureAll().wrap(() -> hedge(attempt, result, outstanding));
+                ScheduledFuture<?> decision = hedgeTimer.schedule(hedge, hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+                result.whenComplete((value, ex) -> decision.cancel(false));
+            } catch (RejectedExecutionException e) {
+                // Guard closed: the call goes on without a hedge
+                hedgesRejected.increment();
+            }
+        }
+        return result;
+    }
+
+    long hedgeDelayNanos() {
+        return Math.max(minHedgeDelayNanos, latencyTracker.percentileNanos());
+    }
+
+    @Override
+    public void close() {
+        hedgeTimer.shutdownNow();
+    }
+
+    private <T> void hedge(Supplier<T> attempt, CompletableFuture<T> result, AtomicInteger outstanding) {
+        if (result.isDone()) {
+            return;
+        }
+        if (!hedgeBudget.tryAcquire()) {
+            hedgesSuppressed.increment();
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            hedgesLimited.increment();
+            return;
+        }
+        hedgesSent.increment();
+        launch(attempt, result, outstanding, true);
+    }
+
+    /**
+     * Runs one attempt, which holds a limiter slot until it returns. The first
+     * success completes the result; a failure only completes it when no other
+     * attempt is still running.
+     */
+    private <T> void launch(Supplier<T> attempt, CompletableFuture<T> result,
+                            AtomicInteger outstanding, boolean hedge) {
+        outstanding.incrementAndGet();
+        long started = System.nanoTime();
+        CompletableFuture<T> call;
+        try {
+            call = CompletableFuture.supplyAsync(attempt, executor);
+        } catch (RejectedExecutionException e) {
+            // Executor saturated
+            if (hedge) {
+                hedgesRejected.increment();
+            }
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.whenComplete((value, ex) -> {
+            long elapsed = System.nanoTime() - started;
+            limiter.release(ex == null, elapsed);
+            int remaining = outstanding.decrementAndGet();
+            if (ex == null) {
+                latencyTracker.record(elapsed);
+                if (result.complete(value) && hedge) {
+                    hedgesWon.increment();
+                }
+            } else if (remaining == 0) {
+                result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause() : ex);
+            }
+        });
+    }
+}
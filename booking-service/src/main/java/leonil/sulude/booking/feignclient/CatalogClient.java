@@ -4,15 +4,26 @@ import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(
-        name = "catalog-service" // name = spring.application.name of the other service
+        name = "catalog-service", // name = spring.application.name of the other service
+        configuration = CatalogFeignConfig.class
 )
 
 public interface CatalogClient {
 
     @GetMapping("/api/resources/{id}")
     ServiceResourceResponseDTO getResourceById(@PathVariable UUID id);
+
+    /**
+     * Internal batch lookup; unknown IDs are omitted from the result.
+     */
+    @PostMapping("/internal/resources/batch")
+    List<ServiceResourceResponseDTO> getResourcesByIds(@RequestBody Collection<UUID> ids);
 }
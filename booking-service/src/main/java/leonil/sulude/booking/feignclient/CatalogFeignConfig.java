@@ -0,0 +1,35 @@
+package leonil.sulude.booking.feignclient;
+
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Feign configuration of {@link CatalogClient} only.
+ *
+ * Not annotated with @Configuration on purpose: it is applied through
+ * {@code @FeignClient(configuration = ...)} and must not leak to other clients.
+ *
+ * booking.catalog.transport selects the wire format:
+ * - smile (default): binary JSON, smaller and cheaper to parse (BigDecimal, UUID and
+ *   dates are not rendered as text). Decoded by the Smile converter from JacksonConfig.
+ * - json: same representation as external clients
+ */
+public class CatalogFeignConfig {
+
+    static final String SMILE = "application/x-jackson-smile";
+
+    @Bean
+    public RequestInterceptor catalogTransportInterceptor(
+            @Value("${booking.catalog.transport:smile}") String transport) {
+
+        boolean smile = "smile".equalsIgnoreCase(transport);
+        return template -> {
+            if (smile) {
+                // JSON stays acceptable for catalog instances without the Smile converter
+                template.header(HttpHeaders.ACCEPT, SMILE, "application/json;q=0.5");
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package leonil.sulude.booking.feignclient;
+
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.exception.CatalogOverloadedException;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resilient access to catalog-service resources.
+ *
+ * Lives in its own bean so callers always go through the Resilience4j proxy
+ * (annotations on a method called from the same class are bypassed).
+ * Aspect order, outermost first:
+ * Retry -> CircuitBreaker -> TimeLimiter -> CatalogCallGuard -> Feign call.
+ *
+ * - CatalogCallGuard runs the blocking Feign call off the caller's thread, caps
+ *   concurrent catalog calls with an adaptive limit and hedges slow calls,
+ *   so a slow catalog cannot occupy every booking thread.
+ * - The time limiter bounds each attempt; timeouts are not retried (see application.yaml),
+ *   so a slow catalog costs one timeout instead of maxAttempts x timeout.
+ * - Retries use exponential backoff with jitter to avoid synchronized retry waves.
+ *   An open circuit or a shed call fails fast without retrying.
+ * - The fallback sits on the outermost aspect, so Retry still sees the original exceptions.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogResourceClient {
+
+    private static final String CATALOG_INSTANCE = "catalogService";
+
+    // Largest batch accepted by POST /internal/resources/batch (catalog's ServiceResourceService.MAX_BATCH_SIZE)
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final CatalogClient catalogClient;
+    private final CatalogCallGuard callGuard;
+
+    /**
+     * Retrieves a service resource. Completes with null when the resource does not exist.
+     */
+    @Retry(name = CATALOG_INSTANCE, fallbackMethod = "catalogFallback")
+    @CircuitBreaker(name = CATALOG_INSTANCE)
+    @TimeLimiter(name = CATALOG_INSTANCE)
+    public CompletableFuture<ServiceResourceResponseDTO> getResource(UUID resourceId) {
+        return callGuard.call(() -> fetch(resourceId));
+    }
+
+    /**
+     * Retrieves several service resources, keyed by ID.
+     * Resources that do not exist are absent from the map.
+     *
+     * Catalog accepts at most MAX_BATCH_SIZE IDs per request: larger sets are
+     * sent as several batches in parallel and their results merged.
+     */
+    @Retry(name = CATALOG_INSTANCE, fallbackMethod = "catalogBatchFallback")
+    @CircuitBreaker(name = CATALOG_INSTANCE)
+    @TimeLimiter(name = CATALOG_INSTANCE)
+    public CompletableFuture<Map<UUID, ServiceResourceResponseDTO>> getResources(Collection<UUID> resourceIds) {
+        if (resourceIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        List<CompletableFuture<List<ServiceResourceResponseDTO>>> batches = new ArrayList<>();
+        if (resourceIds.size() <= MAX_BATCH_SIZE) {
+            batches.add(callGuard.call(() -> catalogClient.getResourcesByIds(resourceIds)));
+        } else {
+            List<UUID> ids = List.copyOf(resourceIds);
+            for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+                List<UUID> batch = ids.subList(from, Math.min(ids.size(), from + MAX_BATCH_SIZE));
+                batches.add(callGuard.call(() -> catalogClient.getResourcesByIds(batch)));
+            }
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(done -> batches.stream()
+                        .flatMap(batch -> batch.join().stream())
+                        .collect(Collectors.toMap(ServiceResourceResponseDTO::id, Function.identity(), (a, b) -> a)));
+    }
+
+    /**
+     * Fallback executed when the Catalog Service is unavailable after retries,
+     * times out or the circuit breaker is open. Shed calls keep their own message.
+     */
+    private CompletableFuture<ServiceResourceResponseDTO> catalogFallback(UUID resourceId, Throwable ex) {
+        if (ex instanceof CatalogOverloadedException) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        log.warn("Catalog call failed for resource {}: {}", resourceId, ex.toString());
+        return CompletableFuture.failedFuture(new ResourceUnavailableException("Catalog service unavailable"));
+    }
+
+    private CompletableFuture<Map<UUID, ServiceResourceResponseDTO>> catalogBatchFallback(
+            Collection<UUID> resourceIds, Throwable ex) {
+        if (ex instanceof CatalogOverloadedException) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        log.warn("Catalog batch call failed for {} resources: {}", resourceIds.size(), ex.toString());
+        return CompletableFuture.failedFuture(new ResourceUnavailableException("Catalog service unavailable"));
+    }
+
+    private ServiceResourceResponseDTO fetch(UUID resourceId) {
+        try {
+            return catalogClient.getResourceById(resourceId);
+        } catch (FeignException.NotFound e) {
+            // A missing resource is an answer, not a failure: don't retry or trip the breaker
+            return null;
+        }
+    }
+
+    /**
+     * Waits for a catalog call from blocking code, rethrowing the original
+     * exception (e.g. ResourceUnavailableException) instead of a CompletionException.
+     */
+    public static <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package leonil.sulude.booking.feignclient;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link CatalogClient}.
+ *
+ * Uses the same "catalogService" Resilience4j instances as the Feign path,
+ * applied as Reactor operators so they wrap the actual subscription:
+ * retry (outermost) -> circuit breaker -> time limiter -> HTTP call.
+ * This is the same order the annotations apply on the blocking path.
+ */
+@Component
+public class ReactiveCatalogClient {
+
+    private static final String CATALOG_INSTANCE = "catalogService";
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final TimeLimiter timeLimiter;
+
+    public ReactiveCatalogClient(WebClient.Builder loadBalancedWebClientBuilder,
+                                 CircuitBreakerRegistry circuitBreakerRegistry,
+                                 RetryRegistry retryRegistry,
+                                 TimeLimiterRegistry timeLimiterRegistry) {
+        this.webClient = loadBalancedWebClientBuilder.baseUrl("http://catalog-service").build();
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CATALOG_INSTANCE);
+        this.retry = retryRegistry.retry(CATALOG_INSTANCE);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(CATALOG_INSTANCE);
+    }
+
+    /**
+     * Retrieves a service resource. Completes empty when the resource does not exist.
+     * Fails with ResourceUnavailableException once retries are exhausted
+     * or the circuit breaker is open.
+     */
+    public Mono<ServiceResourceResponseDTO> getResourceById(UUID id) {
+        return webClient.get()
+                .uri("/api/resources/{id}", id)
+                .retrieve()
+                .bodyToMono(ServiceResourceResponseDTO.class)
+                // A missing resource is an answer, not a failure: don't retry or trip the breaker
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retry))
+                .onErrorMap(e -> !(e instanceof ResourceUnavailableException),
+                        e -> new ResourceUnavailableException("Catalog service unavailable"));
+    }
+}
@@ -0,0 +1,12 @@
+package leonil.sulude.booking.messaging;
+
+public final class BookingEventConstants {
+
+    private BookingEventConstants() {}
+
+    // Topic exchange for booking domain events consumed by other services (e.g. notifications)
+    public static final String BOOKING_EXCHANGE = "app.booking.exchange";
+
+    // A waitlisted request got the slot and a booking was created for it
+    public static final String WAITLIST_PROMOTED_ROUTING_KEY = "booking.waitlist.promoted";
+}
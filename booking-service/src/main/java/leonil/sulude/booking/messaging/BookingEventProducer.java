@@ -0,0 +1,51 @@
+package leonil.sulude.booking.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.booking.messaging.dto.WaitlistPromotedMessage;
+import leonil.sulude.booking.model.WaitlistEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Publishes booking events so customers are notified
+ * instead of polling for a slot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingEventProducer {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void waitlistPromoted(WaitlistEntry entry) {
+        WaitlistPromotedMessage message = WaitlistPromotedMessage.builder()
+                .waitlistEntryId(entry.getId())
+                .bookingId(entry.getBookingId())
+                .resourceId(entry.getResourceId())
+                .customerName(entry.getCustomerName())
+                .customerEmail(entry.getCustomerEmail())
+                .startTime(entry.getStartTime())
+                .endTime(entry.getEndTime())
+                .timestamp(Instant.now())
+                .build();
+
+        try {
+            rabbitTemplate.convertAndSend(
+                    BookingEventConstants.BOOKING_EXCHANGE,
+                    BookingEventConstants.WAITLIST_PROMOTED_ROUTING_KEY,
+                    objectMapper.writeValueAsString(message)
+            );
+
+            log.debug("Waitlist promotion sent | entry={} | booking={}", entry.getId(), entry.getBookingId());
+
+        } catch (Exception e) {
+            // The booking already exists; a lost notification must not undo it
+            log.error("Failed to publish waitlist promotion for entry {}", entry.getId(), e);
+        }
+    }
+}
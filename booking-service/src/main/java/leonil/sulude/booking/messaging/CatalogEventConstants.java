@@ -0,0 +1,15 @@
+package leonil.sulude.booking.messaging;
+
+public final class CatalogEventConstants {
+
+    private CatalogEventConstants() {}
+
+    // Topic exchange where catalog-service publishes domain events
+    public static final String CATALOG_EXCHANGE = "app.catalog.exchange";
+
+    // Queue consumed by booking-service to maintain the calendar projection
+    public static final String CALENDAR_QUEUE = "booking.calendar.catalog-events";
+
+    // Routing key pattern to receive all service resource changes
+    public static final String RESOURCE_ROUTING_KEY = "catalog.resource.#";
+}
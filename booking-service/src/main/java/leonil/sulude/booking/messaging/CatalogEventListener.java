@@ -0,0 +1,48 @@
+package leonil.sulude.booking.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.booking.messaging.dto.ResourceChangedMessage;
+import leonil.sulude.booking.service.CalendarService;
+import leonil.sulude.booking.shard.Shards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogEventListener {
+
+    private final CalendarService calendarService;
+    private final ObjectMapper objectMapper;
+    private final Shards shards;
+
+    /**
+     * Consumes service resource changes published by catalog-service
+     * and mirrors their unavailable periods into the calendar projection.
+     */
+    @RabbitListener(queues = CatalogEventConstants.CALENDAR_QUEUE)
+    public void handleResourceChanged(String message) {
+        try {
+            ResourceChangedMessage event =
+                    objectMapper.readValue(message, ResourceChangedMessage.class);
+
+            shards.runOnShardOf(event.getResourceId(), () -> {
+                if ("DELETED".equals(event.getChangeType())) {
+                    calendarService.replaceUnavailablePeriods(event.getResourceId(), List.of());
+                } else {
+                    calendarService.replaceUnavailablePeriods(event.getResourceId(), event.getUnavailablePeriods());
+                }
+            });
+
+            log.info("Calendar updated | resource={} | change={}", event.getResourceId(), event.getChangeType());
+
+        } catch (Exception e) {
+            // Errors are logged but do not stop the consumer
+            log.error("Failed to process catalog message: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package leonil.sulude.booking.messaging.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistPromotedMessage {
+
+    private UUID waitlistEntryId;   // Entry that was promoted
+    private UUID bookingId;         // Booking created for the customer
+    private UUID resourceId;        // Booked service resource
+    private String customerName;
+    private String customerEmail;   // Recipient of the notification
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Instant timestamp;      // When the promotion happened
+}
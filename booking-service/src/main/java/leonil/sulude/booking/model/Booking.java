@@ -8,7 +8,19 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bookings")
+@Table(
+        name = "bookings",
+        indexes = {
+                // "My bookings" listing: equality on customer, range/order on start time
+                @Index(name = "idx_bookings_customer_start", columnList = "customerEmail, startTime"),
+                // Per-resource listing and overlap checks
+                @Index(name = "idx_bookings_resource_start", columnList = "resourceId, startTime"),
+                // Occurrences of a recurring series
+                @Index(name = "idx_bookings_series_start", columnList = "seriesId, startTime"),
+                // Expiry of unconfirmed bookings
+                @Index(name = "idx_bookings_status_created", columnList = "status, createdAt")
+        }
+)
 @Data
 @NoArgsConstructor
 public class Booking {
@@ -39,6 +51,8 @@ public class Booking {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    private UUID seriesId; // Set when the booking is an occurrence of a BookingSeries
+
     @PrePersist
     public void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,65 @@
+package leonil.sulude.booking.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Recurring booking definition (e.g. a weekly class).
+ *
+ * Occurrences are stored as regular {@link Booking} rows, but only up to
+ * {@code materializedUntil}; later ones are generated by the scheduled
+ * materializer as the horizon moves forward, so open-ended series do not
+ * grow the bookings table unboundedly.
+ */
+@Entity
+@Table(
+        name = "booking_series",
+        indexes = {
+                // Materializer scan: active series whose horizon has to be extended
+                @Index(name = "idx_booking_series_active_until", columnList = "active, materializedUntil")
+        }
+)
+@Data
+@NoArgsConstructor
+public class BookingSeries {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID resourceId; // Reference for serviceResource in catalog-service
+
+    @Column(nullable = false)
+    private String customerName;
+
+    @Column(nullable = false)
+    private String customerEmail;
+
+    @Column(nullable = false)
+    private LocalDateTime firstStartTime; // DTSTART of the recurrence
+
+    @Column(nullable = false)
+    private int durationInMinutes;
+
+    @Column(nullable = false)
+    private String recurrenceRule; // RRULE subset, see RecurrenceRule
+
+    @Column(nullable = false)
+    private LocalDateTime materializedUntil; // Exclusive upper bound of generated occurrences
+
+    @Column(nullable = false)
+    private boolean active; // False once cancelled or when the rule has no further occurrences
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
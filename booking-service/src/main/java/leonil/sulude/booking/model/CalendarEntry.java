@@ -0,0 +1,60 @@
+package leonil.sulude.booking.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Denormalized row of the provider calendar projection.
+ *
+ * One row exists per (resource, day) touched by a booking or by a catalog
+ * unavailable period; an item spanning midnight produces one row per day.
+ * Calendar views are then served by a single range read on (resource_id, day).
+ *
+ * The table is derived data: it is maintained from booking and catalog change
+ * events and can be rebuilt at any time.
+ */
+@Entity
+@Table(
+        name = "calendar_entries",
+        indexes = {
+                @Index(name = "idx_calendar_resource_day", columnList = "resourceId, day"),
+                @Index(name = "idx_calendar_booking", columnList = "bookingId")
+        }
+)
+@Data
+@NoArgsConstructor
+public class CalendarEntry {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID resourceId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CalendarEntryType type;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    // Booking-only columns (null for UNAVAILABLE entries)
+    private UUID bookingId;
+
+    @Enumerated(EnumType.STRING)
+    private BookingStatus bookingStatus;
+
+    private String customerName;
+}
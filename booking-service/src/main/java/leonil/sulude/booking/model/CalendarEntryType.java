@@ -0,0 +1,6 @@
+package leonil.sulude.booking.model;
+
+public enum CalendarEntryType {
+    BOOKING,
+    UNAVAILABLE
+}
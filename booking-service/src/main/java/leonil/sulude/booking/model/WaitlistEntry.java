@@ -0,0 +1,66 @@
+package leonil.sulude.booking.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Queued request for a slot that was already booked.
+ *
+ * Entries of the same (resourceId, slot) are served in FIFO order
+ * (createdAt, id) when the blocking booking is cancelled, deleted or expires.
+ */
+@Entity
+@Table(
+        name = "waitlist_entries",
+        indexes = {
+                // Promotion lookup: waiting entries of a resource around a freed slot
+                @Index(name = "idx_waitlist_resource_status_start", columnList = "resourceId, status, startTime"),
+                // Expiry of waiting entries whose slot has started
+                @Index(name = "idx_waitlist_status_start", columnList = "status, startTime")
+        }
+)
+@Data
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID resourceId; // Reference for serviceResource in catalog-service
+
+    @Column(nullable = false)
+    private String customerName;
+
+    @Column(nullable = false)
+    private String customerEmail;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaitlistStatus status;
+
+    private UUID bookingId; // Booking created on promotion
+
+    private LocalDateTime promotedAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package leonil.sulude.booking.model;
+
+public enum WaitlistStatus {
+    WAITING,
+    PROMOTED,
+    CANCELLED,
+    EXPIRED
+}
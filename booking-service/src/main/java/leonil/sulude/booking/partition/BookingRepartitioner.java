@@ -0,0 +1,308 @@
+package leonil.sulude.booking.partition;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * Converts the bookings table into a table hash-partitioned on resource_id, online.
+ *
+ * Every query of a resource (overlap checks, listings) then reads one partition,
+ * and vacuum works on partitions of 1/N of the rows. Each partition carries its own copy
+ * of the exclusion constraint of bookings (V1): a resource lives in one partition, so the
+ * constraint still forbids overlapping active bookings of a resource across the whole table.
+ *
+ * Steps, each in short transactions so bookings keep being served:
+ * 1. prepare: bookings_partitioned with its partitions, indexes and constraints, and a
+ *    trigger mirroring every write on bookings into it
+ * 2. copy: existing rows in batches in id order, each batch locked FOR SHARE so a
+ *    concurrent update or delete waits until its row is copied (the trigger then applies it)
+ * 3. cutover: under a short exclusive lock, bookings becomes bookings_unpartitioned
+ *    (kept for rollback, drop it once satisfied) and bookings_partitioned becomes bookings
+ *
+ * A run interrupted after prepare resumes with the existing bookings_partitioned.
+ * A table without the constraint (restored from a dump, constraint dropped) may hold
+ * overlapping rows that the copy would reject half-way: the preflight reports them
+ * before anything is created, and they must be cancelled first.
+ */
+@Slf4j
+public class BookingRepartitioner {
+
+    static final String COLUMNS =
+            "id, resource_id, customer_name, customer_email, start_time, end_time, status, created_at, series_id";
+
+    // Same indexes as V1, on the parent: every partition gets its own copy
+    static final List<String> INDEXES = List.of(
+            "customer_start (customer_email, start_time)",
+            "resource_start (resource_id, start_time)",
+            "series_start (series_id, start_time)",
+            "status_created (status, created_at)"
+    );
+
+    private static final String TABLE_STATE = """
+            SELECT c.relkind = 'p', (SELECT count(*) FROM pg_inherits i WHERE i.inhparent = c.oid)
+            FROM pg_class c
+            WHERE c.oid = to_regclass(?)
+            """;
+
+    private static final int OVERLAP_SAMPLES = 5;
+
+    private static final String OVERLAPPING_PAIRS = """
+            SELECT a.id, b.id, count(*) OVER ()
+            FROM bookings a
+            JOIN bookings b ON b.resource_id = a.resource_id
+                           AND b.id > a.id
+                           AND b.start_time < a.end_time
+                           AND b.end_time > a.start_time
+            WHERE a.status <> 'CANCELLED' AND b.status <> 'CANCELLED'
+            ORDER BY a.id, b.id
+            LIMIT %d
+            """.formatted(OVERLAP_SAMPLES);
+
+    private static final String COPY_BATCH = """
+            WITH batch AS (
+                SELECT %1$s FROM bookings %2$s ORDER BY id LIMIT ? FOR SHARE
+            ), copied AS (
+                INSERT INTO bookings_partitioned (%1$s)
+                SELECT %1$s FROM batch
+                ON CONFLICT (id, resource_id) DO NOTHING
+            )
+            SELECT (SELECT count(*) FROM batch), (SELECT id FROM batch ORDER BY id DESC LIMIT 1)
+            """;
+
+    private static final String MISSING_ROWS = """
+            SELECT count(*) FROM bookings b
+            WHERE NOT EXISTS (SELECT 1 FROM bookings_partitioned p WHERE p.id = b.id AND p.resource_id = b.resource_id)
+            """;
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Duration lockTimeout;
+
+    public BookingRepartitioner(DataSource dataSource, int batchSize, Duration batchPause, Duration lockTimeout) {
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * Number of partitions of bookings, 0 while it is a plain table.
+     */
+    public int partitions() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return partitions(connection, "bookings");
+        }
+    }
+
+    /**
+     * Runs the whole conversion; copied rows are reported as they progress.
+     */
+    public void repartition(int partitions, LongConsumer copiedRows) throws SQLException, InterruptedException {
+        if (partitions < 2) {
+            throw new IllegalArgumentException("At least 2 partitions are required");
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            int current = partitions(connection, "bookings");
+            if (current > 0) {
+                throw new IllegalStateException("bookings is already partitioned (" + current + " partitions)");
+            }
+            if (exists(connection, "bookings_unpartitioned")) {
+                throw new IllegalStateException("bookings_unpartitioned is left from a previous run; drop it first");
+            }
+            ensureNoOverlaps(connection);
+
+            int prepared = partitions(connection, "bookings_partitioned");
+            if (prepared == 0) {
+                runInTransaction(connection, prepareStatements(partitions));
+                log.info("Created bookings_partitioned with {} partitions; writes to bookings are mirrored", partitions);
+            } else if (prepared != partitions) {
+                throw new IllegalStateException("bookings_partitioned from a previous run has " + prepared
+                        + " partitions; drop it or repartition with the same count");
+            } else {
+                log.info("Resuming with the existing bookings_partitioned");
+            }
+        }
+
+        long copied = copyRows(copiedRows);
+        log.info("Copied {} bookings into bookings_partitioned", copied);
+
+        try (Connection connection = dataSource.getConnection()) {
+            // The trigger keeps both tables in sync; checked outside the exclusive lock to keep it short
+            long missing = count(connection, MISSING_ROWS);
+            if (missing > 0) {
+                throw new IllegalStateException(missing + " bookings were not copied; run again to resume");
+            }
+            runInTransaction(connection, cutoverStatements());
+        }
+        log.info("bookings is now hash-partitioned on resource_id ({} partitions); "
+                + "the previous table is kept as bookings_unpartitioned", partitions);
+    }
+
+    static List<String> prepareStatements(int partitions) {
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE TABLE bookings_partitioned (LIKE bookings INCLUDING DEFAULTS INCLUDING CONSTRAINTS) "
+                + "PARTITION BY HASH (resource_id)");
+        // A primary key of a partitioned table must contain the partition key
+        statements.add("ALTER TABLE bookings_partitioned ADD CONSTRAINT pk_bookings_partitioned PRIMARY KEY (id, resource_id)");
+        for (String index : INDEXES) {
+            statements.add("CREATE INDEX idx_bookings_partitioned_" + index.replace(" (", " ON bookings_partitioned ("));
+        }
+
+        for (int i = 0; i < partitions; i++) {
+            statements.add("CREATE TABLE bookings_p" + i + " PARTITION OF bookings_partitioned "
+                    + "FOR VALUES WITH (MODULUS " + partitions + ", REMAINDER " + i + ")");
+            statements.add("ALTER TABLE bookings_p" + i + " ADD CONSTRAINT ex_bookings_p" + i + "_no_overlap "
+                    + "EXCLUDE USING gist (resource_id WITH =, tsrange(start_time, end_time) WITH &&) "
+                    + "WHERE (status <> 'CANCELLED')");
+        }
+
+        List<String> columns = List.of(COLUMNS.split(", "));
+        String values = String.join(", ", columns.stream().map(column -> "NEW." + column).toList());
+        String updates = String.join(", ", columns.stream()
+                .filter(column -> !column.equals("id") && !column.equals("resource_id"))
+                .map(column -> column + " = EXCLUDED." + column)
+                .toList());
+        statements.add("""
+                CREATE FUNCTION bookings_mirror() RETURNS trigger LANGUAGE plpgsql AS $$
+                BEGIN
+                    IF TG_OP <> 'INSERT' THEN
+                        DELETE FROM bookings_partitioned WHERE id = OLD.id AND resource_id = OLD.resource_id;
+                    END IF;
+                    IF TG_OP = 'DELETE' THEN
+                        RETURN OLD;
+                    END IF;
+                    INSERT INTO bookings_partitioned (%s) VALUES (%s)
+                    ON CONFLICT (id, resource_id) DO UPDATE SET %s;
+                    RETURN NEW;
+                END
+                $$""".formatted(COLUMNS, values, updates));
+        statements.add("CREATE TRIGGER bookings_mirror AFTER INSERT OR UPDATE OR DELETE ON bookings "
+                + "FOR EACH ROW EXECUTE FUNCTION bookings_mirror()");
+        return statements;
+    }
+
+    static List<String> cutoverStatements() {
+        List<String> statements = new ArrayList<>();
+        statements.add("LOCK TABLE bookings IN ACCESS EXCLUSIVE MODE");
+        statements.add("DROP TRIGGER bookings_mirror ON bookings");
+        statements.add("DROP FUNCTION bookings_mirror()");
+
+        statements.add("ALTER TABLE bookings RENAME TO bookings_unpartitioned");
+        statements.add("ALTER TABLE bookings_unpartitioned RENAME CONSTRAINT pk_bookings TO pk_bookings_unpartitioned");
+        statements.add("ALTER TABLE bookings_partitioned RENAME TO bookings");
+        statements.add("ALTER TABLE bookings RENAME CONSTRAINT pk_bookings_partitioned TO pk_bookings");
+        for (String index : INDEXES) {
+            String name = index.substring(0, index.indexOf(' '));
+            statements.add("ALTER INDEX idx_bookings_" + name + " RENAME TO idx_bookings_unpartitioned_" + name);
+            statements.add("ALTER INDEX idx_bookings_partitioned_" + name + " RENAME TO idx_bookings_" + name);
+        }
+        return statements;
+    }
+
+    /**
+     * Fails before any DDL when active bookings overlap: the partitions would reject them
+     * during the copy, leaving a half-filled bookings_partitioned behind.
+     */
+    private static void ensureNoOverlaps(Connection connection) throws SQLException {
+        long pairs = 0;
+        List<String> samples = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(OVERLAPPING_PAIRS)) {
+            while (result.next()) {
+                samples.add(result.getString(1) + " / " + result.getString(2));
+                pairs = result.getLong(3);
+            }
+        }
+        if (pairs > 0) {
+            throw new IllegalStateException(pairs + " pairs of active bookings overlap (e.g. "
+                    + String.join(", ", samples) + "); cancel one booking of each pair before partitioning");
+        }
+    }
+
+    private long copyRows(LongConsumer copiedRows) throws SQLException, InterruptedException {
+        long copied = 0;
+        UUID after = null;
+        while (true) {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(
+                         COPY_BATCH.formatted(COLUMNS, after == null ? "" : "WHERE id > ?"))) {
+                int parameter = 1;
+                if (after != null) {
+                    statement.setObject(parameter++, after);
+                }
+                statement.setInt(parameter, batchSize);
+
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    long rows = result.getLong(1);
+                    if (rows == 0) {
+                        return copied;
+                    }
+                    copied += rows;
+                    after = result.getObject(2, UUID.class);
+                }
+            }
+            copiedRows.accept(copied);
+
+            // Leaves room to the regular traffic between batches
+            Thread.sleep(batchPause.toMillis());
+        }
+    }
+
+    private void runInTransaction(Connection connection, List<String> statements) throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            // DDL waits for running transactions; give up instead of queueing every booking behind it
+            statement.execute("SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static int partitions(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(TABLE_STATE)) {
+            statement.setString(1, table);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1) ? result.getInt(2) : 0;
+            }
+        }
+    }
+
+    private static boolean exists(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            statement.setString(1, table);
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getBoolean(1);
+            }
+        }
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package leonil.sulude.booking.partition;
+
+import leonil.sulude.booking.shard.ShardContext;
+import leonil.sulude.booking.shard.Shards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Repartition endpoint: hash-partitions the bookings table online (BookingRepartitioner).
+ *
+ * start(16) runs the conversion in the background, one shard after the other when
+ * bookings are sharded; status reports the partitions and progress of each database.
+ *
+ * It runs DDL and swaps tables, and booking-service has no authentication on its
+ * actuator, so it is never exposed over HTTP: it is a JMX-only endpoint, and only
+ * registered when booking.partitioning.endpoint.enabled is true (and spring.jmx.enabled).
+ */
+@Slf4j
+@Component
+@JmxEndpoint(id = "repartition")
+@ConditionalOnProperty(name = "booking.partitioning.endpoint.enabled", havingValue = "true")
+public class RepartitionEndpoint {
+
+    public enum State { IDLE, RUNNING, DONE, FAILED }
+
+    public record Progress(int partitions, State state, long copiedRows, String error) {}
+
+    private static final String UNSHARDED = "bookings";
+
+    private final BookingRepartitioner repartitioner;
+    private final Shards shards;
+
+    private final Map<String, Progress> runs = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RepartitionEndpoint(BookingRepartitioner repartitioner, Shards shards) {
+        this.repartitioner = repartitioner;
+        this.shards = shards;
+    }
+
+    @ReadOperation
+    public Map<String, Progress> status() {
+        List<Map.Entry<String, Progress>> databases = shards.onEachShard(() -> {
+            String database = database();
+            Progress run = runs.getOrDefault(database, new Progress(0, State.IDLE, 0, null));
+            try {
+                return Map.entry(database, new Progress(repartitioner.partitions(), run.state(), run.copiedRows(), run.error()));
+            } catch (SQLException e) {
+                return Map.entry(database, new Progress(0, run.state(), run.copiedRows(), e.getMessage()));
+            }
+        });
+
+        Map<String, Progress> status = new LinkedHashMap<>();
+        databases.forEach(entry -> status.put(entry.getKey(), entry.getValue()));
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Progress> start(int partitions) {
+        if (partitions < 2) {
+            throw new IllegalArgumentException("At least 2 partitions are required");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Repartitioning is already running");
+        }
+
+        runs.clear();
+        Thread worker = new Thread(() -> {
+            try {
+                shards.forEachShard(() -> repartition(partitions));
+            } catch (RuntimeException e) {
+                log.error("Repartitioning of bookings failed", e);
+            } finally {
+                running.set(false);
+            }
+        }, "bookings-repartition");
+        worker.setDaemon(true);
+        worker.start();
+        return status();
+    }
+
+    private void repartition(int partitions) {
+        String database = database();
+        runs.put(database, new Progress(partitions, State.RUNNING, 0, null));
+        try {
+            repartitioner.repartition(partitions,
+                    copied -> runs.put(database, new Progress(partitions, State.RUNNING, copied, null)));
+            runs.computeIfPresent(database, (key, run) -> new Progress(partitions, State.DONE, run.copiedRows(), null));
+        } catch (SQLException | RuntimeException e) {
+            runs.computeIfPresent(database, (key, run) ->
+                    new Progress(partitions, State.FAILED, run.copiedRows(), e.getMessage()));
+            throw new IllegalStateException("Repartitioning of " + database + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Repartitioning of " + database + " interrupted", e);
+        }
+    }
+
+    // Shard name, or the table itself when bookings are not sharded
+    private static String database() {
+        return Objects.requireNonNullElse(ShardContext.current(), UNSHARDED);
+    }
+}
@@ -1,18 +1,23 @@
 package leonil.sulude.booking.repository;
 
 import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
-public interface BookingRepository extends JpaRepository<Booking, UUID> {
+public interface BookingRepository extends JpaRepository<Booking, UUID>, JpaSpecificationExecutor<Booking> {
 
     @Query("""
     SELECT COUNT(b) > 0 FROM Booking b
     WHERE b.resourceId = :resourceId
+      AND b.status <> leonil.sulude.booking.model.BookingStatus.CANCELLED
       AND (
             (:startTime < b.endTime AND :endTime > b.startTime)
           )
@@ -23,4 +28,31 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
             @Param("endTime") LocalDateTime endTime
     );
 
+    /**
+     * Active (non-cancelled) bookings of a resource overlapping [from, to), ordered by start time.
+     * Used to check many candidate slots with a single range read.
+     */
+    @Query("""
+    SELECT b FROM Booking b
+    WHERE b.resourceId = :resourceId
+      AND b.status <> leonil.sulude.booking.model.BookingStatus.CANCELLED
+      AND b.startTime < :to
+      AND b.endTime > :from
+    ORDER BY b.startTime
+    """)
+    List<Booking> findOverlapping(
+            @Param("resourceId") UUID resourceId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Unconfirmed bookings older than the pending TTL
+    List<Booking> findByStatusAndCreatedAtBefore(BookingStatus status, LocalDateTime createdAt);
+
+    // Declared queries get no transaction by default; read-only lets a configured replica serve it
+    @Transactional(readOnly = true)
+    List<Booking> findBySeriesIdOrderByStartTime(UUID seriesId);
+
+    List<Booking> findBySeriesIdAndStartTimeAfter(UUID seriesId, LocalDateTime startTime);
+
 }
@@ -0,0 +1,14 @@
+package leonil.sulude.booking.repository;
+
+import leonil.sulude.booking.model.BookingSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, UUID> {
+
+    // Served by idx_booking_series_active_until
+    List<BookingSeries> findByActiveTrueAndMaterializedUntilBefore(LocalDateTime horizon);
+}
@@ -0,0 +1,61 @@
+package leonil.sulude.booking.repository;
+
+import leonil.sulude.booking.dto.BookingCursor;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Composable query predicates for booking searches.
+ *
+ * Each method returns null when its argument is null, which Spring Data
+ * ignores when combining specifications. This keeps the generated SQL
+ * limited to the filters the caller actually asked for, so PostgreSQL can
+ * pick the matching (customer_email, start_time) or (resource_id, start_time) index.
+ */
+public final class BookingSpecifications {
+
+    private BookingSpecifications() {}
+
+    public static Specification<Booking> hasCustomerEmail(String customerEmail) {
+        return customerEmail == null ? null
+                : (root, query, cb) -> cb.equal(root.get("customerEmail"), customerEmail);
+    }
+
+    public static Specification<Booking> hasResourceId(UUID resourceId) {
+        return resourceId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("resourceId"), resourceId);
+    }
+
+    public static Specification<Booking> hasStatus(BookingStatus status) {
+        return status == null ? null
+                : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Booking> startsAtOrAfter(LocalDateTime from) {
+        return from == null ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startTime"), from);
+    }
+
+    public static Specification<Booking> startsBefore(LocalDateTime to) {
+        return to == null ? null
+                : (root, query, cb) -> cb.lessThan(root.get("startTime"), to);
+    }
+
+    /**
+     * Keyset predicate: (startTime, id) > (cursor.startTime, cursor.id).
+     */
+    public static Specification<Booking> after(BookingCursor cursor) {
+        return cursor == null ? null
+                : (root, query, cb) -> cb.or(
+                        cb.greaterThan(root.get("startTime"), cursor.startTime()),
+                        cb.and(
+                                cb.equal(root.get("startTime"), cursor.startTime()),
+                                cb.greaterThan(root.get("id"), cursor.id())
+                        )
+                );
+    }
+}
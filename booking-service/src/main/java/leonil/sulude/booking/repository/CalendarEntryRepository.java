@@ -0,0 +1,30 @@
+package leonil.sulude.booking.repository;
+
+import leonil.sulude.booking.model.CalendarEntry;
+import leonil.sulude.booking.model.CalendarEntryType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface CalendarEntryRepository extends JpaRepository<CalendarEntry, UUID> {
+
+    // Served by idx_calendar_resource_day
+    @Transactional(readOnly = true)
+    List<CalendarEntry> findByResourceIdInAndDayBetweenOrderByResourceIdAscDayAscStartTimeAsc(
+            Collection<UUID> resourceIds, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM CalendarEntry c WHERE c.bookingId = :bookingId")
+    void deleteByBookingId(@Param("bookingId") UUID bookingId);
+
+    @Modifying
+    @Query("DELETE FROM CalendarEntry c WHERE c.resourceId = :resourceId AND c.type = :type")
+    void deleteByResourceIdAndType(@Param("resourceId") UUID resourceId, @Param("type") CalendarEntryType type);
+}
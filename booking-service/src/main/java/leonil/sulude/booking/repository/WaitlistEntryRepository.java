@@ -0,0 +1,66 @@
+package leonil.sulude.booking.repository;
+
+import leonil.sulude.booking.model.WaitlistEntry;
+import leonil.sulude.booking.model.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
+
+    // Used to make joining idempotent: retries return the existing entry
+    Optional<WaitlistEntry> findFirstByResourceIdAndStartTimeAndEndTimeAndCustomerEmailIgnoreCaseAndStatus(
+            UUID resourceId, LocalDateTime startTime, LocalDateTime endTime, String customerEmail, WaitlistStatus status);
+
+    /**
+     * Waiting entries overlapping a freed interval, oldest first.
+     */
+    @Query("""
+    SELECT w FROM WaitlistEntry w
+    WHERE w.resourceId = :resourceId
+      AND w.status = leonil.sulude.booking.model.WaitlistStatus.WAITING
+      AND w.startTime < :to
+      AND w.endTime > :from
+      AND w.startTime > :now
+    ORDER BY w.createdAt, w.id
+    """)
+    List<WaitlistEntry> findWaitingOverlapping(
+            @Param("resourceId") UUID resourceId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Number of waiting entries for the same slot queued before (or at) the given time.
+     */
+    @Query("""
+    SELECT COUNT(w) FROM WaitlistEntry w
+    WHERE w.resourceId = :resourceId
+      AND w.startTime = :startTime
+      AND w.endTime = :endTime
+      AND w.status = leonil.sulude.booking.model.WaitlistStatus.WAITING
+      AND w.createdAt <= :createdAt
+    """)
+    long countAhead(
+            @Param("resourceId") UUID resourceId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Modifying
+    @Query("""
+    UPDATE WaitlistEntry w
+    SET w.status = leonil.sulude.booking.model.WaitlistStatus.EXPIRED
+    WHERE w.status = leonil.sulude.booking.model.WaitlistStatus.WAITING
+      AND w.startTime <= :now
+    """)
+    int expireStarted(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,80 @@
+package leonil.sulude.booking.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reads the caller identity from the JWT forwarded by the API Gateway.
+ *
+ * The gateway already verifies the token before routing, but the booking-service
+ * re-validates the signature so a forged Authorization header sent directly to
+ * this service cannot be used to read somebody else's bookings.
+ *
+ * Tokens are issued by auth-service with the user ID as subject,
+ * the email in the "email" claim and the role (USER, PROVIDER, ADMIN) in "role".
+ */
+@Service
+public class JwtService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ROLE_CLAIM = "role";
+    private static final String ADMIN_ROLE = "ADMIN";
+
+    /**
+     * Identity of a validated token.
+     */
+    public record Caller(String email, String role) {
+
+        public boolean isAdmin() {
+            return ADMIN_ROLE.equals(role);
+        }
+    }
+
+    // Built once: parsing the key on every request is wasted work
+    private final JwtParser parser;
+
+    public JwtService(@Value("${security.jwt.secret}") String secret) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
+                .build();
+    }
+
+    /**
+     * Extracts the customer email from an "Authorization: Bearer <token>" header.
+     *
+     * @param authorizationHeader raw header value, may be null
+     * @return the email claim, or null if the header is missing or the token is invalid
+     */
+    public String extractEmail(String authorizationHeader) {
+        Caller caller = extractCaller(authorizationHeader);
+        return caller != null ? caller.email() : null;
+    }
+
+    /**
+     * Extracts email and role from an "Authorization: Bearer <token>" header.
+     *
+     * @param authorizationHeader raw header value, may be null
+     * @return the caller, or null if the header is missing, the token is invalid or has no email
+     */
+    public Caller extractCaller(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+
+        try {
+            Claims claims = parser
+                    .parseClaimsJws(authorizationHeader.substring(BEARER_PREFIX.length()))
+                    .getBody();
+            String email = claims.get(EMAIL_CLAIM, String.class);
+            return email != null ? new Caller(email, claims.get(ROLE_CLAIM, String.class)) : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.repository.BookingRepository;
+import leonil.sulude.booking.shard.Shards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Releases slots held by stale requests.
+ *
+ * - PENDING bookings older than booking.pending-ttl are cancelled, which
+ *   promotes the waitlist. Disabled by default (TTL of 0) because no flow
+ *   confirms bookings yet.
+ * - Waitlist entries whose slot has already started are expired.
+ */
+@Slf4j
+@Component
+public class BookingExpiryScheduler {
+
+    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final WaitlistService waitlistService;
+    private final Duration pendingTtl;
+    private final Shards shards;
+
+    public BookingExpiryScheduler(BookingRepository bookingRepository,
+                                  BookingService bookingService,
+                                  WaitlistService waitlistService,
+                                  @Value("${booking.pending-ttl:0}") Duration pendingTtl,
+                                  Shards shards) {
+        this.bookingRepository = bookingRepository;
+        this.bookingService = bookingService;
+        this.waitlistService = waitlistService;
+        this.pendingTtl = pendingTtl;
+        this.shards = shards;
+    }
+
+    @Scheduled(
+            initialDelayString = "${booking.waitlist.maintenance-interval:PT1M}",
+            fixedDelayString = "${booking.waitlist.maintenance-interval:PT1M}"
+    )
+    public void run() {
+        try {
+            shards.forEachShard(this::expire);
+        } catch (Exception e) {
+            log.error("Booking expiry run failed", e);
+        }
+    }
+
+    private void expire() {
+        if (!pendingTtl.isZero()) {
+            LocalDateTime cutoff = LocalDateTime.now().minus(pendingTtl);
+            for (Booking booking : bookingRepository.findByStatusAndCreatedAtBefore(BookingStatus.PENDING, cutoff)) {
+                bookingService.cancel(booking.getId());
+                log.info("Expired pending booking {}", booking.getId());
+            }
+        }
+
+        int expired = waitlistService.expireStartedEntries();
+        if (expired > 0) {
+            log.info("Expired {} waitlist entr(y/ies) whose slot has started", expired);
+        }
+    }
+}
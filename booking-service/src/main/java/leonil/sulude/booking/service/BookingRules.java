@@ -0,0 +1,85 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingRequestDTO;
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.exception.BookingConflictException;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.repository.BookingRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking creation rules shared by the blocking and reactive create paths,
+ * so both accept and reject exactly the same requests.
+ */
+final class BookingRules {
+
+    private BookingRules() {}
+
+    /**
+     * Rejects inactive resources and slots overlapping a catalog unavailable period.
+     */
+    static void ensureBookable(ServiceResourceResponseDTO resource, BookingRequestDTO dto) {
+        if (resource == null || !resource.active()) {
+            throw new ResourceUnavailableException("Service resource is not available for booking");
+        }
+
+        // Check if the reservation conflicts with periods of unavailability
+        boolean unavailableConflict = resource.unavailablePeriods() != null &&
+                resource.unavailablePeriods().stream().anyMatch(period ->
+                        dto.startTime().isBefore(period.endTime()) &&
+                                dto.endTime().isAfter(period.startTime())
+                );
+
+        if (unavailableConflict) {
+            throw new ResourceUnavailableException("Resource is unavailable during the selected time.");
+        }
+    }
+
+    static Booking newBooking(BookingRequestDTO dto) {
+        Booking booking = new Booking();
+        booking.setResourceId(dto.resourceId());
+        booking.setCustomerName(dto.customerName());
+        booking.setCustomerEmail(dto.customerEmail());
+        booking.setStartTime(dto.startTime());
+        booking.setEndTime(dto.endTime());
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setCreatedAt(LocalDateTime.now());
+        return booking;
+    }
+
+    /**
+     * Saves a new booking. The exclusion constraint of bookings rejects a concurrent
+     * overlapping insert that passed the check: same conflict as the check.
+     */
+    static Booking insert(BookingRepository repository, Booking booking) {
+        try {
+            return repository.save(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (BookingConflictException.isOverlapViolation(e)) {
+                throw new BookingConflictException("Resource is already booked during this time.");
+            }
+            throw e;
+        }
+    }
+
+    static BookingResponseDTO toResponseDTO(Booking booking, ServiceResourceResponseDTO resource) {
+        return new BookingResponseDTO(
+                booking.getId(),
+                booking.getResourceId(),
+                booking.getCustomerName(),
+                booking.getCustomerEmail(),
+                booking.getStartTime(),
+                booking.getEndTime(),
+                booking.getStatus(),
+                booking.getCreatedAt(),
+                resource != null ? resource.name() : null,
+                resource != null ? resource.price() : null,
+                resource != null ? resource.durationInMinutes() : null
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.shard.Shards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically generates the next occurrences of open booking series
+ * as the materialization horizon moves forward.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSeriesMaterializer {
+
+    private final BookingSeriesService seriesService;
+    private final Shards shards;
+
+    @Scheduled(
+            initialDelayString = "${booking.series.materialization-interval:PT1H}",
+            fixedDelayString = "${booking.series.materialization-interval:PT1H}"
+    )
+    public void materialize() {
+        AtomicInteger created = new AtomicInteger();
+        try {
+            // One transaction per shard; a failing shard does not hold back the others
+            shards.forEachShard(() -> created.addAndGet(seriesService.materializeDueSeries()));
+        } catch (Exception e) {
+            // Next run retries from the last stored bound
+            log.error("Booking series materialization failed", e);
+        }
+        if (created.get() > 0) {
+            log.info("Materialized {} booking series occurrence(s)", created.get());
+        }
+    }
+}
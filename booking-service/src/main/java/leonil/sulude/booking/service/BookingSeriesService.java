@@ -0,0 +1,18 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingSeriesRequestDTO;
+import leonil.sulude.booking.dto.BookingSeriesResponseDTO;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BookingSeriesService {
+
+    BookingSeriesResponseDTO create(BookingSeriesRequestDTO dto);
+
+    Optional<BookingSeriesResponseDTO> getById(UUID id);
+
+    boolean cancel(UUID id);
+
+    int materializeDueSeries();
+}
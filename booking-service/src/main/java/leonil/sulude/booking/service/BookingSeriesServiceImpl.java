@@ -0,0 +1,307 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingSeriesRequestDTO;
+import leonil.sulude.booking.dto.BookingSeriesResponseDTO;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.event.BookingChangedEvent;
+import leonil.sulude.booking.exception.BookingConflictException;
+import leonil.sulude.booking.exception.InvalidRecurrenceException;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import leonil.sulude.booking.feignclient.CatalogResourceClient;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingSeries;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.repository.BookingRepository;
+import leonil.sulude.booking.repository.BookingSeriesRepository;
+import leonil.sulude.booking.shard.Shards;
+import leonil.sulude.booking.util.RecurrenceRule;
+import leonil.sulude.booking.util.TimeSlot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Creates and maintains recurring booking series.
+ *
+ * A series is checked and stored in bulk: the recurrence is expanded in memory,
+ * the catalog is called once, existing bookings are read with one range query
+ * and compared with a single sweep, and all occurrences are inserted with one
+ * saveAll (batched by Hibernate).
+ *
+ * Only occurrences within the materialization horizon are stored; the rest
+ * are generated by {@link #materializeDueSeries()} as time passes.
+ *
+ * A series and its occurrences live on the shard of their resource.
+ */
+@Slf4j
+@Service
+public class BookingSeriesServiceImpl implements BookingSeriesService {
+
+    // Upper bound of occurrences stored in one go, to keep a single insert batch reasonable
+    static final int MAX_OCCURRENCES_PER_BATCH = 500;
+
+    private final BookingSeriesRepository seriesRepository;
+    private final BookingRepository bookingRepository;
+    private final CatalogResourceClient catalogClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration horizon;
+    private final Shards shards;
+    private final TransactionOperations transactions;
+
+    public BookingSeriesServiceImpl(BookingSeriesRepository seriesRepository,
+                                    BookingRepository bookingRepository,
+                                    CatalogResourceClient catalogClient,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${booking.series.materialization-horizon:56d}") Duration horizon,
+                                    Shards shards,
+                                    TransactionOperations transactions) {
+        this.seriesRepository = seriesRepository;
+        this.bookingRepository = bookingRepository;
+        this.catalogClient = catalogClient;
+        this.eventPublisher = eventPublisher;
+        this.horizon = horizon;
+        this.shards = shards;
+        this.transactions = transactions;
+    }
+
+    @Override
+    @Transactional
+    public BookingSeriesResponseDTO create(BookingSeriesRequestDTO dto) {
+        // Selected before the first statement: the connection is only taken then
+        return shards.onShardOf(dto.resourceId(), () -> createOnShard(dto));
+    }
+
+    private BookingSeriesResponseDTO createOnShard(BookingSeriesRequestDTO dto) {
+
+        RecurrenceRule rule = RecurrenceRule.parse(dto.recurrence());
+        Duration duration = Duration.between(dto.startTime(), dto.endTime());
+
+        // Materialize up to the horizon, measured from the later of now and the first occurrence
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowEnd = (dto.startTime().isAfter(now) ? dto.startTime() : now).plus(horizon);
+
+        List<LocalDateTime> starts = rule.occurrences(dto.startTime(), dto.startTime(), windowEnd);
+        if (starts.isEmpty()) {
+            throw new InvalidRecurrenceException("Recurrence produces no occurrences");
+        }
+        if (starts.size() > MAX_OCCURRENCES_PER_BATCH) {
+            throw new InvalidRecurrenceException(
+                    "Recurrence produces more than " + MAX_OCCURRENCES_PER_BATCH + " occurrences within the booking horizon");
+        }
+
+        List<TimeSlot> slots = toSlots(starts, duration);
+        for (int i = 1; i < slots.size(); i++) {
+            if (slots.get(i).overlaps(slots.get(i - 1))) {
+                throw new InvalidRecurrenceException("Occurrences of the series overlap each other");
+            }
+        }
+
+        ServiceResourceResponseDTO resource = CatalogResourceClient.await(catalogClient.getResource(dto.resourceId()));
+        if (resource == null || !resource.active()) {
+            throw new ResourceUnavailableException("Service resource is not available for booking");
+        }
+
+        List<TimeSlot> conflicts = TimeSlot.conflicts(slots, busySlots(dto.resourceId(), slots, resource));
+        if (!conflicts.isEmpty()) {
+            throw new BookingConflictException(conflicts.size() + " occurrence(s) conflict with existing bookings "
+                    + "or unavailable periods, first at " + conflicts.get(0).start());
+        }
+
+        BookingSeries series = new BookingSeries();
+        series.setResourceId(dto.resourceId());
+        series.setCustomerName(dto.customerName());
+        series.setCustomerEmail(dto.customerEmail());
+        series.setFirstStartTime(dto.startTime());
+        series.setDurationInMinutes((int) duration.toMinutes());
+        series.setRecurrenceRule(dto.recurrence());
+        series.setMaterializedUntil(windowEnd);
+        series.setActive(rule.hasOccurrencesFrom(dto.startTime(), windowEnd));
+        series.setCreatedAt(now);
+
+        BookingSeries saved = seriesRepository.save(series);
+        List<Booking> bookings = insertOccurrences(saved, slots);
+
+        return mapToResponseDTO(saved, bookings.stream().map(Booking::getStartTime).toList());
+    }
+
+    @Override
+    public Optional<BookingSeriesResponseDTO> getById(UUID id) {
+        return shards.findFirst(() -> seriesRepository.findById(id))
+                .map(series -> mapToResponseDTO(series, shards.onShardOf(series.getResourceId(), () ->
+                        bookingRepository.findBySeriesIdOrderByStartTime(id).stream()
+                                .map(Booking::getStartTime).toList())));
+    }
+
+    /**
+     * Stops the series and removes its future occurrences.
+     * Past occurrences are kept as history.
+     *
+     * The series is looked up on every shard, so the changes run in their own
+     * transaction on its shard once it is found.
+     */
+    @Override
+    public boolean cancel(UUID id) {
+        Optional<BookingSeries> found = shards.findFirst(() -> seriesRepository.findById(id));
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        BookingSeries series = found.get();
+        shards.runOnShardOf(series.getResourceId(), () -> transactions.executeWithoutResult(status -> {
+            series.setActive(false);
+            seriesRepository.save(series);
+
+            List<Booking> future = bookingRepository.findBySeriesIdAndStartTimeAfter(id, LocalDateTime.now());
+            bookingRepository.deleteAllInBatch(future);
+            future.forEach(booking -> eventPublisher.publishEvent(BookingChangedEvent.removed(booking)));
+        }));
+        return true;
+    }
+
+    /**
+     * Extends every active series whose stored occurrences end before the horizon.
+     *
+     * Unlike creation, an occurrence that conflicts with a booking made in the
+     * meantime is skipped (and logged) instead of failing the whole series.
+     * Covers the series of the current shard (BookingSeriesMaterializer runs it on each).
+     *
+     * @return number of occurrences created
+     */
+    @Override
+    @Transactional
+    public int materializeDueSeries() {
+        LocalDateTime windowEnd = LocalDateTime.now().plus(horizon);
+        int created = 0;
+
+        for (BookingSeries series : seriesRepository.findByActiveTrueAndMaterializedUntilBefore(windowEnd)) {
+            RecurrenceRule rule;
+            try {
+                rule = RecurrenceRule.parse(series.getRecurrenceRule());
+            } catch (InvalidRecurrenceException e) {
+                log.error("Deactivating series {} with invalid recurrence: {}", series.getId(), e.getMessage());
+                series.setActive(false);
+                seriesRepository.save(series);
+                continue;
+            }
+
+            Duration duration = Duration.ofMinutes(series.getDurationInMinutes());
+            List<LocalDateTime> starts = rule.occurrences(series.getFirstStartTime(), series.getMaterializedUntil(), windowEnd);
+            if (starts.size() > MAX_OCCURRENCES_PER_BATCH) {
+                // Catch up gradually; the next run continues from the new bound
+                starts = starts.subList(0, MAX_OCCURRENCES_PER_BATCH);
+            }
+            LocalDateTime newBound = starts.size() == MAX_OCCURRENCES_PER_BATCH
+                    ? starts.get(starts.size() - 1).plusSeconds(1)
+                    : windowEnd;
+
+            if (!starts.isEmpty()) {
+                ServiceResourceResponseDTO resource;
+                try {
+                    resource = CatalogResourceClient.await(catalogClient.getResource(series.getResourceId()));
+                } catch (Exception e) {
+                    // Catalog unreachable: keep the bound so the next run retries this window
+                    log.warn("Skipping materialization of series {}: catalog unavailable", series.getId());
+                    continue;
+                }
+                if (resource == null || !resource.active()) {
+                    log.warn("Skipping materialization of series {}: resource not bookable", series.getId());
+                    continue;
+                }
+
+                List<TimeSlot> slots = toSlots(starts, duration);
+                Set<TimeSlot> conflicts = new HashSet<>(
+                        TimeSlot.conflicts(slots, busySlots(series.getResourceId(), slots, resource)));
+                if (!conflicts.isEmpty()) {
+                    log.warn("Series {}: skipped {} conflicting occurrence(s)", series.getId(), conflicts.size());
+                }
+
+                List<TimeSlot> free = slots.stream().filter(slot -> !conflicts.contains(slot)).toList();
+                created += insertOccurrences(series, free).size();
+            }
+
+            series.setMaterializedUntil(newBound);
+            series.setActive(rule.hasOccurrencesFrom(series.getFirstStartTime(), newBound));
+            seriesRepository.save(series);
+        }
+
+        return created;
+    }
+
+    private List<TimeSlot> toSlots(List<LocalDateTime> starts, Duration duration) {
+        return starts.stream()
+                .map(start -> new TimeSlot(start, start.plus(duration)))
+                .toList();
+    }
+
+    /**
+     * Existing bookings in the span of the candidate slots (one range query)
+     * plus the unavailable periods of the resource.
+     */
+    private List<TimeSlot> busySlots(UUID resourceId, List<TimeSlot> slots, ServiceResourceResponseDTO resource) {
+        LocalDateTime from = slots.get(0).start();
+        LocalDateTime to = slots.get(slots.size() - 1).end();
+
+        List<TimeSlot> busy = new ArrayList<>();
+        for (Booking booking : bookingRepository.findOverlapping(resourceId, from, to)) {
+            busy.add(new TimeSlot(booking.getStartTime(), booking.getEndTime()));
+        }
+        if (resource.unavailablePeriods() != null) {
+            resource.unavailablePeriods()
+                    .forEach(period -> busy.add(new TimeSlot(period.startTime(), period.endTime())));
+        }
+        return busy;
+    }
+
+    private List<Booking> insertOccurrences(BookingSeries series, List<TimeSlot> slots) {
+        if (slots.isEmpty()) {
+            return List.of();
+        }
+
+        List<Booking> bookings = new ArrayList<>(slots.size());
+        for (TimeSlot slot : slots) {
+            Booking booking = new Booking();
+            booking.setResourceId(series.getResourceId());
+            booking.setCustomerName(series.getCustomerName());
+            booking.setCustomerEmail(series.getCustomerEmail());
+            booking.setStartTime(slot.start());
+            booking.setEndTime(slot.end());
+            booking.setStatus(BookingStatus.PENDING);
+            booking.setCreatedAt(LocalDateTime.now());
+            booking.setSeriesId(series.getId());
+            bookings.add(booking);
+        }
+
+        List<Booking> saved = bookingRepository.saveAll(bookings);
+
+        // Feed read models (calendar projection)
+        saved.forEach(booking -> eventPublisher.publishEvent(BookingChangedEvent.upserted(booking)));
+        return saved;
+    }
+
+    private BookingSeriesResponseDTO mapToResponseDTO(BookingSeries series, List<LocalDateTime> occurrences) {
+        return new BookingSeriesResponseDTO(
+                series.getId(),
+                series.getResourceId(),
+                series.getCustomerName(),
+                series.getCustomerEmail(),
+                series.getRecurrenceRule(),
+                series.getFirstStartTime(),
+                series.getDurationInMinutes(),
+                series.isActive(),
+                series.getMaterializedUntil(),
+                occurrences
+        );
+    }
+}
@@ -1,16 +1,17 @@
 package leonil.sulude.booking.service;
 
+import leonil.sulude.booking.dto.BookingPageDTO;
 import leonil.sulude.booking.dto.BookingRequestDTO;
 import leonil.sulude.booking.dto.BookingResponseDTO;
-import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.dto.BookingSearchRequestDTO;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface BookingService {
-    List<BookingResponseDTO> getAll();
+    BookingPageDTO search(BookingSearchRequestDTO query, String authorizationHeader);
     Optional<BookingResponseDTO> getById(UUID id);
     BookingResponseDTO create(BookingRequestDTO booking);
+    Optional<BookingResponseDTO> cancel(UUID id);
     boolean delete(UUID id);
 }
@@ -1,144 +1,319 @@
 package leonil.sulude.booking.service;
 
-import io.github.resilience4j.retry.annotation.Retry;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import leonil.sulude.booking.dto.BookingCursor;
+import leonil.sulude.booking.dto.BookingPageDTO;
 import leonil.sulude.booking.dto.BookingRequestDTO;
 import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.BookingSearchRequestDTO;
 import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.event.BookingChangedEvent;
+import leonil.sulude.booking.exception.BookingAccessDeniedException;
 import leonil.sulude.booking.exception.BookingConflictException;
-import leonil.sulude.booking.exception.ResourceUnavailableException;
-import leonil.sulude.booking.feignclient.CatalogClient;
+import leonil.sulude.booking.feignclient.CatalogResourceClient;
 import leonil.sulude.booking.model.Booking;
 import leonil.sulude.booking.model.BookingStatus;
 import leonil.sulude.booking.repository.BookingRepository;
+import leonil.sulude.booking.security.JwtService;
+import leonil.sulude.booking.shard.KWayMerge;
+import leonil.sulude.booking.shard.Shards;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static leonil.sulude.booking.repository.BookingSpecifications.*;
 
 @Service
 public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository repository;
-    private final CatalogClient catalogClient;
+    private final CatalogResourceClient catalogClient;
+    private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Shards shards;
+
+    private final Executor createExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // Keyset order: must match the (…, start_time) indexes and BookingCursor
+    private static final Sort SEARCH_ORDER = Sort.by("startTime", "id");
+    private static final Comparator<Booking> SEARCH_COMPARATOR =
+            Comparator.comparing(Booking::getStartTime).thenComparing(Booking::getId);
 
-    public BookingServiceImpl(BookingRepository repository, CatalogClient catalogClient) {
+    static final String CREATE_STAGE_METRIC = "booking.create.stage";
+    static final String STAGE_OVERLAP_CHECK = "overlap_check";
+    static final String STAGE_CATALOG_FETCH = "catalog_fetch";
+    static final String STAGE_VALIDATION = "validation";
+    static final String STAGE_SAVE = "save";
+
+    public BookingServiceImpl(BookingRepository repository, CatalogResourceClient catalogClient, JwtService jwtService,
+                              ApplicationEventPublisher eventPublisher, Shards shards,
+                              @Qualifier("bookingCreateExecutor") Executor createExecutor,
+                              MeterRegistry meterRegistry) {
         this.repository = repository;
         this.catalogClient = catalogClient;
+        this.jwtService = jwtService;
+        this.eventPublisher = eventPublisher;
+        this.shards = shards;
+        this.createExecutor = createExecutor;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
-    public List<BookingResponseDTO> getAll() {
-        return repository.findAll()
-                .stream().map(this::mapToResponseDTO).toList();
+    public BookingPageDTO search(BookingSearchRequestDTO query, String authorizationHeader) {
+
+        // Customer scope comes from the token: customers only ever see their own bookings,
+        // a mismatching parameter is rejected instead of silently widening or narrowing
+        // the result set. Admins may list any customer, or all of them.
+        JwtService.Caller caller = jwtService.extractCaller(authorizationHeader);
+        if (caller == null) {
+            throw new BookingAccessDeniedException("Bookings can only be listed for an authenticated customer.");
+        }
+
+        String customerEmail;
+        if (caller.isAdmin()) {
+            customerEmail = query.customerEmail();
+        } else if (query.customerEmail() == null || caller.email().equalsIgnoreCase(query.customerEmail())) {
+            customerEmail = caller.email();
+        } else {
+            throw new BookingAccessDeniedException("Bookings can only be listed for the authenticated customer.");
+        }
+
+        BookingCursor cursor = query.cursor() != null ? BookingCursor.decode(query.cursor()) : null;
+        int limit = query.effectiveLimit();
+
+        Specification<Booking> spec = Specification.allOf(
+                hasCustomerEmail(customerEmail),
+                hasResourceId(query.resourceId()),
+                hasStatus(query.status()),
+                startsAtOrAfter(query.from()),
+                startsBefore(query.to()),
+                after(cursor)
+        );
+
+        // Fetch one extra row to know whether another page exists without a COUNT query.
+        // A resource lives on one shard; otherwise every shard returns its first limit + 1
+        // rows after the cursor and the merged page keeps the keyset order.
+        Supplier<List<Booking>> firstRows =
+                () -> repository.findBy(spec, q -> q.sortBy(SEARCH_ORDER).limit(limit + 1).all());
+        List<Booking> rows = query.resourceId() != null
+                ? shards.onShardOf(query.resourceId(), firstRows)
+                : KWayMerge.merge(shards.onEachShard(firstRows), SEARCH_COMPARATOR, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<Booking> page = hasMore ? rows.subList(0, limit) : rows;
+
+        // One batch lookup for the distinct resources of the page
+        Map<UUID, ServiceResourceResponseDTO> resources = fetchResources(page);
+        List<BookingResponseDTO> items = page.stream()
+                .map(booking -> mapToResponseDTO(booking, resources.get(booking.getResourceId())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            Booking last = page.get(page.size() - 1);
+            nextCursor = new BookingCursor(last.getStartTime(), last.getId()).encode();
+        }
+
+        return new BookingPageDTO(items, nextCursor);
     }
 
     @Override
     public Optional<BookingResponseDTO> getById(UUID id) {
-        return repository.findById(id)
+        return shards.findFirst(() -> repository.findById(id))
                 .map(this::mapToResponseDTO);
     }
 
+    /**
+     * Creates a booking.
+     *
+     * The overlap check (DB, on the bounded create executor) and the catalog fetch
+     * (HTTP, in the catalog bulkhead) are independent, so they run concurrently: the wait before validation
+     * is max(db, catalog) instead of their sum. As soon as one of them fails
+     * (conflict found, catalog unavailable) the request fails and the other
+     * stage is cancelled; its in-flight I/O finishes but the result is discarded.
+     *
+     * Each stage is timed as booking.create.stage{stage=...}.
+     * Both the overlap check and the insert run on the shard of the resource.
+     *
+     * Called inside a transaction (waitlist promotion while a cancel or series cancel
+     * commits), the overlap check runs first on the caller's thread instead: another
+     * thread has another connection and would not see the slot freed by the caller.
+     */
     @Override
     public BookingResponseDTO create(BookingRequestDTO dto) {
 
         // Check if there is conflict for the booked time
-        boolean hasConflict = repository.existsOverlappingBooking(dto.resourceId(), dto.startTime(), dto.endTime());
-        if (hasConflict) {
-            throw new BookingConflictException("Resource is already booked during this time.");
+        Runnable checkOverlap = () -> {
+            boolean hasConflict = timed(STAGE_OVERLAP_CHECK, () -> shards.onShardOf(dto.resourceId(), () ->
+                    repository.existsOverlappingBooking(dto.resourceId(), dto.startTime(), dto.endTime())));
+            if (hasConflict) {
+                throw new BookingConflictException("Resource is already booked during this time.");
+            }
+        };
+        CompletableFuture<Void> overlapCheck;
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            checkOverlap.run();
+            overlapCheck = CompletableFuture.completedFuture(null);
+        } else {
+            overlapCheck = CompletableFuture.runAsync(checkOverlap, createExecutor);
         }
 
-        // Retrieve resource from Catalog Service (protected by resilience patterns)
-        ServiceResourceResponseDTO resource = fetchResource(dto.resourceId());
+        // Retrieve resource from Catalog Service (already asynchronous: runs in the catalog bulkhead)
+        CompletableFuture<ServiceResourceResponseDTO> catalogFetch =
+                timedAsync(STAGE_CATALOG_FETCH, catalogClient.getResource(dto.resourceId()));
 
-        if (resource == null || !resource.active()) {
-            throw new ResourceUnavailableException("Service resource is not available for booking");
-        }
+        awaitAllOrFirstFailure(overlapCheck, catalogFetch);
+        ServiceResourceResponseDTO resource = catalogFetch.join();
 
-        // Check if the reservation conflicts with periods of unavailability
-        boolean unavailableConflict = resource.unavailablePeriods() != null &&
-                resource.unavailablePeriods().stream().anyMatch(period ->
-                        dto.startTime().isBefore(period.endTime()) &&
-                                dto.endTime().isAfter(period.startTime())
-                );
+        timed(STAGE_VALIDATION, () -> {
+            BookingRules.ensureBookable(resource, dto);
+            return null;
+        });
 
-        if (unavailableConflict) {
-            throw new ResourceUnavailableException("Resource is unavailable during the selected time.");
-        }
+        Booking saved = timed(STAGE_SAVE, () -> shards.onShardOf(dto.resourceId(), () -> {
+            Booking booking = BookingRules.insert(repository, BookingRules.newBooking(dto));
 
-        Booking booking = new Booking();
-        booking.setResourceId(dto.resourceId());
-        booking.setCustomerName(dto.customerName());
-        booking.setCustomerEmail(dto.customerEmail());
-        booking.setStartTime(dto.startTime());
-        booking.setEndTime(dto.endTime());
-        booking.setStatus(BookingStatus.PENDING);
-        booking.setCreatedAt(LocalDateTime.now());
+            // Feed read models (calendar projection)
+            eventPublisher.publishEvent(BookingChangedEvent.upserted(booking));
+            return booking;
+        }));
 
-        Booking saved = repository.save(booking);
+        return BookingRules.toResponseDTO(saved, resource);
+    }
 
-        return new BookingResponseDTO(
-                saved.getId(),
-                saved.getResourceId(),
-                saved.getCustomerName(),
-                saved.getCustomerEmail(),
-                saved.getStartTime(),
-                saved.getEndTime(),
-                saved.getStatus(),
-                saved.getCreatedAt(),
-                resource.name(),
-                resource.price(),
-                resource.durationInMinutes()
-        );
+    /**
+     * Marks a booking as cancelled, freeing its slot.
+     * Listeners promote the next waitlisted request for the slot.
+     */
+    @Override
+    public Optional<BookingResponseDTO> cancel(UUID id) {
+        return shards.findFirst(() -> repository.findById(id))
+                .map(booking -> booking.getStatus() == BookingStatus.CANCELLED
+                        ? booking
+                        : shards.onShardOf(booking.getResourceId(), () -> markCancelled(booking)))
+                .map(this::mapToResponseDTO);
+    }
+
+    private Booking markCancelled(Booking booking) {
+        booking.setStatus(BookingStatus.CANCELLED);
+        Booking saved = repository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.upserted(saved));
+        return saved;
     }
 
     @Override
     public boolean delete(UUID id) {
-        if (repository.existsById(id)) {
-            repository.deleteById(id);
-            return true;
+        Optional<Booking> booking = shards.findFirst(() -> repository.findById(id));
+        if (booking.isEmpty()) {
+            return false;
         }
-        return false;
+        shards.runOnShardOf(booking.get().getResourceId(), () -> {
+            repository.deleteById(id);
+            eventPublisher.publishEvent(BookingChangedEvent.removed(booking.get()));
+        });
+        return true;
     }
 
     private BookingResponseDTO mapToResponseDTO(Booking booking) {
+        return mapToResponseDTO(booking, fetchResource(booking.getResourceId()));
+    }
 
-        ServiceResourceResponseDTO resource = fetchResource(booking.getResourceId());
-
-        return new BookingResponseDTO(
-                booking.getId(),
-                booking.getResourceId(),
-                booking.getCustomerName(),
-                booking.getCustomerEmail(),
-                booking.getStartTime(),
-                booking.getEndTime(),
-                booking.getStatus(),
-                booking.getCreatedAt(),
-                resource != null ? resource.name() : null,
-                resource != null ? resource.price() : null,
-                resource != null ? resource.durationInMinutes() : null
-        );
+    private BookingResponseDTO mapToResponseDTO(Booking booking, ServiceResourceResponseDTO resource) {
+        return BookingRules.toResponseDTO(booking, resource);
+    }
+
+    /**
+     * Waits for every stage, but fails as soon as one of them fails,
+     * cancelling the others. The original exception is rethrown unwrapped
+     * so the exception handlers see BookingConflictException / ResourceUnavailableException.
+     */
+    private void awaitAllOrFirstFailure(CompletableFuture<?>... stages) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> stage : stages) {
+            stage.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    firstFailure.completeExceptionally(ex);
+                }
+            });
+        }
+        CompletableFuture.allOf(stages).thenRun(() -> firstFailure.complete(null));
+
+        try {
+            firstFailure.join();
+        } catch (CompletionException | CancellationException e) {
+            for (CompletableFuture<?> stage : stages) {
+                stage.cancel(true);
+            }
+            Throwable cause = e;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private <T> CompletableFuture<T> timedAsync(String stage, CompletableFuture<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return work.whenComplete((result, ex) -> sample.stop(Timer.builder(CREATE_STAGE_METRIC)
+                .description("Duration of each stage of booking creation")
+                .tag("stage", stage)
+                .tag("outcome", ex == null ? "success" : "error")
+                .register(meterRegistry)));
+    }
+
+    private <T> T timed(String stage, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(CREATE_STAGE_METRIC)
+                    .description("Duration of each stage of booking creation")
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
     }
 
     /**
-     * Retrieves resource data from the Catalog Service.
-     * Protected by Resilience4j retry and circuit breaker mechanisms
-     * to improve reliability of inter-service communication.
+     * Retrieves resource data from the Catalog Service and waits for it.
+     * Resilience (retry, circuit breaker, time limiter, bulkhead) is applied
+     * by CatalogResourceClient; failures surface as ResourceUnavailableException.
      */
-    @CircuitBreaker(name = "catalogService", fallbackMethod = "catalogFallback")
-    @Retry(name = "catalogService")
-    public ServiceResourceResponseDTO fetchResource(UUID resourceId) {
-        return catalogClient.getResourceById(resourceId);
+    private ServiceResourceResponseDTO fetchResource(UUID resourceId) {
+        return CatalogResourceClient.await(catalogClient.getResource(resourceId));
     }
 
     /**
-     * Fallback method executed when the Catalog Service is unavailable
-     * after retries or when the circuit breaker is open.
+     * Retrieves the resources referenced by the given bookings with a single batch call.
      */
-    public ServiceResourceResponseDTO catalogFallback(UUID resourceId, Throwable ex) {
-        throw new ResourceUnavailableException("Catalog service unavailable");
+    private Map<UUID, ServiceResourceResponseDTO> fetchResources(List<Booking> bookings) {
+        Set<UUID> resourceIds = bookings.stream().map(Booking::getResourceId).collect(Collectors.toSet());
+        return CatalogResourceClient.await(catalogClient.getResources(resourceIds));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.CalendarDayDTO;
+import leonil.sulude.booking.dto.UnavailablePeriodDTO;
+import leonil.sulude.booking.model.Booking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface CalendarService {
+
+    List<CalendarDayDTO> getCalendar(List<UUID> resourceIds, LocalDate from, LocalDate to, String authorizationHeader);
+
+    void applyBooking(Booking booking);
+
+    void removeBooking(UUID bookingId);
+
+    void replaceUnavailablePeriods(UUID resourceId, List<UnavailablePeriodDTO> periods);
+}
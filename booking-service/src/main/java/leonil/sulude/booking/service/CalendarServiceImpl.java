@@ -0,0 +1,185 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.CalendarDayDTO;
+import leonil.sulude.booking.dto.CalendarEntryDTO;
+import leonil.sulude.booking.dto.UnavailablePeriodDTO;
+import leonil.sulude.booking.exception.BookingAccessDeniedException;
+import leonil.sulude.booking.exception.InvalidBookingQueryException;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.model.CalendarEntry;
+import leonil.sulude.booking.model.CalendarEntryType;
+import leonil.sulude.booking.repository.CalendarEntryRepository;
+import leonil.sulude.booking.security.JwtService;
+import leonil.sulude.booking.shard.Shards;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains and serves the provider calendar projection.
+ *
+ * Writes are driven by change events (bookings from this service, unavailable
+ * periods from catalog-service) and always replace the full set of rows owned
+ * by the changed item, so replaying an event is harmless.
+ *
+ * Reads are a single range query on (resource_id, day) per shard; grouping into
+ * days happens in memory on an already ordered result. Resources are not linked
+ * to a provider account, so only admins see who booked: other callers get the
+ * occupied slots without booking IDs or customer names.
+ */
+@Service
+public class CalendarServiceImpl implements CalendarService {
+
+    // Upper bounds keep a single calendar read cheap and predictable
+    static final int MAX_RESOURCES = 50;
+    static final long MAX_DAYS = 62;
+
+    private final CalendarEntryRepository repository;
+    private final Shards shards;
+    private final JwtService jwtService;
+
+    public CalendarServiceImpl(CalendarEntryRepository repository, Shards shards, JwtService jwtService) {
+        this.repository = repository;
+        this.shards = shards;
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    public List<CalendarDayDTO> getCalendar(List<UUID> resourceIds, LocalDate from, LocalDate to,
+                                            String authorizationHeader) {
+
+        JwtService.Caller caller = jwtService.extractCaller(authorizationHeader);
+        if (caller == null) {
+            throw new BookingAccessDeniedException("The calendar can only be read by an authenticated user.");
+        }
+
+        if (resourceIds == null || resourceIds.isEmpty()) {
+            throw new InvalidBookingQueryException("At least one resourceId is required");
+        }
+        if (resourceIds.size() > MAX_RESOURCES) {
+            throw new InvalidBookingQueryException("At most " + MAX_RESOURCES + " resources can be requested at once");
+        }
+        if (from == null || to == null) {
+            throw new InvalidBookingQueryException("'from' and 'to' dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new InvalidBookingQueryException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new InvalidBookingQueryException("Calendar range cannot exceed " + MAX_DAYS + " days");
+        }
+
+        List<List<CalendarEntry>> rowsPerShard = shards.onShardsOf(resourceIds, ids -> repository
+                .findByResourceIdInAndDayBetweenOrderByResourceIdAscDayAscStartTimeAsc(ids, from, to));
+
+        // Rows arrive ordered by (resource, day) and a resource lives on one shard,
+        // so consecutive rows share a day bucket
+        Map<String, CalendarDayDTO> days = new LinkedHashMap<>();
+        for (CalendarEntry row : rowsPerShard.stream().flatMap(List::stream).toList()) {
+            days.computeIfAbsent(row.getResourceId() + "|" + row.getDay(),
+                            key -> new CalendarDayDTO(row.getResourceId(), row.getDay(), new ArrayList<>()))
+                    .entries()
+                    .add(toDTO(row, caller.isAdmin()));
+        }
+
+        return List.copyOf(days.values());
+    }
+
+    // Called after the booking transaction committed: joining it would never commit
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyBooking(Booking booking) {
+        repository.deleteByBookingId(booking.getId());
+
+        // Cancelled bookings no longer occupy the resource
+        if (booking.getStatus() == BookingStatus.CANCELLED) {
+            return;
+        }
+
+        List<CalendarEntry> entries = new ArrayList<>();
+        for (LocalDate day : daysCovered(booking.getStartTime(), booking.getEndTime())) {
+            CalendarEntry entry = newEntry(booking.getResourceId(), day, CalendarEntryType.BOOKING,
+                    booking.getStartTime(), booking.getEndTime());
+            entry.setBookingId(booking.getId());
+            entry.setBookingStatus(booking.getStatus());
+            entry.setCustomerName(booking.getCustomerName());
+            entries.add(entry);
+        }
+        repository.saveAll(entries);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void removeBooking(UUID bookingId) {
+        repository.deleteByBookingId(bookingId);
+    }
+
+    @Override
+    @Transactional
+    public void replaceUnavailablePeriods(UUID resourceId, List<UnavailablePeriodDTO> periods) {
+        repository.deleteByResourceIdAndType(resourceId, CalendarEntryType.UNAVAILABLE);
+
+        if (periods == null || periods.isEmpty()) {
+            return;
+        }
+
+        List<CalendarEntry> entries = new ArrayList<>();
+        for (UnavailablePeriodDTO period : periods) {
+            for (LocalDate day : daysCovered(period.startTime(), period.endTime())) {
+                entries.add(newEntry(resourceId, day, CalendarEntryType.UNAVAILABLE,
+                        period.startTime(), period.endTime()));
+            }
+        }
+        repository.saveAll(entries);
+    }
+
+    /**
+     * Days touched by [start, end). An item ending exactly at midnight
+     * does not appear on the following day.
+     */
+    static List<LocalDate> daysCovered(LocalDateTime start, LocalDateTime end) {
+        LocalDate first = start.toLocalDate();
+        LocalDate last = end.toLocalTime().equals(LocalTime.MIDNIGHT) && end.isAfter(start)
+                ? end.toLocalDate().minusDays(1)
+                : end.toLocalDate();
+
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    private CalendarEntry newEntry(UUID resourceId, LocalDate day, CalendarEntryType type,
+                                   LocalDateTime start, LocalDateTime end) {
+        CalendarEntry entry = new CalendarEntry();
+        entry.setResourceId(resourceId);
+        entry.setDay(day);
+        entry.setType(type);
+        entry.setStartTime(start);
+        entry.setEndTime(end);
+        return entry;
+    }
+
+    private CalendarEntryDTO toDTO(CalendarEntry entry, boolean withCustomer) {
+        return new CalendarEntryDTO(
+                entry.getType(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                withCustomer ? entry.getBookingId() : null,
+                entry.getBookingStatus(),
+                withCustomer ? entry.getCustomerName() : null
+        );
+    }
+}
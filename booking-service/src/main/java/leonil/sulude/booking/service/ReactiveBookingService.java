@@ -0,0 +1,9 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingRequestDTO;
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookingService {
+    Mono<BookingResponseDTO> create(BookingRequestDTO booking);
+}
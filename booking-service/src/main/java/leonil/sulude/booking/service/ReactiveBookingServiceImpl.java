@@ -0,0 +1,83 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingRequestDTO;
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.event.BookingChangedEvent;
+import leonil.sulude.booking.exception.BookingConflictException;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import leonil.sulude.booking.feignclient.ReactiveCatalogClient;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.repository.BookingRepository;
+import leonil.sulude.booking.shard.Shards;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Reactive booking creation.
+ *
+ * The overlap check (JDBC, offloaded to the bounded jdbcScheduler) and the
+ * catalog fetch (non-blocking WebClient) are subscribed at the same time, so the
+ * pre-insert latency is max(db, catalog) instead of their sum. If either fails
+ * (e.g. a conflict is found), the other one is cancelled.
+ *
+ * Validation rules are shared with {@link BookingServiceImpl} through {@link BookingRules}.
+ */
+@Service
+public class ReactiveBookingServiceImpl implements ReactiveBookingService {
+
+    private final BookingRepository repository;
+    private final ReactiveCatalogClient catalogClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Scheduler jdbcScheduler;
+    private final Shards shards;
+
+    public ReactiveBookingServiceImpl(BookingRepository repository,
+                                      ReactiveCatalogClient catalogClient,
+                                      ApplicationEventPublisher eventPublisher,
+                                      @Qualifier("jdbcScheduler") Scheduler jdbcScheduler,
+                                      Shards shards) {
+        this.repository = repository;
+        this.catalogClient = catalogClient;
+        this.eventPublisher = eventPublisher;
+        this.jdbcScheduler = jdbcScheduler;
+        this.shards = shards;
+    }
+
+    @Override
+    public Mono<BookingResponseDTO> create(BookingRequestDTO dto) {
+
+        Mono<Boolean> slotFree = Mono
+                .fromCallable(() -> shards.onShardOf(dto.resourceId(), () ->
+                        repository.existsOverlappingBooking(dto.resourceId(), dto.startTime(), dto.endTime())))
+                .subscribeOn(jdbcScheduler)
+                .flatMap(hasConflict -> hasConflict
+                        ? Mono.error(new BookingConflictException("Resource is already booked during this time."))
+                        : Mono.just(true));
+
+        Mono<ServiceResourceResponseDTO> resource = catalogClient.getResourceById(dto.resourceId())
+                .switchIfEmpty(Mono.error(
+                        new ResourceUnavailableException("Service resource is not available for booking")));
+
+        return Mono.zip(slotFree, resource)
+                .map(checks -> {
+                    BookingRules.ensureBookable(checks.getT2(), dto);
+                    return checks.getT2();
+                })
+                .flatMap(bookable -> Mono
+                        .fromCallable(() -> shards.onShardOf(dto.resourceId(), () -> save(BookingRules.newBooking(dto))))
+                        .subscribeOn(jdbcScheduler)
+                        .map(saved -> BookingRules.toResponseDTO(saved, bookable)));
+    }
+
+    private Booking save(Booking booking) {
+        Booking saved = BookingRules.insert(repository, booking);
+
+        // Feed read models (calendar projection); listeners do JDBC, so stay on the JDBC scheduler
+        eventPublisher.publishEvent(BookingChangedEvent.upserted(saved));
+        return saved;
+    }
+}
@@ -0,0 +1,21 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.WaitlistEntryResponseDTO;
+import leonil.sulude.booking.dto.WaitlistRequestDTO;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WaitlistService {
+
+    WaitlistEntryResponseDTO join(WaitlistRequestDTO dto);
+
+    Optional<WaitlistEntryResponseDTO> getById(UUID id);
+
+    boolean leave(UUID id);
+
+    int promote(UUID resourceId, LocalDateTime from, LocalDateTime to);
+
+    int expireStartedEntries();
+}
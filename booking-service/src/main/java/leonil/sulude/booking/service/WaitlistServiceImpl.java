@@ -0,0 +1,207 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingRequestDTO;
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.WaitlistEntryResponseDTO;
+import leonil.sulude.booking.dto.WaitlistRequestDTO;
+import leonil.sulude.booking.exception.BookingConflictException;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import leonil.sulude.booking.messaging.BookingEventProducer;
+import leonil.sulude.booking.model.WaitlistEntry;
+import leonil.sulude.booking.model.WaitlistStatus;
+import leonil.sulude.booking.repository.WaitlistEntryRepository;
+import leonil.sulude.booking.shard.Shards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * FIFO waitlist for booked slots.
+ *
+ * Instead of retrying POST /api/bookings until a slot frees up, a customer
+ * joins the waitlist once. When a blocking booking is cancelled, deleted or
+ * expires, the oldest waiting entries overlapping the freed interval are
+ * booked automatically and the customer is notified through an event.
+ */
+@Slf4j
+@Service
+public class WaitlistServiceImpl implements WaitlistService {
+
+    // PostgreSQL unique_violation
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final WaitlistEntryRepository repository;
+    private final BookingService bookingService;
+    private final BookingEventProducer eventProducer;
+    private final Shards shards;
+
+    public WaitlistServiceImpl(WaitlistEntryRepository repository,
+                               BookingService bookingService,
+                               BookingEventProducer eventProducer,
+                               Shards shards) {
+        this.repository = repository;
+        this.bookingService = bookingService;
+        this.eventProducer = eventProducer;
+        this.shards = shards;
+    }
+
+    /**
+     * Joins the waitlist for a slot.
+     *
+     * Idempotent per (resource, slot, customer): repeated calls return the same entry.
+     * Two concurrent calls can both miss the lookup; the unique index on waiting entries
+     * rejects the second insert, which then returns the entry of the first.
+     * If the slot is already free and nobody is ahead, the entry is promoted right away.
+     */
+    @Override
+    public WaitlistEntryResponseDTO join(WaitlistRequestDTO dto) {
+        return shards.onShardOf(dto.resourceId(), () -> joinOnShard(dto));
+    }
+
+    private WaitlistEntryResponseDTO joinOnShard(WaitlistRequestDTO dto) {
+
+        Optional<WaitlistEntry> existing = findWaiting(dto);
+        if (existing.isPresent()) {
+            return mapToResponseDTO(existing.get());
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setResourceId(dto.resourceId());
+        entry.setCustomerName(dto.customerName());
+        entry.setCustomerEmail(dto.customerEmail());
+        entry.setStartTime(dto.startTime());
+        entry.setEndTime(dto.endTime());
+        entry.setStatus(WaitlistStatus.WAITING);
+        entry.setCreatedAt(LocalDateTime.now());
+
+        WaitlistEntry saved;
+        try {
+            saved = repository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            Optional<WaitlistEntry> concurrent = isUniqueViolation(e) ? findWaiting(dto) : Optional.empty();
+            if (concurrent.isEmpty()) {
+                throw e;
+            }
+            return mapToResponseDTO(concurrent.get());
+        }
+
+        // The slot may have been freed between the client's conflict and this call
+        promote(dto.resourceId(), dto.startTime(), dto.endTime());
+
+        return repository.findById(saved.getId())
+                .map(this::mapToResponseDTO)
+                .orElseGet(() -> mapToResponseDTO(saved));
+    }
+
+    private Optional<WaitlistEntry> findWaiting(WaitlistRequestDTO dto) {
+        return repository.findFirstByResourceIdAndStartTimeAndEndTimeAndCustomerEmailIgnoreCaseAndStatus(
+                dto.resourceId(), dto.startTime(), dto.endTime(), dto.customerEmail(), WaitlistStatus.WAITING);
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState());
+    }
+
+    @Override
+    public Optional<WaitlistEntryResponseDTO> getById(UUID id) {
+        return shards.findFirst(() -> repository.findById(id))
+                .map(entry -> shards.onShardOf(entry.getResourceId(), () -> mapToResponseDTO(entry)));
+    }
+
+    @Override
+    public boolean leave(UUID id) {
+        Optional<WaitlistEntry> found = shards.findFirst(() -> repository.findById(id));
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        WaitlistEntry entry = found.get();
+        if (entry.getStatus() == WaitlistStatus.WAITING) {
+            entry.setStatus(WaitlistStatus.CANCELLED);
+            shards.runOnShardOf(entry.getResourceId(), () -> repository.save(entry));
+        }
+        return true;
+    }
+
+    /**
+     * Books waiting entries overlapping [from, to), oldest first.
+     *
+     * Every candidate goes through the regular booking path, so overlap and
+     * catalog availability rules are the same as for a direct booking. Entries
+     * still blocked by another booking (or by one promoted earlier in this
+     * loop) are skipped and keep their place in the queue.
+     *
+     * @return number of promoted entries
+     */
+    @Override
+    public int promote(UUID resourceId, LocalDateTime from, LocalDateTime to) {
+        return shards.onShardOf(resourceId, () -> promoteOnShard(resourceId, from, to));
+    }
+
+    private int promoteOnShard(UUID resourceId, LocalDateTime from, LocalDateTime to) {
+        List<WaitlistEntry> candidates =
+                repository.findWaitingOverlapping(resourceId, from, to, LocalDateTime.now());
+
+        int promoted = 0;
+        for (WaitlistEntry entry : candidates) {
+            BookingResponseDTO booking;
+            try {
+                booking = bookingService.create(new BookingRequestDTO(
+                        entry.getResourceId(),
+                        entry.getCustomerName(),
+                        entry.getCustomerEmail(),
+                        entry.getStartTime(),
+                        entry.getEndTime(),
+                        null
+                ));
+            } catch (BookingConflictException e) {
+                continue;
+            } catch (ResourceUnavailableException e) {
+                // Same resource for every candidate: retry on the next freed slot
+                log.warn("Waitlist promotion stopped for resource {}: {}", resourceId, e.getMessage());
+                break;
+            }
+
+            entry.setStatus(WaitlistStatus.PROMOTED);
+            entry.setBookingId(booking.id());
+            entry.setPromotedAt(LocalDateTime.now());
+            repository.save(entry);
+
+            eventProducer.waitlistPromoted(entry);
+            promoted++;
+        }
+        return promoted;
+    }
+
+    @Override
+    @Transactional
+    public int expireStartedEntries() {
+        return repository.expireStarted(LocalDateTime.now());
+    }
+
+    private WaitlistEntryResponseDTO mapToResponseDTO(WaitlistEntry entry) {
+        Long position = entry.getStatus() == WaitlistStatus.WAITING
+                ? repository.countAhead(entry.getResourceId(), entry.getStartTime(), entry.getEndTime(), entry.getCreatedAt())
+                : null;
+
+        return new WaitlistEntryResponseDTO(
+                entry.getId(),
+                entry.getResourceId(),
+                entry.getCustomerName(),
+                entry.getCustomerEmail(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                entry.getStatus(),
+                position,
+                entry.getBookingId(),
+                entry.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package leonil.sulude.booking.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges per-shard results that are each sorted by the same order.
+ *
+ * Only the head of every run is kept in the heap, so taking a page of n rows
+ * from k shards costs O(n log k) comparisons whatever the size of the runs.
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {}
+
+    public static <T> List<T> merge(List<? extends List<? extends T>> runs, Comparator<? super T> order, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> order.compare(a.value(), b.value()));
+        for (int run = 0; run < runs.size(); run++) {
+            if (!runs.get(run).isEmpty()) {
+                heads.add(new Head<>(runs.get(run).get(0), run, 0));
+            }
+        }
+
+        List<T> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+
+            List<? extends T> run = runs.get(head.run());
+            int next = head.index() + 1;
+            if (next < run.size()) {
+                heads.add(new Head<>(run.get(next), head.run(), next));
+            }
+        }
+        return merged;
+    }
+
+    private record Head<T>(T value, int run, int index) {}
+}
@@ -0,0 +1,46 @@
+package leonil.sulude.booking.shard;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard selected for the current thread, read by ShardRoutingDataSource.
+ *
+ * A transaction holds one connection, so it stays on the shard it started on:
+ * switching to another shard while a transaction is active fails instead of
+ * silently running the work on the wrong database.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {}
+
+    /**
+     * Selected shard, or null outside of any shard scope.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    static <T> T call(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        if (previous != null && !previous.equals(shard)
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                    "Cannot switch from " + previous + " to " + shard + " inside a transaction");
+        }
+
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package leonil.sulude.booking.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One Hikari pool per shard, exported as hikaricp.*{pool=booking-shard-N}.
+ *
+ * Shards are named by their position in booking.sharding.shards (shard-0, shard-1, ...),
+ * and the ring is built from the names: new shards are appended, never inserted or reordered.
+ * A shard is a database, or a schema when its URL sets currentSchema.
+ */
+public class ShardPools implements AutoCloseable {
+
+    private static final Pattern CURRENT_SCHEMA = Pattern.compile("[?&]currentSchema=([^&]+)");
+
+    private final Map<String, String> urls = new LinkedHashMap<>();
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+
+    public ShardPools(List<String> shardUrls, String username, String password,
+                      int maximumPoolSize, MeterRegistry meterRegistry) {
+        if (shardUrls.isEmpty()) {
+            throw new IllegalArgumentException("booking.sharding.shards must list at least one JDBC URL");
+        }
+
+        for (int i = 0; i < shardUrls.size(); i++) {
+            String name = "shard-" + i;
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("booking-" + name);
+            pool.setJdbcUrl(shardUrls.get(i).trim());
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setMaximumPoolSize(maximumPoolSize);
+            pool.setMetricRegistry(meterRegistry);
+
+            urls.put(name, pool.getJdbcUrl());
+            pools.put(name, pool);
+        }
+    }
+
+    public List<String> names() {
+        return List.copyOf(pools.keySet());
+    }
+
+    public Map<String, DataSource> dataSources() {
+        return new LinkedHashMap<>(pools);
+    }
+
+    public DataSource dataSource(String shard) {
+        return pools.get(shard);
+    }
+
+    /**
+     * Schema of a schema-per-shard URL, or null when the shard is a whole database.
+     */
+    public String schema(String shard) {
+        Matcher matcher = CURRENT_SCHEMA.matcher(urls.get(shard));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
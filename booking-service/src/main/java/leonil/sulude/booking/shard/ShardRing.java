@@ -0,0 +1,69 @@
+package leonil.sulude.booking.shard;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consistent hash ring mapping a resourceId to a shard.
+ *
+ * Each shard owns VIRTUAL_NODES points on the ring; a key belongs to the first
+ * point at or after its hash. Points are derived from the shard name only, so
+ * adding a shard moves about 1/N of the resources (all of them to the new shard)
+ * and leaves the others where they are.
+ */
+public final class ShardRing {
+
+    static final int VIRTUAL_NODES = 128;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final List<String> shards;
+    private final long[] points;
+    private final String[] owners;
+
+    public ShardRing(List<String> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+
+        int size = shards.size() * VIRTUAL_NODES;
+        long[][] nodes = new long[size][];
+        int n = 0;
+        for (int shard = 0; shard < shards.size(); shard++) {
+            long seed = mix(shards.get(shard).hashCode());
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                nodes[n++] = new long[]{mix(seed + i * GOLDEN_GAMMA), shard};
+            }
+        }
+        Arrays.sort(nodes, (a, b) -> Long.compare(a[0], b[0]));
+
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = nodes[i][0];
+            owners[i] = shards.get((int) nodes[i][1]);
+        }
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    public String shardOf(UUID resourceId) {
+        long hash = mix(resourceId.getMostSignificantBits() ^ mix(resourceId.getLeastSignificantBits()));
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    // SplitMix64 finalizer: spreads close inputs (shard names, vnode numbers) over the whole ring
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
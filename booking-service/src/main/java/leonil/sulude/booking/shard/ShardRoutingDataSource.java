@@ -0,0 +1,44 @@
+package leonil.sulude.booking.shard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Routes each connection to the pool of the shard selected in ShardContext.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy, so a @Transactional method may
+ * select its shard before its first statement. Connections taken outside any shard
+ * scope (schema validation at startup, a code path that forgot to select one) go to
+ * the first shard and are counted as booking.sharding.unscoped.connections.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String UNSCOPED_METRIC = "booking.sharding.unscoped.connections";
+
+    private final Counter unscoped;
+
+    public ShardRoutingDataSource(Map<String, DataSource> shards, MeterRegistry meterRegistry) {
+        this.unscoped = Counter.builder(UNSCOPED_METRIC)
+                .description("Connections taken without a selected shard (routed to the first shard)")
+                .register(meterRegistry);
+
+        setTargetDataSources(new LinkedHashMap<>(shards));
+        setDefaultTargetDataSource(shards.values().iterator().next());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        if (shard == null) {
+            unscoped.increment();
+        }
+        return shard;
+    }
+}
@@ -0,0 +1,159 @@
+package leonil.sulude.booking.shard;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * How the service layer reaches the shard(s) of the booking database.
+ *
+ * Everything that belongs to a resource (bookings, series, waitlist entries, calendar rows)
+ * lives on the shard its resourceId hashes to, so overlap checks, inserts and waitlist
+ * promotion never leave one database.
+ *
+ * - onShardOf: work on a single resource
+ * - onShardsOf: work on a set of resources, one call per shard with the resources it owns
+ * - onEachShard: scatter-gather; shards are queried in parallel and the caller merges
+ *   the partial results (KWayMerge for ordered pages)
+ * - findFirst: lookup by ID, when the resource is not known yet
+ * - forEachShard: maintenance jobs, one shard after the other
+ *
+ * A transaction is bound to one shard: cross-shard calls are made outside of it, and a
+ * @Transactional method working on one resource selects its shard before its first statement.
+ * Without booking.sharding.enabled there is one shard and the work runs unchanged.
+ */
+public class Shards {
+
+    private final ShardRing ring;
+    private final Executor scatterExecutor;
+
+    public Shards(ShardRing ring, Executor scatterExecutor) {
+        this.ring = ring;
+        this.scatterExecutor = scatterExecutor;
+    }
+
+    /**
+     * The unsharded setup: a single database, no routing.
+     */
+    public static Shards single() {
+        return new Shards(null, Runnable::run);
+    }
+
+    public boolean isSharded() {
+        return ring != null;
+    }
+
+    public <T> T onShardOf(UUID resourceId, Supplier<T> work) {
+        if (ring == null) {
+            return work.get();
+        }
+        return ShardContext.call(ring.shardOf(resourceId), work);
+    }
+
+    public void runOnShardOf(UUID resourceId, Runnable work) {
+        onShardOf(resourceId, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Groups the resources by shard and runs the work once per shard, in parallel,
+     * with the resources that shard owns.
+     */
+    public <T> List<T> onShardsOf(Collection<UUID> resourceIds, Function<List<UUID>, T> work) {
+        if (ring == null) {
+            return Collections.singletonList(work.apply(List.copyOf(resourceIds)));
+        }
+
+        Map<String, List<UUID>> byShard = resourceIds.stream()
+                .collect(Collectors.groupingBy(ring::shardOf, LinkedHashMap::new, Collectors.toList()));
+        return scatter(byShard.keySet(), shard -> work.apply(byShard.get(shard)));
+    }
+
+    /**
+     * Runs the work on every shard in parallel and returns the results in shard order.
+     * The first failure is rethrown once every shard has answered.
+     */
+    public <T> List<T> onEachShard(Supplier<T> work) {
+        if (ring == null) {
+            return Collections.singletonList(work.get());
+        }
+        return scatter(ring.shards(), shard -> work.get());
+    }
+
+    private <T> List<T> scatter(Collection<String> shards, Function<String, T> work) {
+        requireNoTransaction();
+
+        List<CompletableFuture<T>> legs = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(
+                        () -> ShardContext.call(shard, () -> work.apply(shard)), scatterExecutor))
+                .toList();
+        try {
+            CompletableFuture.allOf(legs.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return legs.stream().map(CompletableFuture::join).toList();
+    }
+
+    public <T> Optional<T> findFirst(Supplier<Optional<T>> lookup) {
+        return onEachShard(lookup).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    /**
+     * Runs the work on each shard in turn. A failing shard does not stop the others;
+     * the first failure is rethrown at the end.
+     */
+    public void forEachShard(Runnable work) {
+        if (ring == null) {
+            work.run();
+            return;
+        }
+
+        requireNoTransaction();
+
+        List<RuntimeException> failures = new ArrayList<>();
+        for (String shard : ring.shards()) {
+            try {
+                ShardContext.call(shard, () -> {
+                    work.run();
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            RuntimeException first = failures.get(0);
+            failures.subList(1, failures.size()).forEach(first::addSuppressed);
+            throw first;
+        }
+    }
+
+    // Work run on this thread inside a transaction would share its connection,
+    // i.e. the database of the first shard touched (saturated executors run legs here too)
+    private static void requireNoTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cross-shard work cannot run inside a transaction");
+        }
+    }
+}
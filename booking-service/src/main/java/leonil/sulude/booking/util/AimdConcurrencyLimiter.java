@@ -0,0 +1,82 @@
+package leonil.sulude.booking.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit using additive increase / multiplicative decrease.
+ *
+ * The limit grows by one while calls succeed under load and is cut by
+ * {@code backoffRatio} when a call fails, times out or exceeds the latency
+ * threshold. Calls above the current limit are rejected immediately, so
+ * excess load is shed before it queues in front of a struggling backend.
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                  double backoffRatio, long latencyThresholdNanos) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit
+                || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limiter settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Reserves a slot; false when the limit is reached and the call must be shed.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot reserved by tryAcquire and adapts the limit.
+     *
+     * @param succeeded   whether the call completed normally
+     * @param latencyNanos duration of the call
+     */
+    public void release(boolean succeeded, long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        if (!succeeded || latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (current * 2 >= getLimit()) {
+            // Only grow when the limit is actually being used
+            increase();
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,56 @@
+package leonil.sulude.booking.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps hedged requests to a fraction of the primary traffic.
+ *
+ * Every primary request deposits {@code ratio} of a token, every hedge
+ * withdraws a whole one. When the backend is slow for everyone, hedging stops
+ * after the burst is spent instead of doubling the load on it.
+ */
+public class HedgeBudget {
+
+    // Tokens are stored in thousandths to keep the arithmetic on a single AtomicLong
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio maximum hedges per primary request (e.g. 0.1 = 10%)
+     * @param burst hedges available up front and maximum balance
+     */
+    public HedgeBudget(double ratio, int burst) {
+        if (ratio < 0 || ratio > 1 || burst < 1) {
+            throw new IllegalArgumentException("Invalid hedge budget settings");
+        }
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = burst * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    public void onRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    /**
+     * Withdraws one hedge; false when the budget is exhausted.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+}
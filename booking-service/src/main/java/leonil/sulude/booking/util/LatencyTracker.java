@@ -0,0 +1,72 @@
+package leonil.sulude.booking.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding-window latency percentile over the most recent calls.
+ *
+ * Samples go into a fixed ring buffer without locking; the percentile is
+ * recomputed from a copy at most once per refresh interval, so reading it on
+ * every request stays cheap. Until the window holds enough samples the
+ * configured default is returned.
+ */
+public class LatencyTracker {
+
+    private static final long REFRESH_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private final int minSamples;
+    private final long defaultNanos;
+
+    private volatile long cachedNanos;
+    private volatile long computedAt;
+
+    public LatencyTracker(int windowSize, double percentile, int minSamples, Duration defaultValue) {
+        if (windowSize <= 0 || minSamples > windowSize || percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Invalid latency tracker settings");
+        }
+        this.samples = new AtomicLongArray(windowSize);
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.defaultNanos = defaultValue.toNanos();
+        this.cachedNanos = defaultNanos;
+        this.computedAt = System.nanoTime();
+    }
+
+    public void record(long latencyNanos) {
+        long slot = recorded.getAndIncrement() % samples.length();
+        samples.set((int) slot, latencyNanos);
+    }
+
+    /**
+     * Current percentile of the window, or the default while warming up.
+     */
+    public long percentileNanos() {
+        long now = System.nanoTime();
+        if (now - computedAt >= REFRESH_INTERVAL_NANOS) {
+            // Benign race: concurrent refreshes compute the same value
+            cachedNanos = compute();
+            computedAt = now;
+        }
+        return cachedNanos;
+    }
+
+    private long compute() {
+        int filled = (int) Math.min(recorded.get(), samples.length());
+        if (filled < minSamples) {
+            return defaultNanos;
+        }
+        long[] window = new long[filled];
+        for (int i = 0; i < filled; i++) {
+            window[i] = samples.get(i);
+        }
+        Arrays.sort(window);
+        int index = (int) Math.ceil(percentile * filled) - 1;
+        return window[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,229 @@
+package leonil.sulude.booking.util;
+
+import leonil.sulude.booking.exception.InvalidRecurrenceException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Subset of the iCalendar (RFC 5545) RRULE syntax used by booking series.
+ *
+ * Supported parts: FREQ (DAILY, WEEKLY), INTERVAL, BYDAY (MO..SU, without ordinals),
+ * COUNT and UNTIL (local date or date-time, a trailing Z is ignored).
+ * Example: {@code FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,WE;COUNT=24}
+ *
+ * Expansion is deterministic from the series start, so any window of
+ * occurrences can be produced again later without storing the whole series.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY
+    }
+
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+            "MO", DayOfWeek.MONDAY,
+            "TU", DayOfWeek.TUESDAY,
+            "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY,
+            "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY
+    );
+
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer count;
+    private final LocalDateTime until;
+
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer count, LocalDateTime until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.count = count;
+        this.until = until;
+    }
+
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new InvalidRecurrenceException("Recurrence rule is required");
+        }
+
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer count = null;
+        LocalDateTime until = null;
+
+        for (String part : body.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new InvalidRecurrenceException("Malformed recurrence part: " + part);
+            }
+            String name = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+
+            switch (name) {
+                case "FREQ" -> {
+                    try {
+                        frequency = Frequency.valueOf(value);
+                    } catch (IllegalArgumentException e) {
+                        throw new InvalidRecurrenceException("Unsupported FREQ: " + value + ". Valid options: DAILY, WEEKLY");
+                    }
+                }
+                case "INTERVAL" -> interval = positiveInt(name, value);
+                case "COUNT" -> count = positiveInt(name, value);
+                case "UNTIL" -> until = parseUntil(value);
+                case "BYDAY" -> {
+                    for (String day : value.split(",")) {
+                        DayOfWeek dayOfWeek = DAYS.get(day.trim());
+                        if (dayOfWeek == null) {
+                            throw new InvalidRecurrenceException("Unsupported BYDAY value: " + day);
+                        }
+                        byDay.add(dayOfWeek);
+                    }
+                }
+                default -> throw new InvalidRecurrenceException("Unsupported recurrence part: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new InvalidRecurrenceException("FREQ is required");
+        }
+        if (count != null && until != null) {
+            throw new InvalidRecurrenceException("COUNT and UNTIL cannot be combined");
+        }
+
+        return new RecurrenceRule(frequency, interval, byDay, count, until);
+    }
+
+    /**
+     * Returns the start of every occurrence in [from, to), in ascending order.
+     *
+     * COUNT is always evaluated from {@code seriesStart}, so windows
+     * can be expanded independently of each other.
+     */
+    public List<LocalDateTime> occurrences(LocalDateTime seriesStart, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> result = new ArrayList<>();
+        int emitted = 0;
+
+        for (LocalDate period = periodStart(seriesStart); ; period = nextPeriod(period)) {
+            // Also ends rules whose BYDAY never matches (e.g. DAILY;INTERVAL=7 on another weekday)
+            if (!period.atStartOfDay().isBefore(to)) {
+                return result;
+            }
+            for (LocalDateTime candidate : candidatesIn(period, seriesStart)) {
+                if (candidate.isBefore(seriesStart)) {
+                    continue;
+                }
+                if (until != null && candidate.isAfter(until)) {
+                    return result;
+                }
+                if (count != null && emitted >= count) {
+                    return result;
+                }
+                if (!candidate.isBefore(to)) {
+                    return result;
+                }
+                emitted++;
+                if (!candidate.isBefore(from)) {
+                    result.add(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the series produces at least one occurrence at or after {@code instant}.
+     */
+    public boolean hasOccurrencesFrom(LocalDateTime seriesStart, LocalDateTime instant) {
+        if (count == null && until == null) {
+            return true;
+        }
+        if (until != null) {
+            return !until.isBefore(instant);
+        }
+        // A window of one interval period is enough to find the next occurrence, if any
+        LocalDateTime horizon = instant.plusWeeks((long) interval + 1);
+        return !occurrences(seriesStart, instant, horizon).isEmpty();
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    private LocalDate periodStart(LocalDateTime seriesStart) {
+        LocalDate day = seriesStart.toLocalDate();
+        return frequency == Frequency.WEEKLY
+                ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : day;
+    }
+
+    private LocalDate nextPeriod(LocalDate period) {
+        return frequency == Frequency.WEEKLY
+                ? period.plusWeeks(interval)
+                : period.plusDays(interval);
+    }
+
+    private List<LocalDateTime> candidatesIn(LocalDate period, LocalDateTime seriesStart) {
+        if (frequency == Frequency.DAILY) {
+            return byDay.isEmpty() || byDay.contains(period.getDayOfWeek())
+                    ? List.of(period.atTime(seriesStart.toLocalTime()))
+                    : List.of();
+        }
+
+        // WEEKLY: without BYDAY the series repeats on the weekday it starts on
+        Set<DayOfWeek> days = byDay.isEmpty() ? EnumSet.of(seriesStart.getDayOfWeek()) : byDay;
+        List<LocalDateTime> candidates = new ArrayList<>(days.size());
+        for (DayOfWeek day : days) { // EnumSet iterates Monday..Sunday
+            candidates.add(period.with(TemporalAdjusters.nextOrSame(day)).atTime(seriesStart.toLocalTime()));
+        }
+        return candidates;
+    }
+
+    private static int positiveInt(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 1) {
+                throw new NumberFormatException();
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new InvalidRecurrenceException(name + " must be a positive integer");
+        }
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        String local = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            return local.length() == 8
+                    ? LocalDate.parse(local, UNTIL_DATE).atTime(23, 59, 59)
+                    : LocalDateTime.parse(local, UNTIL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRecurrenceException("UNTIL must be formatted as yyyyMMdd or yyyyMMdd'T'HHmmss");
+        }
+    }
+}
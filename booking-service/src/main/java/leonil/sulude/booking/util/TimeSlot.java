@@ -0,0 +1,52 @@
+package leonil.sulude.booking.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Half-open time interval [start, end).
+ */
+public record TimeSlot(LocalDateTime start, LocalDateTime end) {
+
+    public boolean overlaps(TimeSlot other) {
+        return start.isBefore(other.end) && end.isAfter(other.start);
+    }
+
+    /**
+     * Returns the candidates that overlap any busy slot.
+     *
+     * Both lists are swept once in start order: busy slots enter a min-heap
+     * (by end) when they start before the current candidate ends, and leave it
+     * once they end before the current candidate starts. Whatever remains in
+     * the heap overlaps the candidate. Runs in O((n + m) log m) instead of
+     * comparing every pair.
+     *
+     * @param candidates slots to check, sorted by start and by end
+     *                   (always true for occurrences of one series, which share a duration)
+     * @param busy       occupied slots, in any order
+     */
+    public static List<TimeSlot> conflicts(List<TimeSlot> candidates, List<TimeSlot> busy) {
+        List<TimeSlot> sortedBusy = new ArrayList<>(busy);
+        sortedBusy.sort(Comparator.comparing(TimeSlot::start));
+
+        PriorityQueue<TimeSlot> active = new PriorityQueue<>(Comparator.comparing(TimeSlot::end));
+        List<TimeSlot> conflicts = new ArrayList<>();
+        int next = 0;
+
+        for (TimeSlot candidate : candidates) {
+            while (next < sortedBusy.size() && sortedBusy.get(next).start().isBefore(candidate.end())) {
+                active.add(sortedBusy.get(next++));
+            }
+            while (!active.isEmpty() && !active.peek().end().isAfter(candidate.start())) {
+                active.poll();
+            }
+            if (!active.isEmpty()) {
+                conflicts.add(candidate);
+            }
+        }
+        return conflicts;
+    }
+}
@@ -2,12 +2,11 @@ package leonil.sulude.booking.validation;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import leonil.sulude.booking.dto.BookingRequestDTO;
 
-public class EndAfterStartValidator implements ConstraintValidator<EndAfterStart, BookingRequestDTO> {
+public class EndAfterStartValidator implements ConstraintValidator<EndAfterStart, TimeRange> {
 
     @Override
-    public boolean isValid(BookingRequestDTO dto, ConstraintValidatorContext context) {
+    public boolean isValid(TimeRange dto, ConstraintValidatorContext context) {
         if (dto.startTime() == null || dto.endTime() == null) {
             return true;
         }
@@ -0,0 +1,13 @@
+package leonil.sulude.booking.validation;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request types carrying a start/end pair checked by {@link EndAfterStart}.
+ */
+public interface TimeRange {
+
+    LocalDateTime startTime();
+
+    LocalDateTime endTime();
+}
@@ -0,0 +1,96 @@
+-- Equality on UUID columns inside the GiST exclusion constraint below
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE bookings (
+    id             UUID         NOT NULL,
+    resource_id    UUID         NOT NULL,
+    customer_name  VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    start_time     TIMESTAMP(6) NOT NULL,
+    end_time       TIMESTAMP(6) NOT NULL,
+    status         VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    series_id      UUID,
+    CONSTRAINT pk_bookings PRIMARY KEY (id),
+    CONSTRAINT ck_bookings_status CHECK (status IN ('PENDING', 'CONFIRMED', 'CANCELLED')),
+    -- Two concurrent requests can both pass the overlap check; the second insert fails here (23P01 -> 409)
+    CONSTRAINT ex_bookings_no_overlap
+        EXCLUDE USING gist (resource_id WITH =, tsrange(start_time, end_time) WITH &&)
+        WHERE (status <> 'CANCELLED')
+);
+
+-- "My bookings" listing: equality on customer, range/order on start time
+CREATE INDEX idx_bookings_customer_start ON bookings (customer_email, start_time);
+
+-- Per-resource listing and overlap checks (existsOverlappingBooking, findOverlapping)
+CREATE INDEX idx_bookings_resource_start ON bookings (resource_id, start_time);
+
+-- Occurrences of a recurring series
+CREATE INDEX idx_bookings_series_start ON bookings (series_id, start_time);
+
+-- Expiry of unconfirmed bookings: status = PENDING AND created_at < cutoff
+CREATE INDEX idx_bookings_status_created ON bookings (status, created_at);
+
+CREATE TABLE booking_series (
+    id                  UUID         NOT NULL,
+    resource_id         UUID         NOT NULL,
+    customer_name       VARCHAR(255) NOT NULL,
+    customer_email      VARCHAR(255) NOT NULL,
+    first_start_time    TIMESTAMP(6) NOT NULL,
+    duration_in_minutes INTEGER      NOT NULL,
+    recurrence_rule     VARCHAR(255) NOT NULL,
+    materialized_until  TIMESTAMP(6) NOT NULL,
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_booking_series PRIMARY KEY (id)
+);
+
+-- Series whose occurrences must be extended past the horizon
+CREATE INDEX idx_booking_series_active_until ON booking_series (active, materialized_until);
+
+-- Read model behind the calendar endpoint
+CREATE TABLE calendar_entries (
+    id             UUID         NOT NULL,
+    resource_id    UUID         NOT NULL,
+    day            DATE         NOT NULL,
+    start_time     TIMESTAMP(6) NOT NULL,
+    end_time       TIMESTAMP(6) NOT NULL,
+    type           VARCHAR(255) NOT NULL,
+    booking_id     UUID,
+    booking_status VARCHAR(255),
+    customer_name  VARCHAR(255),
+    CONSTRAINT pk_calendar_entries PRIMARY KEY (id),
+    CONSTRAINT ck_calendar_entries_type CHECK (type IN ('BOOKING', 'UNAVAILABLE')),
+    CONSTRAINT ck_calendar_entries_booking_status CHECK (booking_status IN ('PENDING', 'CONFIRMED', 'CANCELLED'))
+);
+
+-- Calendar reads: resources IN (...) AND day BETWEEN ...; also replacing a resource's periods
+CREATE INDEX idx_calendar_resource_day ON calendar_entries (resource_id, day);
+
+-- Projection updates when a booking changes
+CREATE INDEX idx_calendar_booking ON calendar_entries (booking_id);
+
+CREATE TABLE waitlist_entries (
+    id             UUID         NOT NULL,
+    resource_id    UUID         NOT NULL,
+    customer_name  VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    start_time     TIMESTAMP(6) NOT NULL,
+    end_time       TIMESTAMP(6) NOT NULL,
+    status         VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    promoted_at    TIMESTAMP(6),
+    booking_id     UUID,
+    CONSTRAINT pk_waitlist_entries PRIMARY KEY (id),
+    CONSTRAINT ck_waitlist_entries_status CHECK (status IN ('WAITING', 'PROMOTED', 'CANCELLED', 'EXPIRED'))
+);
+
+-- Queue of a slot: waiting entries overlapping a freed interval, position in the queue
+CREATE INDEX idx_waitlist_resource_status_start ON waitlist_entries (resource_id, status, start_time);
+
+-- Expiry of waiting entries whose slot has started
+CREATE INDEX idx_waitlist_status_start ON waitlist_entries (status, start_time);
+
+-- One waiting entry per customer and slot: concurrent joins cannot both insert
+CREATE UNIQUE INDEX ux_waitlist_waiting_customer ON waitlist_entries (resource_id, start_time, end_time, lower(customer_email))
+    WHERE status = 'WAITING';
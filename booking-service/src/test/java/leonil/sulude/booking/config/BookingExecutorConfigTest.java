@@ -0,0 +1,171 @@
+package leonil.sulude.booking.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import leonil.sulude.booking.feignclient.CatalogCallGuard;
+import leonil.sulude.booking.util.AimdConcurrencyLimiter;
+import leonil.sulude.booking.util.HedgeBudget;
+import leonil.sulude.booking.util.LatencyTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BookingExecutorConfig.
+ *
+ * These tests validate:
+ * - Catalog calls run on catalogCallExecutor are traced as children of the request span
+ * - Hedged catalog calls, launched from the hedge timer, keep the same parent
+ * - The correlationId in the MDC reaches the worker thread
+ */
+class BookingExecutorConfigTest {
+
+    private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+    private SdkTracerProvider tracerProvider;
+    private ObservationRegistry observationRegistry;
+    private ThreadPoolTaskExecutor catalogCallExecutor;
+
+    @BeforeEach
+    void setup() {
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(new SpanProcessor() {
+            @Override
+            public void onStart(Context parentContext, ReadWriteSpan span) {
+            }
+
+            @Override
+            public boolean isStartRequired() {
+                return false;
+            }
+
+            @Override
+            public void onEnd(ReadableSpan span) {
+                spans.add(span.toSpanData());
+            }
+
+            @Override
+            public boolean isEndRequired() {
+                return true;
+            }
+        }).build();
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), new OtelCurrentTraceContext(), event -> {});
+
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+
+        catalogCallExecutor = new BookingExecutorConfig().catalogCallExecutor(2, 8);
+        catalogCallExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogCallExecutor.shutdown();
+        tracerProvider.close();
+        MDC.clear();
+    }
+
+    /**
+     * Tests that a span started on catalogCallExecutor (as the Feign client
+     * does) is a child of the request span and sees the request's correlationId.
+     */
+    @Test
+    void shouldParentCatalogSpanOnRequestSpan() throws Exception {
+        AtomicReference<String> workerCorrelationId = new AtomicReference<>();
+        MDC.put("correlationId", "abc-123");
+
+        SpanData request = inRequest(() -> catalogCallExecutor.submit(() -> {
+            workerCorrelationId.set(MDC.get("correlationId"));
+            catalogCall();
+        }).get(2, TimeUnit.SECONDS));
+
+        SpanData catalog = span("catalog.call");
+        assertEquals(request.getTraceId(), catalog.getTraceId());
+        assertEquals(request.getSpanId(), catalog.getParentSpanId());
+        assertEquals("abc-123", workerCorrelationId.get());
+    }
+
+    /**
+     * Tests that a hedged attempt, submitted by the hedge timer thread rather
+     * than by the request thread, is still a child of the request span.
+     */
+    @Test
+    void shouldParentHedgedCatalogSpanOnRequestSpan() throws Exception {
+        CountDownLatch releaseSlowCall = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        try (CatalogCallGuard guard = new CatalogCallGuard(catalogCallExecutor,
+                new AimdConcurrencyLimiter(16, 4, 48, 0.9, TimeUnit.SECONDS.toNanos(1)),
+                new LatencyTracker(1024, 0.95, 100, Duration.ofMillis(50)),
+                new HedgeBudget(0.1, 10), 0, new SimpleMeterRegistry())) {
+
+            SpanData request = inRequest(() -> guard.call(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    await(releaseSlowCall);
+                    return "slow";
+                }
+                catalogCall();
+                return "hedge";
+            }).get(2, TimeUnit.SECONDS));
+
+            releaseSlowCall.countDown();
+            assertEquals(2, attempts.get());
+            assertEquals(request.getSpanId(), span("catalog.call").getParentSpanId());
+        }
+    }
+
+    private SpanData inRequest(ThrowingRunnable work) throws Exception {
+        Observation request = Observation.start("http.server.requests", observationRegistry);
+        try (Observation.Scope scope = request.openScope()) {
+            work.run();
+        } finally {
+            request.stop();
+        }
+        return span("http.server.requests");
+    }
+
+    private void catalogCall() {
+        Observation.createNotStarted("catalog.call", observationRegistry).observe(() -> {});
+    }
+
+    private SpanData span(String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span " + name + " in " + spans));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
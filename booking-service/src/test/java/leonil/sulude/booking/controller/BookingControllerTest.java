@@ -2,6 +2,7 @@ package leonil.sulude.booking.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import leonil.sulude.booking.controller.BookingController;
+import leonil.sulude.booking.dto.BookingPageDTO;
 import leonil.sulude.booking.dto.BookingRequestDTO;
 import leonil.sulude.booking.dto.BookingResponseDTO;
 import leonil.sulude.booking.model.BookingStatus;
@@ -49,10 +50,11 @@ class BookingControllerTest {
     }
 
     /**
-     * Tests retrieving all bookings.
+     * Tests that GET /api/bookings without parameters returns the first page
+     * of the caller's bookings rather than every booking.
      */
     @Test
-    void shouldReturnAllBookings() throws Exception {
+    void shouldReturnFirstPageWithoutParameters() throws Exception {
 
         BookingResponseDTO booking = new BookingResponseDTO(
                 UUID.randomUUID(),
@@ -68,13 +70,58 @@ class BookingControllerTest {
                 null
         );
 
-        when(service.getAll()).thenReturn(List.of(booking));
+        when(service.search(Mockito.any(), Mockito.eq("Bearer token")))
+                .thenReturn(new BookingPageDTO(List.of(booking), null));
 
-        mockMvc.perform(get("/api/bookings"))
+        mockMvc.perform(get("/api/bookings").header("Authorization", "Bearer token"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(BookingController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$[0].customerName").value("John Doe"));
     }
 
+    /**
+     * Tests that a filtered keyset page exposes the next cursor in a response header.
+     */
+    @Test
+    void shouldReturnFilteredPageWithNextCursor() throws Exception {
+
+        UUID resourceId = UUID.randomUUID();
+
+        BookingResponseDTO booking = new BookingResponseDTO(
+                UUID.randomUUID(),
+                resourceId,
+                "John Doe",
+                "john@test.com",
+                LocalDateTime.now(),
+                LocalDateTime.now().plusHours(1),
+                BookingStatus.PENDING,
+                LocalDateTime.now(),
+                "Haircut",
+                null,
+                null
+        );
+
+        when(service.search(Mockito.any(), Mockito.any()))
+                .thenReturn(new BookingPageDTO(List.of(booking), "next-page"));
+
+        mockMvc.perform(get("/api/bookings")
+                        .param("resourceId", resourceId.toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(BookingController.NEXT_CURSOR_HEADER, "next-page"))
+                .andExpect(jsonPath("$[0].customerName").value("John Doe"));
+    }
+
+    /**
+     * Tests that an out-of-range page size is rejected.
+     */
+    @Test
+    void shouldReturn400WhenLimitTooLarge() throws Exception {
+
+        mockMvc.perform(get("/api/bookings").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
     /**
      * Tests retrieving a booking by ID when it exists.
      */
@@ -172,6 +219,20 @@ class BookingControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    /**
+     * Tests cancelling a booking that does not exist.
+     */
+    @Test
+    void shouldReturn404WhenCancellingNonExistingBooking() throws Exception {
+
+        UUID id = UUID.randomUUID();
+
+        when(service.cancel(id)).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/bookings/" + id + "/cancel"))
+                .andExpect(status().isNotFound());
+    }
+
     /**
      * Tests deleting a booking that does not exist.
      */
@@ -0,0 +1,161 @@
+package leonil.sulude.booking.event;
+
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.service.CalendarService;
+import leonil.sulude.booking.shard.Shards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CalendarProjectionListener.
+ *
+ * These tests validate:
+ * - The projection is written only after the booking transaction commits
+ * - A failing projection update does not roll back the booking transaction
+ * - A rolled back booking never reaches the calendar
+ * - Bookings saved outside a transaction are projected right away
+ */
+class CalendarProjectionListenerTest {
+
+    private static final CalendarService calendarService = mock(CalendarService.class);
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate transactions;
+
+    @BeforeEach
+    void setup() {
+        reset(calendarService);
+        context = new AnnotationConfigApplicationContext(ListenerConfig.class);
+        transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Tests that the calendar is not touched while the booking transaction
+     * is still open, and is updated once it commits.
+     */
+    @Test
+    void shouldProjectBookingAfterCommit() {
+        Booking booking = booking();
+
+        transactions.executeWithoutResult(status -> {
+            context.publishEvent(BookingChangedEvent.upserted(booking));
+            verifyNoInteractions(calendarService);
+        });
+
+        verify(calendarService).applyBooking(booking);
+    }
+
+    /**
+     * Tests that a projection failure is contained: the booking transaction
+     * commits and its caller sees no exception.
+     */
+    @Test
+    void shouldCommitBookingWhenProjectionFails() {
+        doThrow(new IllegalStateException("calendar_entries unavailable")).when(calendarService).applyBooking(any());
+
+        assertDoesNotThrow(() -> transactions.executeWithoutResult(
+                status -> context.publishEvent(BookingChangedEvent.upserted(booking()))));
+
+        assertEquals(1, context.getBean(TestTransactionManager.class).commits);
+    }
+
+    /**
+     * Tests that a booking whose transaction rolls back is not projected.
+     */
+    @Test
+    void shouldNotProjectRolledBackBooking() {
+        transactions.executeWithoutResult(status -> {
+            context.publishEvent(BookingChangedEvent.upserted(booking()));
+            status.setRollbackOnly();
+        });
+
+        verifyNoInteractions(calendarService);
+    }
+
+    /**
+     * Tests that an event published without a transaction (single create,
+     * whose save already committed) is projected immediately.
+     */
+    @Test
+    void shouldProjectImmediatelyWithoutTransaction() {
+        Booking booking = booking();
+
+        context.publishEvent(BookingChangedEvent.removed(booking));
+
+        verify(calendarService).removeBooking(booking.getId());
+    }
+
+    private Booking booking() {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setResourceId(UUID.randomUUID());
+        booking.setCustomerName("John");
+        booking.setCustomerEmail("john@test.com");
+        booking.setStartTime(LocalDateTime.of(2030, 1, 10, 9, 0));
+        booking.setEndTime(LocalDateTime.of(2030, 1, 10, 10, 0));
+        booking.setStatus(BookingStatus.PENDING);
+        return booking;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class ListenerConfig {
+
+        @Bean
+        TestTransactionManager transactionManager() {
+            return new TestTransactionManager();
+        }
+
+        @Bean
+        CalendarProjectionListener calendarProjectionListener() {
+            return new CalendarProjectionListener(calendarService, Shards.single());
+        }
+    }
+
+    // Drives transaction synchronization without a database
+    static class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+        int commits;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -113,6 +114,34 @@ class GlobalExceptionHandlerStandaloneTest {
                 .andExpect(jsonPath("$.error").value("Data Integrity Violation"));
     }
 
+    /**
+     * Tests that an exclusion constraint violation (overlapping bookings
+     * rejected by the database) is reported as a conflict.
+     */
+    @Test
+    void shouldReturn409WhenExclusionConstraintIsViolated() throws Exception {
+
+        when(service.create(any()))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        String validJson = """
+        {
+          "resourceId": "%s",
+          "customerName": "John",
+          "customerEmail": "john@test.com",
+          "startTime": "2030-01-01T10:00:00",
+          "endTime": "2030-01-01T11:00:00"
+        }
+        """.formatted(UUID.randomUUID());
+
+        mockMvc.perform(post("/api/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(validJson))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Booking Conflict"));
+    }
+
     /**
      * Tests booking conflict exception handling.
      */
@@ -171,7 +200,7 @@ class GlobalExceptionHandlerStandaloneTest {
     @Test
     void shouldReturn500ForUnexpectedErrors() throws Exception {
 
-        when(service.getAll()).thenThrow(new RuntimeException("Unexpected"));
+        when(service.search(any(), any())).thenThrow(new RuntimeException("Unexpected"));
 
         mockMvc.perform(get("/api/bookings"))
                 .andExpect(status().isInternalServerError())
@@ -0,0 +1,181 @@
+package leonil.sulude.booking.feignclient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leonil.sulude.booking.exception.CatalogOverloadedException;
+import leonil.sulude.booking.util.AimdConcurrencyLimiter;
+import leonil.sulude.booking.util.HedgeBudget;
+import leonil.sulude.booking.util.LatencyTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogCallGuard.
+ *
+ * These tests validate hedging of slow calls, the hedge budget,
+ * load shedding by the concurrency limit, which also bounds hedges,
+ * and hedges rejected by a saturated executor.
+ */
+class CatalogCallGuardTest {
+
+    private ExecutorService executor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final CountDownLatch releaseSlowCall = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowCall.countDown();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests that a call slower than the hedge delay is hedged
+     * and the faster answer is returned.
+     */
+    @Test
+    void shouldReturnHedgeWhenFirstAttemptIsSlow() throws InterruptedException {
+        CatalogCallGuard guard = guard(new AimdConcurrencyLimiter(16, 4, 48, 0.9, TimeUnit.SECONDS.toNanos(1)),
+                new HedgeBudget(0.1, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = guard.call(() -> attempts.incrementAndGet() == 1 ? slowCall() : "hedge")
+                .orTimeout(2, TimeUnit.SECONDS)
+                .join();
+
+        assertEquals("hedge", result);
+        // The winner is counted right after the result completes
+        for (int i = 0; i < 100 && meterRegistry.counter(CatalogCallGuard.HEDGE_METRIC, "outcome", "won").count() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, meterRegistry.counter(CatalogCallGuard.HEDGE_METRIC, "outcome", "sent").count());
+        assertEquals(1, meterRegistry.counter(CatalogCallGuard.HEDGE_METRIC, "outcome", "won").count());
+    }
+
+    /**
+     * Tests that no hedge is sent once the hedge budget is spent.
+     */
+    @Test
+    void shouldNotHedgeWhenBudgetIsExhausted() throws InterruptedException {
+        HedgeBudget budget = new HedgeBudget(0.0, 1);
+        assertTrue(budget.tryAcquire());
+        CatalogCallGuard guard = guard(new AimdConcurrencyLimiter(16, 4, 48, 0.9, TimeUnit.SECONDS.toNanos(1)), budget);
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> call = guard.call(() -> {
+            attempts.incrementAndGet();
+            return slowCall();
+        });
+        Thread.sleep(300);
+        releaseSlowCall.countDown();
+
+        assertEquals("slow", call.orTimeout(2, TimeUnit.SECONDS).join());
+        assertEquals(1, attempts.get());
+        assertEquals(1, meterRegistry.counter(CatalogCallGuard.HEDGE_METRIC, "outcome", "budget_exhausted").count());
+    }
+
+    /**
+     * Tests that calls above the concurrency limit are rejected immediately.
+     */
+    @Test
+    void shouldShedCallsAboveConcurrencyLimit() {
+        CatalogCallGuard guard = guard(new AimdConcurrencyLimiter(1, 1, 1, 0.9, TimeUnit.SECONDS.toNanos(1)),
+                new HedgeBudget(0.0, 1));
+
+        CompletableFuture<String> first = guard.call(this::slowCall);
+        CompletableFuture<String> second = guard.call(() -> "fast");
+
+        CompletionException ex = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(CatalogOverloadedException.class, ex.getCause());
+        assertFalse(first.isDone());
+        assertEquals(1, meterRegistry.counter("catalog.concurrency.rejected").count());
+    }
+
+    /**
+     * Tests that a hedge needs a free slot under the concurrency limit,
+     * so in-flight attempts never exceed it.
+     */
+    @Test
+    void shouldNotHedgeAboveConcurrencyLimit() throws InterruptedException {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 1, 0.9, TimeUnit.SECONDS.toNanos(1));
+        CatalogCallGuard guard = guard(limiter, new HedgeBudget(0.1, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> call = guard.call(() -> {
+            attempts.incrementAndGet();
+            return slowCall();
+        });
+        Thread.sleep(300);
+
+        assertEquals(1, attempts.get());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(1, meterRegistry.counter(CatalogCallGuard.HEDGE_METRIC, "outcome", "limited").count());
+
+        releaseSlowCall.countDown();
+        assertEquals("slow", call.orTimeout(2, TimeUnit.SECONDS).join());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Tests that a hedge rejected by the saturated executor is counted
+     * and the first attempt still answers.
+     */
+    @Test
+    void shouldCountHedgeRejectedBySaturatedExecutor() throws InterruptedException {
+        ExecutorService singleThread = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+        try {
+            AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(16, 4, 48, 0.9, TimeUnit.SECONDS.toNanos(1));
+            CatalogCallGuard guard = guard(singleThread, limiter, new HedgeBudget(0.1, 10));
+
+            CompletableFuture<String> call = guard.call(this::slowCall);
+            Thread.sleep(300);
+
+            assertEquals(1, meterRegistry.counter(CatalogCallGuard.HEDGE_METRIC, "outcome", "rejected").count());
+            assertEquals(1, limiter.getInFlight());
+
+            releaseSlowCall.countDown();
+            assertEquals("slow", call.orTimeout(2, TimeUnit.SECONDS).join());
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    private CatalogCallGuard guard(AimdConcurrencyLimiter limiter, HedgeBudget budget) {
+        return guard(executor, limiter, budget);
+    }
+
+    private CatalogCallGuard guard(ExecutorService executor, AimdConcurrencyLimiter limiter, HedgeBudget budget) {
+        return new CatalogCallGuard(executor, limiter,
+                new LatencyTracker(1024, 0.95, 100, Duration.ofMillis(50)),
+                budget, 0, meterRegistry);
+    }
+
+    private String slowCall() {
+        try {
+            releaseSlowCall.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "slow";
+    }
+}
@@ -0,0 +1,141 @@
+package leonil.sulude.booking.feignclient;
+
+import feign.FeignException;
+import feign.Request;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import leonil.sulude.booking.util.AimdConcurrencyLimiter;
+import leonil.sulude.booking.util.HedgeBudget;
+import leonil.sulude.booking.util.LatencyTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogResourceClient.
+ *
+ * Resilience annotations are applied by the Spring proxy; these tests cover
+ * the behaviour of the wrapped call itself.
+ */
+class CatalogResourceClientTest {
+
+    @Mock
+    private CatalogClient catalogClient;
+
+    private CatalogResourceClient client;
+
+    private final UUID resourceId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        // Catalog calls run inline; the hedge delay is long enough that no hedge is sent
+        client = new CatalogResourceClient(catalogClient, new CatalogCallGuard(
+                Runnable::run,
+                new AimdConcurrencyLimiter(16, 4, 48, 0.9, TimeUnit.SECONDS.toNanos(1)),
+                new LatencyTracker(1024, 0.95, 100, Duration.ofSeconds(30)),
+                new HedgeBudget(0.1, 10),
+                0,
+                new SimpleMeterRegistry()));
+    }
+
+    /**
+     * Tests that the resource returned by the catalog is passed through.
+     */
+    @Test
+    void shouldReturnResourceFromCatalog() {
+        ServiceResourceResponseDTO resource = new ServiceResourceResponseDTO(
+                resourceId, "Yoga class", new BigDecimal("10.00"), 60, true, List.of());
+        when(catalogClient.getResourceById(resourceId)).thenReturn(resource);
+
+        assertEquals(resource, CatalogResourceClient.await(client.getResource(resourceId)));
+    }
+
+    /**
+     * Tests that a 404 from the catalog completes with null instead of failing,
+     * so it is neither retried nor counted by the circuit breaker.
+     */
+    @Test
+    void shouldCompleteWithNullWhenResourceNotFound() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/resources/" + resourceId,
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        when(catalogClient.getResourceById(resourceId))
+                .thenThrow(new FeignException.NotFound("Not Found", request, null, Map.of()));
+
+        CompletableFuture<ServiceResourceResponseDTO> call = client.getResource(resourceId);
+
+        assertFalse(call.isCompletedExceptionally());
+        assertNull(CatalogResourceClient.await(call));
+    }
+
+    /**
+     * Tests that a batch lookup is keyed by resource ID and skips the call when empty.
+     */
+    @Test
+    void shouldReturnBatchKeyedById() {
+        ServiceResourceResponseDTO resource = new ServiceResourceResponseDTO(
+                resourceId, "Yoga class", new BigDecimal("10.00"), 60, true, List.of());
+        when(catalogClient.getResourcesByIds(Set.of(resourceId))).thenReturn(List.of(resource));
+
+        assertEquals(Map.of(resourceId, resource), CatalogResourceClient.await(client.getResources(Set.of(resourceId))));
+        assertEquals(Map.of(), CatalogResourceClient.await(client.getResources(Set.of())));
+        verify(catalogClient, times(1)).getResourcesByIds(any());
+    }
+
+    /**
+     * Tests that a set larger than catalog's batch limit is sent as several
+     * batches of at most MAX_BATCH_SIZE IDs and merged into one map.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSplitLargeBatchLookups() {
+        Set<UUID> resourceIds = IntStream.range(0, 2 * CatalogResourceClient.MAX_BATCH_SIZE + 500)
+                .mapToObj(i -> new UUID(0, i))
+                .collect(Collectors.toSet());
+        when(catalogClient.getResourcesByIds(any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> new ServiceResourceResponseDTO(id, "Room", new BigDecimal("10.00"), 60, true, List.of()))
+                    .toList();
+        });
+
+        Map<UUID, ServiceResourceResponseDTO> resources = CatalogResourceClient.await(client.getResources(resourceIds));
+
+        assertEquals(resourceIds, resources.keySet());
+        ArgumentCaptor<Collection<UUID>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(catalogClient, times(3)).getResourcesByIds(batches.capture());
+        batches.getAllValues().forEach(batch -> assertTrue(batch.size() <= CatalogResourceClient.MAX_BATCH_SIZE));
+    }
+
+    /**
+     * Tests that await rethrows the original exception of a failed call
+     * instead of a CompletionException.
+     */
+    @Test
+    void shouldUnwrapFailureWhenAwaiting() {
+        CompletableFuture<ServiceResourceResponseDTO> failed = CompletableFuture.failedFuture(
+                new ResourceUnavailableException("Catalog service unavailable"));
+
+        assertThrows(ResourceUnavailableException.class, () -> CatalogResourceClient.await(failed));
+    }
+}
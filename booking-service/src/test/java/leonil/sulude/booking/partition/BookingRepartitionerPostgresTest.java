@@ -0,0 +1,218 @@
+package leonil.sulude.booking.partition;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of BookingRepartitioner against a real PostgreSQL.
+ *
+ * These tests validate:
+ * - Inserts, updates and deletes made while rows are copied reach the new table
+ *   through the mirror trigger, before and after the copy cursor
+ * - Cutover swaps the tables: bookings is partitioned, the old table is kept
+ *   as bookings_unpartitioned and the trigger is gone
+ * - Overlapping active bookings are rejected on the plain table (V1) and on the partitions
+ * - Overlapping rows already in a table without the constraint stop the run before any DDL
+ */
+class BookingRepartitionerPostgresTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    private final BookingRepartitioner repartitioner =
+            new BookingRepartitioner(dataSource, 10, Duration.ZERO, Duration.ofSeconds(5));
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void migrate() throws SQLException {
+        execute("DROP SCHEMA public CASCADE");
+        execute("CREATE SCHEMA public");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    /**
+     * Tests that writes made between copy batches, on rows already copied and
+     * on rows not copied yet, are all present after the swap.
+     */
+    @Test
+    void shouldMirrorWritesMadeWhileCopyingAndSwapTables() throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (int resource = 0; resource < 5; resource++) {
+            UUID resourceId = UUID.randomUUID();
+            for (int slot = 0; slot < 5; slot++) {
+                ids.add(insert(resourceId, slot, "CONFIRMED"));
+            }
+        }
+        ids.sort(Comparator.naturalOrder()); // Rows are copied in id order
+
+        UUID copiedFirst = ids.get(0);
+        UUID notCopiedYet = ids.get(ids.size() - 1);
+        UUID renamed = ids.get(ids.size() - 2);
+        AtomicBoolean wrote = new AtomicBoolean();
+        UUID[] inserted = new UUID[1];
+
+        repartitioner.repartition(4, copied -> {
+            if (wrote.compareAndSet(false, true)) {
+                // After the first batch of 10: regular traffic on the plain table
+                try {
+                    inserted[0] = insert(UUID.randomUUID(), 0, "PENDING");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                update("UPDATE bookings SET status = 'CANCELLED' WHERE id = ?", copiedFirst);
+                update("DELETE FROM bookings WHERE id = ?", notCopiedYet);
+                update("UPDATE bookings SET customer_name = 'Renamed' WHERE id = ?", renamed);
+            }
+        });
+
+        assertTrue(wrote.get());
+        assertEquals(4, repartitioner.partitions());
+        assertEquals("p", queryString("SELECT relkind::text FROM pg_class WHERE oid = 'bookings'::regclass"));
+        assertEquals(0, queryLong("SELECT count(*) FROM pg_trigger WHERE tgname = 'bookings_mirror'"));
+
+        // Same rows on both sides of the swap: the old table received the writes directly
+        assertEquals(25, queryLong("SELECT count(*) FROM bookings"));
+        assertEquals(0, queryLong("""
+                SELECT count(*) FROM (
+                    (SELECT * FROM bookings EXCEPT SELECT * FROM bookings_unpartitioned)
+                    UNION ALL
+                    (SELECT * FROM bookings_unpartitioned EXCEPT SELECT * FROM bookings)
+                ) difference
+                """));
+
+        assertEquals("CANCELLED", queryString("SELECT status FROM bookings WHERE id = ?", copiedFirst));
+        assertEquals("Renamed", queryString("SELECT customer_name FROM bookings WHERE id = ?", renamed));
+        assertEquals("PENDING", queryString("SELECT status FROM bookings WHERE id = ?", inserted[0]));
+        assertEquals(0, queryLong("SELECT count(*) FROM bookings WHERE id = ?", notCopiedYet));
+    }
+
+    /**
+     * Tests that an overlapping active booking of the same resource is rejected by
+     * the exclusion constraint before and after partitioning, while a cancelled one
+     * is accepted.
+     */
+    @Test
+    void shouldRejectOverlappingActiveBookingBeforeAndAfterRepartitioning() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        insert(resourceId, 0, "CONFIRMED");
+
+        SQLException before = assertThrows(SQLException.class, () -> insert(resourceId, 0, "PENDING"));
+        assertEquals("23P01", before.getSQLState());
+
+        repartitioner.repartition(2, copied -> {});
+
+        SQLException after = assertThrows(SQLException.class, () -> insert(resourceId, 0, "PENDING"));
+        assertEquals("23P01", after.getSQLState());
+        insert(resourceId, 0, "CANCELLED");
+        insert(UUID.randomUUID(), 0, "PENDING"); // Other resource, same slot
+        assertEquals(3, queryLong("SELECT count(*) FROM bookings"));
+    }
+
+    /**
+     * Tests that overlapping rows in a bookings table lacking the exclusion constraint
+     * are reported with their IDs before bookings_partitioned is created.
+     */
+    @Test
+    void shouldReportOverlappingRowsBeforePreparing() throws Exception {
+        execute("ALTER TABLE bookings DROP CONSTRAINT ex_bookings_no_overlap"); // e.g. restored from an old dump
+        UUID resourceId = UUID.randomUUID();
+        UUID first = insert(resourceId, 0, "CONFIRMED");
+        UUID second = insert(resourceId, 0, "PENDING");
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> repartitioner.repartition(2, copied -> {}));
+
+        assertTrue(failure.getMessage().startsWith("1 pairs of active bookings overlap"), failure.getMessage());
+        assertTrue(failure.getMessage().contains(first.toString()));
+        assertTrue(failure.getMessage().contains(second.toString()));
+        assertEquals(0, queryLong("SELECT count(*) FROM pg_class WHERE relname = 'bookings_partitioned'"));
+        assertEquals(0, repartitioner.partitions());
+    }
+
+    // One-hour booking in the given hourly slot of DAY
+    private UUID insert(UUID resourceId, int slot, String status) throws SQLException {
+        UUID id = UUID.randomUUID();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("""
+                     INSERT INTO bookings (id, resource_id, customer_name, customer_email,
+                                           start_time, end_time, status, created_at)
+                     VALUES (?, ?, 'John', 'john@test.com', ?, ?, ?, now())
+                     """)) {
+            statement.setObject(1, id);
+            statement.setObject(2, resourceId);
+            statement.setTimestamp(3, Timestamp.valueOf(DAY.plusHours(slot)));
+            statement.setTimestamp(4, Timestamp.valueOf(DAY.plusHours(slot + 1)));
+            statement.setString(5, status);
+            statement.executeUpdate();
+        }
+        return id;
+    }
+
+    private void update(String sql, UUID id) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, id);
+            assertEquals(1, statement.executeUpdate());
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private long queryLong(String sql, Object... parameters) throws SQLException {
+        return Long.parseLong(queryString(sql, parameters));
+    }
+
+    private String queryString(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                assertTrue(result.next());
+                return result.getString(1);
+            }
+        }
+    }
+}
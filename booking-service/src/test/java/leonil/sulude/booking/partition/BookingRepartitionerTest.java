@@ -0,0 +1,89 @@
+package leonil.sulude.booking.partition;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for BookingRepartitioner.
+ *
+ * These tests validate:
+ * - One hash partition per remainder, each with its own no-overlap exclusion constraint
+ * - Writes to bookings are mirrored into the new table while rows are copied
+ * - Cutover keeps the previous table and gives the new one the original names
+ * - Fewer than 2 partitions are rejected before touching the database
+ */
+class BookingRepartitionerTest {
+
+    /**
+     * Tests that every partition covers one remainder of the hash and carries
+     * the exclusion constraint, and that the mirror trigger is installed.
+     */
+    @Test
+    void shouldPrepareHashPartitionsWithExclusionConstraints() {
+        List<String> statements = BookingRepartitioner.prepareStatements(4);
+
+        assertTrue(statements.stream().anyMatch(sql -> sql.contains("PARTITION BY HASH (resource_id)")));
+        assertTrue(statements.contains(
+                "ALTER TABLE bookings_partitioned ADD CONSTRAINT pk_bookings_partitioned PRIMARY KEY (id, resource_id)"));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(statements.contains("CREATE TABLE bookings_p" + i + " PARTITION OF bookings_partitioned "
+                    + "FOR VALUES WITH (MODULUS 4, REMAINDER " + i + ")"));
+            String constraint = "ex_bookings_p" + i + "_no_overlap";
+            assertEquals(1, statements.stream().filter(sql -> sql.contains(constraint)).count());
+        }
+        assertEquals(BookingRepartitioner.INDEXES.size(),
+                statements.stream().filter(sql -> sql.startsWith("CREATE INDEX")).count());
+        assertTrue(statements.get(statements.size() - 1).startsWith("CREATE TRIGGER bookings_mirror"));
+    }
+
+    /**
+     * Tests that the mirror function copies every column and updates all but the key.
+     */
+    @Test
+    void shouldMirrorEveryColumn() {
+        String function = BookingRepartitioner.prepareStatements(2).stream()
+                .filter(sql -> sql.startsWith("CREATE FUNCTION bookings_mirror()"))
+                .findFirst()
+                .orElseThrow();
+
+        for (String column : BookingRepartitioner.COLUMNS.split(", ")) {
+            assertTrue(function.contains("NEW." + column), column);
+        }
+        assertTrue(function.contains("status = EXCLUDED.status"));
+        assertFalse(function.contains("id = EXCLUDED.id"));
+    }
+
+    /**
+     * Tests that cutover locks bookings first, then swaps the tables and their names.
+     */
+    @Test
+    void shouldSwapTablesAtCutover() {
+        List<String> statements = BookingRepartitioner.cutoverStatements();
+
+        assertEquals("LOCK TABLE bookings IN ACCESS EXCLUSIVE MODE", statements.get(0));
+        assertTrue(statements.indexOf("ALTER TABLE bookings RENAME TO bookings_unpartitioned")
+                < statements.indexOf("ALTER TABLE bookings_partitioned RENAME TO bookings"));
+        assertTrue(statements.contains("ALTER TABLE bookings RENAME CONSTRAINT pk_bookings_partitioned TO pk_bookings"));
+        assertTrue(statements.contains("ALTER INDEX idx_bookings_partitioned_resource_start RENAME TO idx_bookings_resource_start"));
+    }
+
+    /**
+     * Tests that a single partition is rejected without opening a connection.
+     */
+    @Test
+    void shouldRejectFewerThanTwoPartitions() {
+        DataSource dataSource = mock(DataSource.class);
+        BookingRepartitioner repartitioner =
+                new BookingRepartitioner(dataSource, 100, Duration.ZERO, Duration.ofSeconds(1));
+
+        assertThrows(IllegalArgumentException.class, () -> repartitioner.repartition(1, copied -> {}));
+        verifyNoInteractions(dataSource);
+    }
+}
@@ -0,0 +1,201 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingSeriesRequestDTO;
+import leonil.sulude.booking.dto.BookingSeriesResponseDTO;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.exception.BookingConflictException;
+import leonil.sulude.booking.exception.InvalidRecurrenceException;
+import leonil.sulude.booking.feignclient.CatalogCallGuard;
+import leonil.sulude.booking.feignclient.CatalogClient;
+import leonil.sulude.booking.feignclient.CatalogResourceClient;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingSeries;
+import leonil.sulude.booking.repository.BookingRepository;
+import leonil.sulude.booking.repository.BookingSeriesRepository;
+import leonil.sulude.booking.shard.Shards;
+import leonil.sulude.booking.util.AimdConcurrencyLimiter;
+import leonil.sulude.booking.util.HedgeBudget;
+import leonil.sulude.booking.util.LatencyTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingSeriesServiceImpl.
+ *
+ * These tests validate bulk creation of recurring bookings,
+ * conflict detection and lazy materialization of later occurrences.
+ */
+class BookingSeriesServiceImplTest {
+
+    @Mock
+    private BookingSeriesRepository seriesRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private CatalogClient catalogClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<Booking>> bookingsCaptor;
+
+    private BookingSeriesServiceImpl service;
+
+    private final UUID resourceId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        // Catalog calls run inline; the hedge delay is long enough that no hedge is sent
+        CatalogResourceClient catalogResourceClient = new CatalogResourceClient(catalogClient, new CatalogCallGuard(
+                Runnable::run,
+                new AimdConcurrencyLimiter(16, 4, 48, 0.9, TimeUnit.SECONDS.toNanos(1)),
+                new LatencyTracker(1024, 0.95, 100, Duration.ofSeconds(30)),
+                new HedgeBudget(0.1, 10),
+                0,
+                new SimpleMeterRegistry()));
+        service = new BookingSeriesServiceImpl(seriesRepository, bookingRepository, catalogResourceClient,
+                eventPublisher, Duration.ofDays(56), Shards.single(), TransactionOperations.withoutTransaction());
+
+        when(catalogClient.getResourceById(resourceId)).thenReturn(new ServiceResourceResponseDTO(
+                resourceId, "Yoga class", new BigDecimal("10.00"), 60, true, List.of()));
+        when(seriesRepository.save(any())).thenAnswer(invocation -> {
+            BookingSeries series = invocation.getArgument(0);
+            if (series.getId() == null) {
+                series.setId(UUID.randomUUID());
+            }
+            return series;
+        });
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * Tests that all occurrences are checked with one range query
+     * and inserted with a single batch.
+     */
+    @Test
+    void shouldCreateAllOccurrencesInOneBatch() {
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+
+        BookingSeriesResponseDTO response = service.create(request(start, "FREQ=WEEKLY;COUNT=4"));
+
+        assertEquals(4, response.occurrences().size());
+        assertFalse(response.active());
+
+        verify(catalogClient, times(1)).getResourceById(resourceId);
+        verify(bookingRepository, times(1)).findOverlapping(eq(resourceId), any(), any());
+        verify(bookingRepository, never()).existsOverlappingBooking(any(), any(), any());
+        verify(bookingRepository).saveAll(bookingsCaptor.capture());
+        assertTrue(bookingsCaptor.getValue().stream().allMatch(b -> response.id().equals(b.getSeriesId())));
+    }
+
+    /**
+     * Tests that a single conflicting occurrence rejects the whole series.
+     */
+    @Test
+    void shouldRejectSeriesWhenAnOccurrenceConflicts() {
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+
+        Booking existing = new Booking();
+        existing.setStartTime(start.plusWeeks(2).plusMinutes(30));
+        existing.setEndTime(start.plusWeeks(2).plusMinutes(90));
+        when(bookingRepository.findOverlapping(eq(resourceId), any(), any())).thenReturn(List.of(existing));
+
+        assertThrows(BookingConflictException.class,
+                () -> service.create(request(start, "FREQ=WEEKLY;COUNT=4")));
+
+        verify(seriesRepository, never()).save(any());
+        verify(bookingRepository, never()).saveAll(anyList());
+    }
+
+    /**
+     * Tests that open-ended series only store occurrences up to the horizon.
+     */
+    @Test
+    void shouldOnlyMaterializeOccurrencesWithinHorizon() {
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+
+        BookingSeriesResponseDTO response = service.create(request(start, "FREQ=WEEKLY"));
+
+        assertTrue(response.active());
+        assertEquals(8, response.occurrences().size());
+    }
+
+    /**
+     * Tests that occurrences longer than the recurrence interval are rejected.
+     */
+    @Test
+    void shouldRejectSelfOverlappingSeries() {
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+
+        BookingSeriesRequestDTO request = new BookingSeriesRequestDTO(resourceId, "John", "john@test.com",
+                start, start.plusHours(30), "FREQ=DAILY;COUNT=3");
+
+        assertThrows(InvalidRecurrenceException.class, () -> service.create(request));
+        verifyNoInteractions(catalogClient);
+    }
+
+    /**
+     * Tests that the materializer extends due series and skips
+     * occurrences that became conflicting in the meantime.
+     */
+    @Test
+    void shouldMaterializeDueSeriesSkippingConflicts() {
+
+        LocalDateTime start = LocalDateTime.now().minusWeeks(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+
+        BookingSeries series = new BookingSeries();
+        series.setId(UUID.randomUUID());
+        series.setResourceId(resourceId);
+        series.setCustomerName("John");
+        series.setCustomerEmail("john@test.com");
+        series.setFirstStartTime(start);
+        series.setDurationInMinutes(60);
+        series.setRecurrenceRule("FREQ=WEEKLY");
+        series.setActive(true);
+        series.setMaterializedUntil(start.plusWeeks(3));
+
+        Booking existing = new Booking();
+        existing.setStartTime(start.plusWeeks(3));
+        existing.setEndTime(start.plusWeeks(3).plusHours(1));
+
+        when(seriesRepository.findByActiveTrueAndMaterializedUntilBefore(any())).thenReturn(List.of(series));
+        when(bookingRepository.findOverlapping(eq(resourceId), any(), any())).thenReturn(List.of(existing));
+
+        int created = service.materializeDueSeries();
+
+        verify(bookingRepository).saveAll(bookingsCaptor.capture());
+        assertEquals(created, bookingsCaptor.getValue().size());
+        assertTrue(bookingsCaptor.getValue().stream()
+                .noneMatch(b -> b.getStartTime().equals(existing.getStartTime())));
+        assertTrue(series.getMaterializedUntil().isAfter(LocalDateTime.now().plusDays(55)));
+        assertTrue(series.isActive());
+    }
+
+    private BookingSeriesRequestDTO request(LocalDateTime start, String rule) {
+        return new BookingSeriesRequestDTO(resourceId, "John", "john@test.com",
+                start, start.plusHours(1), rule);
+    }
+}
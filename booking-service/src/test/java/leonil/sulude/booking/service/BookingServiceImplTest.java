@@ -1,22 +1,52 @@
 package leonil.sulude.booking.service;
 
+import leonil.sulude.booking.dto.BookingCursor;
+import leonil.sulude.booking.dto.BookingPageDTO;
 import leonil.sulude.booking.dto.BookingRequestDTO;
 import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.BookingSearchRequestDTO;
 import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
 import leonil.sulude.booking.dto.UnavailablePeriodDTO;
+import leonil.sulude.booking.event.BookingChangedEvent;
+import leonil.sulude.booking.exception.BookingAccessDeniedException;
 import leonil.sulude.booking.exception.BookingConflictException;
 import leonil.sulude.booking.exception.ResourceUnavailableException;
+import leonil.sulude.booking.feignclient.CatalogCallGuard;
 import leonil.sulude.booking.feignclient.CatalogClient;
+import leonil.sulude.booking.feignclient.CatalogResourceClient;
 import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
 import leonil.sulude.booking.repository.BookingRepository;
+import leonil.sulude.booking.security.JwtService;
+import leonil.sulude.booking.shard.Shards;
+import leonil.sulude.booking.util.AimdConcurrencyLimiter;
+import leonil.sulude.booking.util.HedgeBudget;
+import leonil.sulude.booking.util.LatencyTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,12 +65,48 @@ class BookingServiceImplTest {
     @Mock
     private CatalogClient catalogClient;
 
-    @InjectMocks
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExecutorService createExecutor;
+
     private BookingServiceImpl service;
 
+    private static final String TOKEN = "Bearer token";
+    private static final JwtService.Caller CUSTOMER = new JwtService.Caller("john@test.com", "USER");
+
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        createExecutor = Executors.newFixedThreadPool(2);
+        service = new BookingServiceImpl(repository, asyncCatalogClient(), jwtService, eventPublisher,
+                Shards.single(), createExecutor, meterRegistry);
+    }
+
+    /**
+     * Catalog client as wired in the application, minus the Resilience4j proxy.
+     * The hedge delay is long enough that tests never send a hedge.
+     */
+    private CatalogResourceClient asyncCatalogClient() {
+        return new CatalogResourceClient(catalogClient, new CatalogCallGuard(
+                createExecutor,
+                new AimdConcurrencyLimiter(16, 4, 48, 0.9, TimeUnit.SECONDS.toNanos(1)),
+                new LatencyTracker(1024, 0.95, 100, Duration.ofSeconds(30)),
+                new HedgeBudget(0.1, 10),
+                0,
+                meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        createExecutor.shutdownNow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
     }
 
     /**
@@ -93,6 +159,7 @@ class BookingServiceImplTest {
         assertEquals("John Doe", response.customerName());
 
         verify(repository).save(any());
+        verify(eventPublisher).publishEvent(any(BookingChangedEvent.class));
     }
 
     /**
@@ -122,6 +189,78 @@ class BookingServiceImplTest {
         verify(repository, never()).save(any());
     }
 
+    /**
+     * Tests that an overlapping insert rejected by the exclusion constraint
+     * of a partitioned table is reported as a booking conflict.
+     */
+    @Test
+    void shouldThrowBookingConflictExceptionWhenExclusionConstraintRejectsInsert() {
+
+        UUID resourceId = UUID.randomUUID();
+
+        BookingRequestDTO request = new BookingRequestDTO(
+                resourceId,
+                "John",
+                "john@test.com",
+                LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2),
+                null
+        );
+
+        when(repository.existsOverlappingBooking(any(), any(), any()))
+                .thenReturn(false);
+        when(catalogClient.getResourceById(resourceId))
+                .thenReturn(new ServiceResourceResponseDTO(resourceId, "Haircut", new BigDecimal("25.00"), 30, true, List.of()));
+        when(repository.save(any()))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        assertThrows(
+                BookingConflictException.class,
+                () -> service.create(request)
+        );
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * Tests that a waitlist promotion run inside the transaction of a series cancel
+     * checks overlaps in that transaction: the deleted occurrences are only visible
+     * there until it commits.
+     */
+    @Test
+    void shouldCheckOverlapInCallerTransactionWhenPromotingAfterSeriesCancel() {
+
+        UUID resourceId = UUID.randomUUID();
+
+        BookingRequestDTO request = new BookingRequestDTO(
+                resourceId,
+                "John",
+                "john@test.com",
+                LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2),
+                null
+        );
+
+        // Outside the cancel transaction the deleted occurrence still blocks the slot
+        when(repository.existsOverlappingBooking(any(), any(), any()))
+                .thenAnswer(invocation -> !TransactionSynchronizationManager.isActualTransactionActive());
+        when(catalogClient.getResourceById(resourceId))
+                .thenReturn(new ServiceResourceResponseDTO(resourceId, "Haircut", new BigDecimal("25.00"), 30, true, List.of()));
+        when(repository.save(any())).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(UUID.randomUUID());
+            return booking;
+        });
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        BookingResponseDTO response = service.create(request);
+
+        assertEquals("john@test.com", response.customerEmail());
+        verify(repository).save(any());
+    }
+
     /**
      * Tests that booking fails if the resource is inactive.
      */
@@ -210,6 +349,72 @@ class BookingServiceImplTest {
         );
     }
 
+    /**
+     * Tests that the overlap check and the catalog fetch run at the same time:
+     * each stage waits for the other one to start, which can only succeed concurrently.
+     */
+    @Test
+    void shouldRunOverlapCheckAndCatalogFetchConcurrently() {
+
+        UUID resourceId = UUID.randomUUID();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        when(repository.existsOverlappingBooking(any(), any(), any())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            return !bothStarted.await(2, TimeUnit.SECONDS); // conflict if the catalog call never started
+        });
+        when(catalogClient.getResourceById(resourceId)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(2, TimeUnit.SECONDS);
+            return new ServiceResourceResponseDTO(resourceId, "Haircut", new BigDecimal("25.00"), 30, true, List.of());
+        });
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BookingResponseDTO response = service.create(new BookingRequestDTO(
+                resourceId,
+                "John Doe",
+                "john@test.com",
+                LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2),
+                null
+        ));
+
+        assertEquals("Haircut", response.resourceName());
+        assertEquals(1, meterRegistry.find("booking.create.stage").tag("stage", "overlap_check").timer().count());
+        assertEquals(1, meterRegistry.find("booking.create.stage").tag("stage", "catalog_fetch").timer().count());
+        assertEquals(1, meterRegistry.find("booking.create.stage").tag("stage", "save").timer().count());
+    }
+
+    /**
+     * Tests that a conflict fails the request without waiting for a slow catalog call.
+     */
+    @Test
+    void shouldFailFastOnConflictWithoutWaitingForCatalog() {
+
+        UUID resourceId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(repository.existsOverlappingBooking(any(), any(), any())).thenReturn(true);
+        when(catalogClient.getResourceById(resourceId)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        long started = System.nanoTime();
+        assertThrows(BookingConflictException.class, () -> service.create(new BookingRequestDTO(
+                resourceId,
+                "John",
+                "john@test.com",
+                LocalDateTime.now().plusHours(1),
+                LocalDateTime.now().plusHours(2),
+                null
+        )));
+        release.countDown();
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started) < 2);
+        verify(repository, never()).save(any());
+    }
+
     /**
      * Tests successful deletion when booking exists.
      */
@@ -218,13 +423,42 @@ class BookingServiceImplTest {
 
         UUID id = UUID.randomUUID();
 
-        when(repository.existsById(id)).thenReturn(true);
+        Booking booking = new Booking();
+        booking.setId(id);
+
+        when(repository.findById(id)).thenReturn(Optional.of(booking));
 
         boolean result = service.delete(id);
 
         assertTrue(result);
 
         verify(repository).deleteById(id);
+        verify(eventPublisher).publishEvent(BookingChangedEvent.removed(booking));
+    }
+
+    /**
+     * Tests that cancelling a booking marks it as CANCELLED
+     * and publishes the change so the waitlist can be promoted.
+     */
+    @Test
+    void shouldCancelBookingAndPublishChange() {
+
+        UUID id = UUID.randomUUID();
+        UUID resourceId = UUID.randomUUID();
+
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setResourceId(resourceId);
+        booking.setStatus(BookingStatus.PENDING);
+
+        when(repository.findById(id)).thenReturn(Optional.of(booking));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<BookingResponseDTO> result = service.cancel(id);
+
+        assertTrue(result.isPresent());
+        assertEquals(BookingStatus.CANCELLED, result.get().status());
+        verify(eventPublisher).publishEvent(BookingChangedEvent.upserted(booking));
     }
 
     /**
@@ -235,12 +469,187 @@ class BookingServiceImplTest {
 
         UUID id = UUID.randomUUID();
 
-        when(repository.existsById(id)).thenReturn(false);
+        when(repository.findById(id)).thenReturn(Optional.empty());
 
         boolean result = service.delete(id);
 
         assertFalse(result);
 
         verify(repository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * Tests that a search returns one page plus a cursor when more rows exist,
+     * and that the catalog is queried with one batch of distinct resources.
+     */
+    @Test
+    void shouldReturnPageWithNextCursorWhenMoreResultsExist() {
+
+        UUID resourceId = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        List<Booking> rows = List.of(
+                booking(resourceId, start),
+                booking(resourceId, start.plusHours(1)),
+                booking(resourceId, start.plusHours(2))
+        );
+
+        when(jwtService.extractCaller(TOKEN)).thenReturn(CUSTOMER);
+        when(repository.findBy(any(Specification.class), any())).thenReturn(rows);
+        when(catalogClient.getResourcesByIds(any())).thenReturn(List.of(
+                new ServiceResourceResponseDTO(resourceId, "Yoga", new BigDecimal("10"), 60, true, List.of())));
+
+        BookingSearchRequestDTO query =
+                new BookingSearchRequestDTO(null, resourceId, null, null, null, null, 2);
+
+        BookingPageDTO page = service.search(query, TOKEN);
+
+        assertEquals(2, page.items().size());
+        assertEquals("Yoga", page.items().get(0).resourceName());
+
+        BookingCursor cursor = BookingCursor.decode(page.nextCursor());
+        assertEquals(rows.get(1).getId(), cursor.id());
+        assertEquals(rows.get(1).getStartTime(), cursor.startTime());
+
+        verify(catalogClient, times(1)).getResourcesByIds(Set.of(resourceId));
+        verify(catalogClient, never()).getResourceById(any());
+    }
+
+    /**
+     * Tests that the last page carries no cursor.
+     */
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+
+        UUID resourceId = UUID.randomUUID();
+
+        when(jwtService.extractCaller(TOKEN)).thenReturn(CUSTOMER);
+        when(repository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(booking(resourceId, LocalDateTime.now().plusDays(1))));
+
+        BookingSearchRequestDTO query =
+                new BookingSearchRequestDTO(null, resourceId, null, null, null, null, 10);
+
+        BookingPageDTO page = service.search(query, TOKEN);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    /**
+     * Tests that a customer filter is accepted when it matches the JWT identity.
+     */
+    @Test
+    void shouldSearchCustomerBookingsWhenEmailMatchesToken() {
+
+        when(jwtService.extractCaller(TOKEN)).thenReturn(CUSTOMER);
+        when(repository.findBy(any(Specification.class), any())).thenReturn(List.of());
+
+        BookingSearchRequestDTO query =
+                new BookingSearchRequestDTO("john@test.com", null, null, null, null, null, null);
+
+        BookingPageDTO page = service.search(query, TOKEN);
+
+        assertTrue(page.items().isEmpty());
+        verify(repository).findBy(any(Specification.class), any());
+    }
+
+    /**
+     * Tests that listing another customer's bookings is rejected
+     * before the database is queried.
+     */
+    @Test
+    void shouldRejectSearchForAnotherCustomer() {
+
+        when(jwtService.extractCaller(TOKEN)).thenReturn(CUSTOMER);
+
+        BookingSearchRequestDTO query =
+                new BookingSearchRequestDTO("alice@test.com", null, null, null, null, null, null);
+
+        assertThrows(
+                BookingAccessDeniedException.class,
+                () -> service.search(query, TOKEN)
+        );
+
+        verify(repository, never()).findBy(any(Specification.class), any());
+    }
+
+    /**
+     * Tests that a customer filter without a valid token is rejected.
+     */
+    @Test
+    void shouldRejectCustomerSearchWithoutToken() {
+
+        BookingSearchRequestDTO query =
+                new BookingSearchRequestDTO("john@test.com", null, null, null, null, null, null);
+
+        assertThrows(
+                BookingAccessDeniedException.class,
+                () -> service.search(query, null)
+        );
+    }
+
+    /**
+     * Tests that a search without customerEmail is still limited
+     * to the bookings of the token's customer.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldScopeSearchToTokenCustomerByDefault() {
+
+        when(jwtService.extractCaller(TOKEN)).thenReturn(CUSTOMER);
+        when(repository.findBy(any(Specification.class), any())).thenReturn(List.of());
+
+        service.search(new BookingSearchRequestDTO(null, UUID.randomUUID(), null, null, null, null, null), TOKEN);
+
+        ArgumentCaptor<Specification<Booking>> spec = ArgumentCaptor.forClass(Specification.class);
+        verify(repository).findBy(spec.capture(), any());
+
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        spec.getValue().toPredicate(mock(Root.class), mock(CriteriaQuery.class), cb);
+        verify(cb).equal(any(), eq("john@test.com"));
+    }
+
+    /**
+     * Tests that any search, even without filters, needs a valid token.
+     */
+    @Test
+    void shouldRejectSearchWithoutToken() {
+
+        assertThrows(
+                BookingAccessDeniedException.class,
+                () -> service.search(new BookingSearchRequestDTO(null, null, null, null, null, null, null), null)
+        );
+
+        verify(repository, never()).findBy(any(Specification.class), any());
+    }
+
+    /**
+     * Tests that an admin may list the bookings of another customer.
+     */
+    @Test
+    void shouldAllowAdminToSearchAnyCustomer() {
+
+        when(jwtService.extractCaller(TOKEN)).thenReturn(new JwtService.Caller("admin@test.com", "ADMIN"));
+        when(repository.findBy(any(Specification.class), any())).thenReturn(List.of());
+
+        BookingPageDTO page = service.search(
+                new BookingSearchRequestDTO("alice@test.com", null, null, null, null, null, null), TOKEN);
+
+        assertTrue(page.items().isEmpty());
+        verify(repository).findBy(any(Specification.class), any());
+    }
+
+    private Booking booking(UUID resourceId, LocalDateTime start) {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setResourceId(resourceId);
+        booking.setCustomerName("John");
+        booking.setCustomerEmail("john@test.com");
+        booking.setStartTime(start);
+        booking.setEndTime(start.plusHours(1));
+        booking.setCreatedAt(LocalDateTime.now());
+        return booking;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,256 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.CalendarDayDTO;
+import leonil.sulude.booking.dto.CalendarEntryDTO;
+import leonil.sulude.booking.dto.UnavailablePeriodDTO;
+import leonil.sulude.booking.exception.BookingAccessDeniedException;
+import leonil.sulude.booking.exception.InvalidBookingQueryException;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.model.CalendarEntry;
+import leonil.sulude.booking.model.CalendarEntryType;
+import leonil.sulude.booking.repository.CalendarEntryRepository;
+import leonil.sulude.booking.security.JwtService;
+import leonil.sulude.booking.shard.Shards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CalendarServiceImpl.
+ *
+ * These tests validate how bookings and unavailable periods are projected
+ * into per-day calendar rows, how calendar reads are grouped and bounded,
+ * and that only admins see who booked.
+ */
+class CalendarServiceImplTest {
+
+    private static final String ADMIN_TOKEN = "Bearer admin";
+    private static final String USER_TOKEN = "Bearer user";
+
+    @Mock
+    private CalendarEntryRepository repository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Spy
+    private Shards shards = Shards.single();
+
+    @InjectMocks
+    private CalendarServiceImpl service;
+
+    @Captor
+    private ArgumentCaptor<List<CalendarEntry>> entriesCaptor;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(jwtService.extractCaller(ADMIN_TOKEN)).thenReturn(new JwtService.Caller("admin@test.com", "ADMIN"));
+        when(jwtService.extractCaller(USER_TOKEN)).thenReturn(new JwtService.Caller("jane@test.com", "USER"));
+    }
+
+    /**
+     * Tests that a booking crossing midnight is projected onto both days
+     * and that previous rows of the booking are replaced.
+     */
+    @Test
+    void shouldProjectBookingOnEveryDayItTouches() {
+
+        Booking booking = booking(
+                LocalDateTime.of(2030, 1, 10, 22, 0),
+                LocalDateTime.of(2030, 1, 11, 2, 0),
+                BookingStatus.PENDING
+        );
+
+        service.applyBooking(booking);
+
+        verify(repository).deleteByBookingId(booking.getId());
+        verify(repository).saveAll(entriesCaptor.capture());
+
+        List<CalendarEntry> entries = entriesCaptor.getValue();
+        assertEquals(2, entries.size());
+        assertEquals(LocalDate.of(2030, 1, 10), entries.get(0).getDay());
+        assertEquals(LocalDate.of(2030, 1, 11), entries.get(1).getDay());
+        assertEquals(CalendarEntryType.BOOKING, entries.get(0).getType());
+        assertEquals(booking.getId(), entries.get(1).getBookingId());
+    }
+
+    /**
+     * Tests that a booking ending exactly at midnight
+     * does not appear on the following day.
+     */
+    @Test
+    void shouldNotProjectOntoNextDayWhenEndingAtMidnight() {
+
+        Booking booking = booking(
+                LocalDateTime.of(2030, 1, 10, 23, 0),
+                LocalDateTime.of(2030, 1, 11, 0, 0),
+                BookingStatus.PENDING
+        );
+
+        service.applyBooking(booking);
+
+        verify(repository).saveAll(entriesCaptor.capture());
+        assertEquals(1, entriesCaptor.getValue().size());
+    }
+
+    /**
+     * Tests that cancelled bookings are removed from the calendar.
+     */
+    @Test
+    void shouldRemoveCancelledBookingFromCalendar() {
+
+        Booking booking = booking(
+                LocalDateTime.of(2030, 1, 10, 9, 0),
+                LocalDateTime.of(2030, 1, 10, 10, 0),
+                BookingStatus.CANCELLED
+        );
+
+        service.applyBooking(booking);
+
+        verify(repository).deleteByBookingId(booking.getId());
+        verify(repository, never()).saveAll(any());
+    }
+
+    /**
+     * Tests that unavailable periods from the catalog replace
+     * the previous ones of the same resource.
+     */
+    @Test
+    void shouldReplaceUnavailablePeriods() {
+
+        UUID resourceId = UUID.randomUUID();
+
+        service.replaceUnavailablePeriods(resourceId, List.of(
+                new UnavailablePeriodDTO(
+                        LocalDateTime.of(2030, 2, 1, 0, 0),
+                        LocalDateTime.of(2030, 2, 4, 0, 0))
+        ));
+
+        verify(repository).deleteByResourceIdAndType(resourceId, CalendarEntryType.UNAVAILABLE);
+        verify(repository).saveAll(entriesCaptor.capture());
+        assertEquals(3, entriesCaptor.getValue().size());
+        assertTrue(entriesCaptor.getValue().stream()
+                .allMatch(e -> e.getType() == CalendarEntryType.UNAVAILABLE));
+    }
+
+    /**
+     * Tests that calendar rows are grouped per resource and day.
+     */
+    @Test
+    void shouldGroupEntriesByResourceAndDay() {
+
+        UUID resourceId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2030, 3, 1);
+
+        when(repository.findByResourceIdInAndDayBetweenOrderByResourceIdAscDayAscStartTimeAsc(
+                anyCollection(), any(), any()))
+                .thenReturn(List.of(
+                        entry(resourceId, day, 9),
+                        entry(resourceId, day, 11),
+                        entry(resourceId, day.plusDays(1), 9)
+                ));
+
+        List<CalendarDayDTO> days = service.getCalendar(List.of(resourceId), day, day.plusDays(6), ADMIN_TOKEN);
+
+        assertEquals(2, days.size());
+        assertEquals(2, days.get(0).entries().size());
+        assertEquals(day.plusDays(1), days.get(1).day());
+    }
+
+    /**
+     * Tests that oversized or inverted ranges are rejected
+     * without querying the database.
+     */
+    @Test
+    void shouldRejectInvalidRange() {
+
+        List<UUID> resources = List.of(UUID.randomUUID());
+        LocalDate from = LocalDate.of(2030, 1, 1);
+
+        assertThrows(InvalidBookingQueryException.class,
+                () -> service.getCalendar(resources, from, from.minusDays(1), ADMIN_TOKEN));
+        assertThrows(InvalidBookingQueryException.class,
+                () -> service.getCalendar(resources, from, from.plusDays(CalendarServiceImpl.MAX_DAYS), ADMIN_TOKEN));
+        assertThrows(InvalidBookingQueryException.class,
+                () -> service.getCalendar(List.of(), from, from, ADMIN_TOKEN));
+
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Tests that a non-admin caller sees the occupied slots of a resource
+     * but not the booking IDs or customer names, while an admin sees both.
+     */
+    @Test
+    void shouldHideCustomersFromNonAdmins() {
+
+        UUID resourceId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2030, 3, 1);
+        CalendarEntry booked = entry(resourceId, day, 9);
+        booked.setBookingId(UUID.randomUUID());
+        booked.setBookingStatus(BookingStatus.CONFIRMED);
+        booked.setCustomerName("John");
+
+        when(repository.findByResourceIdInAndDayBetweenOrderByResourceIdAscDayAscStartTimeAsc(
+                anyCollection(), any(), any()))
+                .thenReturn(List.of(booked));
+
+        CalendarEntryDTO seenByUser = service.getCalendar(List.of(resourceId), day, day, USER_TOKEN)
+                .get(0).entries().get(0);
+        assertEquals(BookingStatus.CONFIRMED, seenByUser.status());
+        assertNull(seenByUser.bookingId());
+        assertNull(seenByUser.customerName());
+
+        CalendarEntryDTO seenByAdmin = service.getCalendar(List.of(resourceId), day, day, ADMIN_TOKEN)
+                .get(0).entries().get(0);
+        assertEquals(booked.getBookingId(), seenByAdmin.bookingId());
+        assertEquals("John", seenByAdmin.customerName());
+    }
+
+    /**
+     * Tests that the calendar is not read without a valid token.
+     */
+    @Test
+    void shouldRejectAnonymousCaller() {
+
+        LocalDate day = LocalDate.of(2030, 3, 1);
+
+        assertThrows(BookingAccessDeniedException.class,
+                () -> service.getCalendar(List.of(UUID.randomUUID()), day, day, null));
+
+        verifyNoInteractions(repository);
+    }
+
+    private Booking booking(LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setResourceId(UUID.randomUUID());
+        booking.setCustomerName("John");
+        booking.setCustomerEmail("john@test.com");
+        booking.setStartTime(start);
+        booking.setEndTime(end);
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private CalendarEntry entry(UUID resourceId, LocalDate day, int hour) {
+        CalendarEntry entry = new CalendarEntry();
+        entry.setResourceId(resourceId);
+        entry.setDay(day);
+        entry.setType(CalendarEntryType.BOOKING);
+        entry.setStartTime(day.atTime(hour, 0));
+        entry.setEndTime(day.atTime(hour + 1, 0));
+        return entry;
+    }
+}
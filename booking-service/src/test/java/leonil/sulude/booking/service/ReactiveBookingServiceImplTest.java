@@ -0,0 +1,144 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingRequestDTO;
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.ServiceResourceResponseDTO;
+import leonil.sulude.booking.dto.UnavailablePeriodDTO;
+import leonil.sulude.booking.exception.BookingConflictException;
+import leonil.sulude.booking.exception.ResourceUnavailableException;
+import leonil.sulude.booking.feignclient.ReactiveCatalogClient;
+import leonil.sulude.booking.model.Booking;
+import leonil.sulude.booking.repository.BookingRepository;
+import leonil.sulude.booking.shard.Shards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveBookingServiceImpl.
+ *
+ * These tests validate that the reactive create path applies the same rules
+ * as the blocking one and runs the overlap check and catalog fetch concurrently.
+ */
+class ReactiveBookingServiceImplTest {
+
+    @Mock
+    private BookingRepository repository;
+
+    @Mock
+    private ReactiveCatalogClient catalogClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Scheduler jdbcScheduler;
+
+    private ReactiveBookingServiceImpl service;
+
+    private final UUID resourceId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        jdbcScheduler = Schedulers.newBoundedElastic(2, 10, "test-jdbc");
+        service = new ReactiveBookingServiceImpl(repository, catalogClient, eventPublisher, jdbcScheduler,
+                Shards.single());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcScheduler.dispose();
+    }
+
+    /**
+     * Tests that the catalog fetch is subscribed while the overlap check is still running
+     * and that the booking is saved once both succeed.
+     */
+    @Test
+    void shouldRunOverlapCheckAndCatalogFetchConcurrently() {
+
+        AtomicBoolean catalogSubscribedDuringDbCheck = new AtomicBoolean();
+        AtomicBoolean catalogSubscribed = new AtomicBoolean();
+
+        when(repository.existsOverlappingBooking(any(), any(), any())).thenAnswer(invocation -> {
+            // Simulated slow query: the catalog call must already be in flight
+            Thread.sleep(200);
+            catalogSubscribedDuringDbCheck.set(catalogSubscribed.get());
+            return false;
+        });
+        when(catalogClient.getResourceById(resourceId)).thenReturn(
+                Mono.just(resource(List.of())).doOnSubscribe(s -> catalogSubscribed.set(true)));
+        when(repository.save(any())).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(UUID.randomUUID());
+            return booking;
+        });
+
+        BookingResponseDTO response = service.create(request()).block(Duration.ofSeconds(5));
+
+        assertNotNull(response);
+        assertEquals("Haircut", response.resourceName());
+        assertTrue(catalogSubscribedDuringDbCheck.get());
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    /**
+     * Tests that a conflicting slot fails with BookingConflictException
+     * and nothing is saved.
+     */
+    @Test
+    void shouldFailWhenSlotIsTaken() {
+
+        when(repository.existsOverlappingBooking(any(), any(), any())).thenReturn(true);
+        when(catalogClient.getResourceById(resourceId)).thenReturn(Mono.never());
+
+        assertThrows(BookingConflictException.class,
+                () -> service.create(request()).block(Duration.ofSeconds(5)));
+
+        verify(repository, never()).save(any());
+    }
+
+    /**
+     * Tests that catalog unavailable periods are enforced as on the blocking path.
+     */
+    @Test
+    void shouldRejectBookingDuringUnavailablePeriod() {
+
+        BookingRequestDTO request = request();
+
+        when(repository.existsOverlappingBooking(any(), any(), any())).thenReturn(false);
+        when(catalogClient.getResourceById(resourceId)).thenReturn(Mono.just(resource(List.of(
+                new UnavailablePeriodDTO(request.startTime().minusMinutes(30), request.endTime())))));
+
+        assertThrows(ResourceUnavailableException.class,
+                () -> service.create(request).block(Duration.ofSeconds(5)));
+
+        verify(repository, never()).save(any());
+    }
+
+    private BookingRequestDTO request() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new BookingRequestDTO(resourceId, "John Doe", "john@test.com", start, start.plusHours(1), null);
+    }
+
+    private ServiceResourceResponseDTO resource(List<UnavailablePeriodDTO> unavailablePeriods) {
+        return new ServiceResourceResponseDTO(resourceId, "Haircut", new BigDecimal("25.00"), 30, true, unavailablePeriods);
+    }
+}
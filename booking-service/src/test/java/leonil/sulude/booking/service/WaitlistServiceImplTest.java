@@ -0,0 +1,164 @@
+package leonil.sulude.booking.service;
+
+import leonil.sulude.booking.dto.BookingResponseDTO;
+import leonil.sulude.booking.dto.WaitlistEntryResponseDTO;
+import leonil.sulude.booking.dto.WaitlistRequestDTO;
+import leonil.sulude.booking.exception.BookingConflictException;
+import leonil.sulude.booking.messaging.BookingEventProducer;
+import leonil.sulude.booking.model.BookingStatus;
+import leonil.sulude.booking.model.WaitlistEntry;
+import leonil.sulude.booking.model.WaitlistStatus;
+import leonil.sulude.booking.repository.WaitlistEntryRepository;
+import leonil.sulude.booking.shard.Shards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WaitlistServiceImpl.
+ *
+ * These tests validate idempotent joining and FIFO promotion
+ * of waitlisted requests when a slot frees up.
+ */
+class WaitlistServiceImplTest {
+
+    @Mock
+    private WaitlistEntryRepository repository;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private BookingEventProducer eventProducer;
+
+    @Spy
+    private Shards shards = Shards.single();
+
+    @InjectMocks
+    private WaitlistServiceImpl service;
+
+    private final UUID resourceId = UUID.randomUUID();
+    private final LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests that joining twice for the same slot returns the existing entry.
+     */
+    @Test
+    void shouldReturnExistingEntryWhenJoiningTwice() {
+
+        WaitlistEntry existing = entry("john@test.com", LocalDateTime.now().minusMinutes(5));
+
+        when(repository.findFirstByResourceIdAndStartTimeAndEndTimeAndCustomerEmailIgnoreCaseAndStatus(
+                any(), any(), any(), any(), eq(WaitlistStatus.WAITING)))
+                .thenReturn(Optional.of(existing));
+        when(repository.countAhead(any(), any(), any(), any())).thenReturn(2L);
+
+        WaitlistEntryResponseDTO response = service.join(new WaitlistRequestDTO(
+                resourceId, "John", "john@test.com", start, start.plusHours(1)));
+
+        assertEquals(existing.getId(), response.id());
+        assertEquals(2L, response.position());
+        verify(repository, never()).save(any());
+        verifyNoInteractions(bookingService);
+    }
+
+    /**
+     * Tests that a join losing the race against a concurrent join of the same
+     * customer (unique index violation) returns the entry of the winner.
+     */
+    @Test
+    void shouldReturnConcurrentEntryWhenInsertHitsUniqueIndex() {
+
+        WaitlistEntry winner = entry("john@test.com", LocalDateTime.now());
+
+        when(repository.findFirstByResourceIdAndStartTimeAndEndTimeAndCustomerEmailIgnoreCaseAndStatus(
+                any(), any(), any(), any(), eq(WaitlistStatus.WAITING)))
+                .thenReturn(Optional.empty(), Optional.of(winner));
+        when(repository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate",
+                new SQLException("duplicate key value violates unique constraint", "23505")));
+
+        WaitlistEntryResponseDTO response = service.join(new WaitlistRequestDTO(
+                resourceId, "John", "JOHN@test.com", start, start.plusHours(1)));
+
+        assertEquals(winner.getId(), response.id());
+        verifyNoInteractions(bookingService);
+    }
+
+    /**
+     * Tests that the oldest entry is booked first and later entries
+     * that are still blocked keep waiting.
+     */
+    @Test
+    void shouldPromoteOldestEntryFirst() {
+
+        WaitlistEntry first = entry("first@test.com", LocalDateTime.now().minusMinutes(10));
+        WaitlistEntry second = entry("second@test.com", LocalDateTime.now().minusMinutes(5));
+
+        when(repository.findWaitingOverlapping(eq(resourceId), any(), any(), any()))
+                .thenReturn(List.of(first, second));
+
+        UUID bookingId = UUID.randomUUID();
+        when(bookingService.create(argThat(dto -> dto != null && "first@test.com".equals(dto.customerEmail()))))
+                .thenReturn(booking(bookingId));
+        when(bookingService.create(argThat(dto -> dto != null && "second@test.com".equals(dto.customerEmail()))))
+                .thenThrow(new BookingConflictException("Resource is already booked during this time."));
+
+        int promoted = service.promote(resourceId, start, start.plusHours(1));
+
+        assertEquals(1, promoted);
+        assertEquals(WaitlistStatus.PROMOTED, first.getStatus());
+        assertEquals(bookingId, first.getBookingId());
+        assertEquals(WaitlistStatus.WAITING, second.getStatus());
+
+        verify(eventProducer).waitlistPromoted(first);
+        verify(eventProducer, never()).waitlistPromoted(second);
+    }
+
+    /**
+     * Tests that leaving the waitlist cancels a waiting entry.
+     */
+    @Test
+    void shouldCancelEntryWhenLeaving() {
+
+        WaitlistEntry entry = entry("john@test.com", LocalDateTime.now());
+        when(repository.findById(entry.getId())).thenReturn(Optional.of(entry));
+
+        assertTrue(service.leave(entry.getId()));
+        assertEquals(WaitlistStatus.CANCELLED, entry.getStatus());
+        verify(repository).save(entry);
+    }
+
+    private WaitlistEntry entry(String email, LocalDateTime createdAt) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(UUID.randomUUID());
+        entry.setResourceId(resourceId);
+        entry.setCustomerName("Customer");
+        entry.setCustomerEmail(email);
+        entry.setStartTime(start);
+        entry.setEndTime(start.plusHours(1));
+        entry.setStatus(WaitlistStatus.WAITING);
+        entry.setCreatedAt(createdAt);
+        return entry;
+    }
+
+    private BookingResponseDTO booking(UUID id) {
+        return new BookingResponseDTO(id, resourceId, "Customer", "first@test.com",
+                start, start.plusHours(1), BookingStatus.PENDING, LocalDateTime.now(), null, null, null);
+    }
+}
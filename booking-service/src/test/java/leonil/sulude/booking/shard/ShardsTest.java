@@ -0,0 +1,197 @@
+package leonil.sulude.booking.shard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ShardRing, Shards, KWayMerge and ShardRoutingDataSource.
+ *
+ * These tests validate:
+ * - Resources are spread evenly and always map to the same shard
+ * - Adding a shard only moves resources to the new shard, about 1/N of them
+ * - Scatter-gather queries every shard and merged pages keep their order
+ * - Resource sets are split by owning shard
+ * - Shard switches inside a transaction are rejected
+ * - Connections are routed to the selected shard, unscoped ones are counted
+ */
+class ShardsTest {
+
+    private static final int RESOURCES = 20_000;
+
+    private final ShardRing ring = new ShardRing(List.of("shard-0", "shard-1", "shard-2", "shard-3"));
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final Shards shards = new Shards(ring, executor);
+
+    @AfterEach
+    void cleanup() {
+        executor.shutdownNow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    /**
+     * Tests that every shard owns roughly its share of the resources
+     * and that the mapping is stable.
+     */
+    @Test
+    void shouldSpreadResourcesEvenly() {
+        List<UUID> resourceIds = resourceIds();
+
+        Map<String, Integer> perShard = new HashMap<>();
+        resourceIds.forEach(id -> perShard.merge(ring.shardOf(id), 1, Integer::sum));
+
+        assertEquals(4, perShard.size());
+        perShard.forEach((shard, count) ->
+                assertTrue(Math.abs(count - RESOURCES / 4) < RESOURCES / 4 * 0.2, shard + " owns " + count));
+
+        ShardRing rebuilt = new ShardRing(List.of("shard-0", "shard-1", "shard-2", "shard-3"));
+        resourceIds.forEach(id -> assertEquals(ring.shardOf(id), rebuilt.shardOf(id)));
+    }
+
+    /**
+     * Tests that adding a fifth shard moves about a fifth of the resources,
+     * all of them to the new shard.
+     */
+    @Test
+    void shouldMoveOnlyResourcesOfNewShard() {
+        ShardRing grown = new ShardRing(List.of("shard-0", "shard-1", "shard-2", "shard-3", "shard-4"));
+
+        int moved = 0;
+        for (UUID id : resourceIds()) {
+            if (!ring.shardOf(id).equals(grown.shardOf(id))) {
+                assertEquals("shard-4", grown.shardOf(id));
+                moved++;
+            }
+        }
+        assertTrue(Math.abs(moved - RESOURCES / 5) < RESOURCES / 5 * 0.25, "moved " + moved);
+    }
+
+    /**
+     * Tests that the work runs once on every shard, each time with its shard selected.
+     */
+    @Test
+    void shouldQueryEveryShard() {
+        List<String> seen = shards.onEachShard(ShardContext::current);
+
+        assertEquals(ring.shards(), seen);
+        assertNull(ShardContext.current());
+    }
+
+    /**
+     * Tests that a lookup by ID returns the row of whichever shard has it.
+     */
+    @Test
+    void shouldFindRowOnAnyShard() {
+        Optional<String> found = shards.findFirst(() -> "shard-2".equals(ShardContext.current())
+                ? Optional.of("booking")
+                : Optional.empty());
+
+        assertEquals(Optional.of("booking"), found);
+    }
+
+    /**
+     * Tests that a set of resources is split by shard and every group
+     * is queried on the shard that owns it.
+     */
+    @Test
+    void shouldGroupResourcesByShard() {
+        List<UUID> resourceIds = resourceIds().subList(0, 50);
+
+        List<List<UUID>> groups = shards.onShardsOf(resourceIds, ids -> {
+            ids.forEach(id -> assertEquals(ring.shardOf(id), ShardContext.current()));
+            return ids;
+        });
+
+        assertEquals(resourceIds.size(), groups.stream().mapToInt(List::size).sum());
+    }
+
+    /**
+     * Tests that per-shard runs are merged in order and cut at the limit.
+     */
+    @Test
+    void shouldMergeSortedRuns() {
+        List<List<Integer>> runs = List.of(List.of(1, 4, 7), List.of(), List.of(2, 3, 8, 9), List.of(5));
+
+        assertEquals(List.of(1, 2, 3, 4, 5), KWayMerge.merge(runs, Comparator.naturalOrder(), 5));
+        assertEquals(List.of(1, 2, 3, 4, 5, 7, 8, 9), KWayMerge.merge(runs, Comparator.naturalOrder(), 100));
+    }
+
+    /**
+     * Tests that a transaction cannot move to another shard or scatter over all of them.
+     */
+    @Test
+    void shouldRejectShardSwitchInsideTransaction() {
+        UUID resourceId = resourceIds().get(0);
+        UUID other = resourceIds().stream()
+                .filter(id -> !ring.shardOf(id).equals(ring.shardOf(resourceId)))
+                .findFirst()
+                .orElseThrow();
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertEquals(ring.shardOf(resourceId), shards.onShardOf(resourceId, ShardContext::current));
+        assertEquals(ring.shardOf(resourceId), shards.onShardOf(resourceId,
+                () -> shards.onShardOf(resourceId, ShardContext::current)));
+        assertThrows(IllegalStateException.class,
+                () -> shards.onShardOf(resourceId, () -> shards.onShardOf(other, ShardContext::current)));
+        assertThrows(IllegalStateException.class, () -> shards.onEachShard(ShardContext::current));
+    }
+
+    /**
+     * Tests that connections go to the selected shard and that unscoped ones
+     * use the first shard and are counted.
+     */
+    @Test
+    void shouldRouteConnectionsToSelectedShard() throws SQLException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        Map<String, Connection> connections = new HashMap<>();
+        for (String shard : ring.shards()) {
+            DataSource dataSource = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            dataSources.put(shard, dataSource);
+            connections.put(shard, connection);
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(dataSources, meterRegistry);
+
+        UUID resourceId = resourceIds().get(0);
+        assertSame(connections.get(ring.shardOf(resourceId)), shards.onShardOf(resourceId, () -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+
+        assertSame(connections.get("shard-0"), routing.getConnection());
+        assertEquals(1.0, meterRegistry.get(ShardRoutingDataSource.UNSCOPED_METRIC).counter().count());
+    }
+
+    private List<UUID> resourceIds() {
+        return IntStream.range(0, RESOURCES)
+                .mapToObj(i -> new UUID(0x5EEDL, i))
+                .toList();
+    }
+}
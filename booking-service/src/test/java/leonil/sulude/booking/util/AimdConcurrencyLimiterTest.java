@@ -0,0 +1,51 @@
+package leonil.sulude.booking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AimdConcurrencyLimiter.
+ */
+class AimdConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * Tests that failures and slow calls shrink the limit multiplicatively, down to the minimum.
+     */
+    @Test
+    void shouldDecreaseLimitOnFailureOrSlowCall() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 8, 20, 0.5, THRESHOLD);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(false, 0);
+        assertEquals(8, limiter.getLimit());
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(true, THRESHOLD * 2);
+        assertEquals(8, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Tests that the limit grows by one per successful call only while it is being used.
+     */
+    @Test
+    void shouldIncreaseLimitWhenUsedAndSucceeding() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 20, 0.5, THRESHOLD);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(true, 0);
+        assertEquals(3, limiter.getLimit());
+
+        // One call in flight out of 3 allowed: not using the limit, so it stays
+        limiter.release(true, 0);
+        assertEquals(3, limiter.getLimit());
+    }
+}
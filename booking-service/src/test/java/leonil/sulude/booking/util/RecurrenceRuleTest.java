@@ -0,0 +1,76 @@
+package leonil.sulude.booking.util;
+
+import leonil.sulude.booking.exception.InvalidRecurrenceException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecurrenceRule.
+ *
+ * These tests validate RRULE parsing and the expansion of
+ * occurrences within a time window.
+ */
+class RecurrenceRuleTest {
+
+    // Monday
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 18, 0);
+
+    /**
+     * Tests that a weekly rule with several days and a COUNT
+     * produces the expected occurrences in order.
+     */
+    @Test
+    void shouldExpandWeeklyRuleWithByDayAndCount() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=4");
+
+        List<LocalDateTime> occurrences = rule.occurrences(START, START, START.plusYears(1));
+
+        assertEquals(List.of(
+                START,
+                START.plusDays(2),
+                START.plusDays(7),
+                START.plusDays(9)
+        ), occurrences);
+    }
+
+    /**
+     * Tests that COUNT is evaluated from the series start
+     * when only a later window is expanded.
+     */
+    @Test
+    void shouldApplyCountFromSeriesStartInLaterWindows() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2;COUNT=5");
+
+        List<LocalDateTime> occurrences = rule.occurrences(START, START.plusDays(5), START.plusYears(1));
+
+        assertEquals(List.of(START.plusDays(6), START.plusDays(8)), occurrences);
+        assertFalse(rule.hasOccurrencesFrom(START, START.plusDays(9)));
+    }
+
+    /**
+     * Tests that UNTIL bounds the expansion and open-ended rules never finish.
+     */
+    @Test
+    void shouldStopAtUntilAndKeepOpenEndedRulesActive() {
+        RecurrenceRule bounded = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;UNTIL=20300121");
+        RecurrenceRule open = RecurrenceRule.parse("FREQ=WEEKLY");
+
+        assertEquals(3, bounded.occurrences(START, START, START.plusYears(1)).size());
+        assertTrue(open.hasOccurrencesFrom(START, START.plusYears(10)));
+    }
+
+    /**
+     * Tests that unsupported or malformed rules are rejected.
+     */
+    @Test
+    void shouldRejectInvalidRules() {
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY"));
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("BYDAY=MO"));
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=0"));
+        assertThrows(InvalidRecurrenceException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;COUNT=2;UNTIL=20300101"));
+    }
+}
@@ -0,0 +1,20 @@
+package leonil.sulude.catalog.cache;
+
+import java.time.Instant;
+
+/**
+ * Serialized 200 response kept by {@link CatalogResponseCache}.
+ *
+ * @param body         response bytes, served as-is
+ * @param contentType  negotiated content type (JSON or Smile)
+ * @param contentEncoding Content-Encoding of the body (gzip), or null
+ * @param etag         strong entity tag of the body
+ * @param lastModified render time (never earlier than the data it contains)
+ */
+public record CachedResponse(
+        byte[] body,
+        String contentType,
+        String contentEncoding,
+        String etag,
+        Instant lastModified
+) {}
@@ -0,0 +1,135 @@
+package leonil.sulude.catalog.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * HTTP caching for catalog read endpoints.
+ *
+ * - Successful GET responses are kept as bytes in {@link CatalogResponseCache}
+ *   and served without calling the controller (no query, no serialization).
+ * - Every response carries a strong ETag (hash of the bytes), Last-Modified and
+ *   Cache-Control; {@code If-None-Match} / {@code If-Modified-Since} revalidations
+ *   are answered with 304 and no body.
+ *
+ * Responses vary by representation (JSON or Smile) and content encoding (gzip),
+ * so both are part of the cache key and announced with {@code Vary}.
+ */
+public class CatalogHttpCacheFilter extends OncePerRequestFilter {
+
+    private final CatalogResponseCache cache;
+    private final String cacheControl;
+
+    public CatalogHttpCacheFilter(CatalogResponseCache cache, Duration maxAge) {
+        this.cache = cache;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate().getHeaderValue();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String key = cacheKey(request);
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            serve(cached, request, response);
+            return;
+        }
+
+        long generation = cache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || request.isAsyncStarted()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        cached = new CachedResponse(
+                body,
+                wrapper.getContentType(),
+                wrapper.getHeader(HttpHeaders.CONTENT_ENCODING),
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                Instant.now().truncatedTo(ChronoUnit.SECONDS)
+        );
+        cache.put(key, generation, cached);
+
+        // Headers and status go straight to the real response; the buffered body is dropped
+        wrapper.resetBuffer();
+        serve(cached, request, response);
+    }
+
+    private void serve(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, cached.lastModified().toEpochMilli());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+
+        if (notModified(cached, request)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        if (cached.contentEncoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, cached.contentEncoding());
+        }
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    /**
+     * If-None-Match takes precedence; If-Modified-Since is only used without it (RFC 9110).
+     */
+    private boolean notModified(CachedResponse cached, HttpServletRequest request) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(cached.etag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince != -1 && cached.lastModified().toEpochMilli() <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false; // Unparseable date: ignore the condition
+        }
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String representation = accept != null && accept.contains("smile") ? "smile" : "json";
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String encoding = acceptEncoding != null && acceptEncoding.contains("gzip") ? "gzip" : "identity";
+        String query = request.getQueryString();
+        return representation + " " + encoding + " " + request.getRequestURI() + (query != null ? "?" + query : "");
+    }
+}
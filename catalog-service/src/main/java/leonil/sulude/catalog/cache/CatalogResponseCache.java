@@ -0,0 +1,84 @@
+package leonil.sulude.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of serialized catalog GET responses.
+ *
+ * The catalog changes rarely, so responses are rendered once and then served
+ * from bytes. Local writes clear the whole cache immediately (an offer list
+ * embeds resources, so per-entry invalidation would miss dependencies).
+ * Entries also expire after a short TTL, which bounds staleness when another
+ * catalog instance handled the write.
+ *
+ * Keys include the query string, so clients control how many there are: the
+ * store is a size-bounded Caffeine cache, evicting rarely used entries instead of
+ * refusing new ones once full, and dropping expired entries on its own.
+ *
+ * A generation counter prevents a response rendered before an invalidation
+ * from being stored after it.
+ */
+@Slf4j
+@Component
+public class CatalogResponseCache {
+
+    private final Cache<String, CachedResponse> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public CatalogResponseCache(@Value("${catalog.http-cache.ttl:10s}") Duration ttl,
+                                @Value("${catalog.http-cache.max-entries:10000}") int maxEntries) {
+        this(ttl, maxEntries, Ticker.systemTicker());
+    }
+
+    CatalogResponseCache(Duration ttl, int maxEntries, Ticker ticker) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+    }
+
+    public CachedResponse get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    /**
+     * Current generation; pass it back to {@link #put} after rendering.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a rendered response unless the catalog changed while it was rendered.
+     */
+    public void put(String key, long renderedAtGeneration, CachedResponse response) {
+        entries.put(key, response);
+        if (generation.get() != renderedAtGeneration) {
+            // An invalidation raced with rendering: drop the possibly stale entry
+            entries.asMap().remove(key, response);
+        }
+    }
+
+    // After the snapshot listener, so nothing rendered from the old snapshot survives the clear
+    @Order(1)
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+        log.debug("Catalog response cache cleared after change of {} {}", event.entity(), event.id());
+    }
+}
@@ -0,0 +1,29 @@
+package leonil.sulude.catalog.config;
+
+import leonil.sulude.catalog.cache.CatalogHttpCacheFilter;
+import leonil.sulude.catalog.cache.CatalogResponseCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Registers the HTTP cache filter on the catalog read endpoints only.
+ * Write endpoints and the internal batch API are not affected.
+ */
+@Configuration
+public class HttpCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<CatalogHttpCacheFilter> catalogHttpCacheFilter(
+            CatalogResponseCache cache,
+            @Value("${catalog.http-cache.max-age:30s}") Duration maxAge) {
+
+        FilterRegistrationBean<CatalogHttpCacheFilter> registration =
+                new FilterRegistrationBean<>(new CatalogHttpCacheFilter(cache, maxAge));
+        registration.addUrlPatterns("/api/offers", "/api/offers/*", "/api/resources/*");
+        return registration;
+    }
+}
@@ -2,9 +2,11 @@ package leonil.sulude.catalog.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 /**
  * Central Jackson configuration.
@@ -21,8 +23,20 @@ public class JacksonConfig {
 
     @Bean
     public ObjectMapper objectMapper() {
+        return configure(new ObjectMapper());
+    }
+
+    /**
+     * Smile (binary JSON) converter for the internal API used by booking-service.
+     * Takes the place of Spring's default Smile converter, after the JSON one, so it is
+     * only selected through an explicit Accept header; external clients keep receiving JSON.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(configure(new ObjectMapper(new SmileFactory())));
+    }
 
-        ObjectMapper mapper = new ObjectMapper();
+    private ObjectMapper configure(ObjectMapper mapper) {
 
         // Support for Java 8+ date/time types (Instant, LocalDateTime, etc.)
         mapper.registerModule(new JavaTimeModule());
@@ -0,0 +1,26 @@
+package leonil.sulude.catalog.config;
+
+import leonil.sulude.catalog.messaging.CatalogEventConstants;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ infrastructure owned by the catalog-service.
+ *
+ * The catalog exchange is declared here (producer side) so events are not
+ * dropped when the catalog starts before any consumer. Consumers declare
+ * and bind their own queues.
+ */
+@Configuration
+public class RabbitMQConfig {
+
+    @Bean
+    public TopicExchange catalogExchange() {
+        return new TopicExchange(
+                CatalogEventConstants.CATALOG_EXCHANGE,
+                true,   // durable: survives broker restarts
+                false   // autoDelete: exchange is not deleted automatically
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package leonil.sulude.catalog.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import leonil.sulude.catalog.service.ServiceResourceService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Internal API for service-to-service lookups (booking-service).
+ *
+ * Not routed by the API gateway. Responses are Smile (binary JSON) when the
+ * caller sends {@code Accept: application/x-jackson-smile}, JSON otherwise.
+ */
+@Tag(
+        name = "Catalog - Internal",
+        description = "Service-to-service endpoints used by booking-service"
+)
+@RestController
+@RequestMapping("/internal/resources")
+public class InternalResourceController {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final ServiceResourceService service;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+
+    public InternalResourceController(ServiceResourceService service,
+                                      ObjectMapper objectMapper,
+                                      MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.service = service;
+        this.jsonMapper = objectMapper;
+        this.smileMapper = smileConverter.getObjectMapper();
+    }
+
+    /**
+     * Retrieves several service resources in one call.
+     *
+     * The response is a single array written element by element while the
+     * resources are loaded, so large batches are neither buffered in memory
+     * nor delayed until the last row is read. Unknown IDs are omitted.
+     *
+     * @param ids    Resource IDs
+     * @param accept Accept header, selects Smile or JSON
+     * @return Stream of the resources found
+     */
+    @Operation(
+            summary = "Retrieve service resources in batch",
+            description = "Streams the requested resources as a Smile or JSON array."
+    )
+    @ApiResponse(responseCode = "200", description = "Resources found (unknown IDs are omitted)")
+    @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> getBatch(
+            @RequestBody List<UUID> ids,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+
+        boolean smile = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(SMILE::isCompatibleWith);
+        ObjectMapper mapper = smile ? smileMapper : jsonMapper;
+
+        // Validate the batch before the response is committed
+        if (ids.size() > ServiceResourceService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "At most " + ServiceResourceService.MAX_BATCH_SIZE + " resources can be requested at once.");
+        }
+
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = mapper.writer().writeValuesAsArray(out)) {
+                service.forEachById(ids, resource -> {
+                    try {
+                        writer.write(resource);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(smile ? SMILE : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -1,17 +1,25 @@
 package leonil.sulude.catalog.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import leonil.sulude.catalog.dto.ServiceOfferRequestDTO;
 import leonil.sulude.catalog.dto.ServiceOfferResponseDTO;
+import leonil.sulude.catalog.model.ServiceCategory;
 import leonil.sulude.catalog.service.ServiceOfferService;
+import leonil.sulude.catalog.snapshot.CatalogSnapshot;
+import leonil.sulude.catalog.snapshot.CatalogSnapshotService;
+import leonil.sulude.catalog.snapshot.RenderedJson;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(
@@ -23,49 +31,69 @@ import java.util.UUID;
 public class ServiceOfferController {
 
     private final ServiceOfferService service;
+    private final CatalogSnapshotService snapshots;
 
-    public ServiceOfferController(ServiceOfferService service) {
+    public ServiceOfferController(ServiceOfferService service, CatalogSnapshotService snapshots) {
         this.service = service;
+        this.snapshots = snapshots;
     }
 
     /**
      * Returns all service offers, optionally including their associated resources.
      *
+     * Served from the pre-rendered {@link CatalogSnapshot}: no query and no serialization per request.
+     *
      * @param includeResources If true, resources are included in the response
+     * @param category         Optional category filter
+     * @param acceptEncoding   Accept-Encoding header, gzip bytes are returned when accepted
      * @return List of service offers
      */
     @Operation(
             summary = "Retrieve all service offers",
             description = "Returns a list of all available service offers. Resources can optionally be included."
     )
-    @ApiResponse(responseCode = "200", description = "Service offers retrieved successfully")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Service offers retrieved successfully",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ServiceOfferResponseDTO.class)))
+    )
     @GetMapping
-    public ResponseEntity<List<ServiceOfferResponseDTO>> getAll(
-            @RequestParam(defaultValue = "false") boolean includeResources) {
+    public ResponseEntity<byte[]> getAll(
+            @RequestParam(defaultValue = "false") boolean includeResources,
+            @RequestParam(required = false) ServiceCategory category,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        List<ServiceOfferResponseDTO> offers = includeResources
-                ? service.getAllWithResources()
-                : service.getAll();
+        CatalogSnapshot snapshot = snapshots.current();
+        RenderedJson offers = category != null
+                ? snapshot.category(category, includeResources)
+                : snapshot.all(includeResources);
 
-        return ResponseEntity.ok(offers);
+        return render(offers, acceptEncoding);
     }
 
     /**
      * Returns a specific service offer by ID.
      *
      * @param id Offer ID
+     * @param acceptEncoding Accept-Encoding header, gzip bytes are returned when accepted
      * @return Offer if found, 404 otherwise
      */
     @Operation(
             summary = "Retrieve a service offer by ID",
             description = "Returns details of a specific service offer."
     )
-    @ApiResponse(responseCode = "200", description = "Offer found")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Offer found",
+            content = @Content(schema = @Schema(implementation = ServiceOfferResponseDTO.class))
+    )
     @ApiResponse(responseCode = "404", description = "Offer not found")
     @GetMapping("/{id}")
-    public ResponseEntity<ServiceOfferResponseDTO> getById(@PathVariable UUID id) {
-        return service.getById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return snapshots.current().offer(id)
+                .map(offer -> render(offer, acceptEncoding))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -106,4 +134,14 @@ public class ServiceOfferController {
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.notFound().build();
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<byte[]> render(RenderedJson body, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
+    }
+}
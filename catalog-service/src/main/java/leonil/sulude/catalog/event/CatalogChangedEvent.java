@@ -0,0 +1,25 @@
+package leonil.sulude.catalog.event;
+
+import java.util.UUID;
+
+/**
+ * Published in-process whenever catalog data changes (offer or resource
+ * created or deleted). Used to patch the catalog snapshot and invalidate
+ * the HTTP response cache.
+ *
+ * @param entity type of the changed entity ("offer" or "resource")
+ * @param id     ID of the changed entity
+ */
+public record CatalogChangedEvent(String entity, UUID id) {
+
+    public static final String OFFER = "offer";
+    public static final String RESOURCE = "resource";
+
+    public static CatalogChangedEvent offer(UUID id) {
+        return new CatalogChangedEvent(OFFER, id);
+    }
+
+    public static CatalogChangedEvent resource(UUID id) {
+        return new CatalogChangedEvent(RESOURCE, id);
+    }
+}
@@ -1,6 +1,8 @@
 package leonil.sulude.catalog.logging;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import leonil.sulude.catalog.logging.dto.LogEventMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +19,12 @@ public class LogEventProducer {
 
     private final RabbitTemplate rabbitTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     public void send(LogEventMessage event) {
+        // Publishing runs on the caller's thread, so its latency adds to every logged request
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
         try {
             // Retrieve correlation ID from MDC
             String correlationId = MDC.get("correlationId");
@@ -47,8 +53,14 @@ public class LogEventProducer {
             );
 
         } catch (Exception e) {
+            outcome = "error";
             // Logging failures must never break business logic
             log.error("Failed to publish log event", e);
+        } finally {
+            sample.stop(Timer.builder("log.event.send")
+                    .description("Time to serialize and publish a log event")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 }
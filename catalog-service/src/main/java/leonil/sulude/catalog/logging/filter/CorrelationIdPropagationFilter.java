@@ -1,12 +1,16 @@
 package leonil.sulude.catalog.logging.filter;
 
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.web.server.ServerWebExchange;
-import org.springframework.web.server.WebFilter;
-import org.springframework.web.server.WebFilterChain;
-import reactor.core.publisher.Mono;
+import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.io.IOException;
 import java.util.UUID;
 
 /**
@@ -21,40 +25,45 @@ import java.util.UUID;
  * -----
  * This service does NOT generate correlation IDs.
  * The API Gateway is responsible for generation.
+ * A fallback ID is only created for requests that bypass the gateway.
  *
  * This filter simply propagates it internally
  * for consistent logging within this service.
+ *
+ * This is a servlet application: the request runs on one thread from this
+ * filter to the response, so the MDC entry is set here and removed in
+ * finally. Only this key is removed; other MDC entries (traceId, spanId)
+ * belong to tracing and are left alone.
  */
 @Component
-public class CorrelationIdPropagationFilter implements WebFilter {
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdPropagationFilter extends OncePerRequestFilter {
 
     private static final String CORRELATION_HEADER = "X-Correlation-Id";
     private static final String MDC_KEY = "correlationId";
 
     @Override
-    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
 
-        String correlationId = exchange.getRequest()
-                .getHeaders()
-                .getFirst(CORRELATION_HEADER);
+        String correlationId = request.getHeader(CORRELATION_HEADER);
 
         if (correlationId == null || correlationId.isBlank()) {
             correlationId = UUID.randomUUID().toString();
         }
 
-        final String finalCorrelationId = correlationId;
-
         // Store in MDC for logging
-        MDC.put(MDC_KEY, finalCorrelationId);
+        MDC.put(MDC_KEY, correlationId);
 
         // Expose it in response for traceability
-        exchange.getResponse()
-                .getHeaders()
-                .add(CORRELATION_HEADER, finalCorrelationId);
+        response.setHeader(CORRELATION_HEADER, correlationId);
 
-        // Clear MDC after request completes (ThreadLocal safety)
-        return chain.filter(exchange)
-                .doFinally(signalType -> MDC.remove(MDC_KEY));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // Clear only our key (ThreadLocal safety)
+            MDC.remove(MDC_KEY);
+        }
     }
 }
-
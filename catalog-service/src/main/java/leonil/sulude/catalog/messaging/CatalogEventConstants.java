@@ -0,0 +1,13 @@
+package leonil.sulude.catalog.messaging;
+
+public final class CatalogEventConstants {
+
+    private CatalogEventConstants() {}
+
+    // Topic exchange for catalog domain events (consumed by booking-service)
+    public static final String CATALOG_EXCHANGE = "app.catalog.exchange";
+
+    // Routing keys for service resource changes
+    public static final String RESOURCE_UPSERTED_ROUTING_KEY = "catalog.resource.upserted";
+    public static final String RESOURCE_DELETED_ROUTING_KEY = "catalog.resource.deleted";
+}
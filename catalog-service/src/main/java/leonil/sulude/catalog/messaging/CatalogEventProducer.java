@@ -0,0 +1,71 @@
+package leonil.sulude.catalog.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.catalog.dto.UnavailablePeriodDTO;
+import leonil.sulude.catalog.messaging.dto.ResourceChangedMessage;
+import leonil.sulude.catalog.model.ServiceResource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publishes service resource changes so other services can maintain
+ * their own read models (e.g. the provider calendar in booking-service)
+ * instead of calling the catalog on every read.
+ *
+ * Each message carries the full current state of the resource,
+ * so consumers can apply it idempotently and out-of-order replays are harmless.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogEventProducer {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void resourceUpserted(ServiceResource resource) {
+        List<UnavailablePeriodDTO> periods = resource.getUnavailablePeriods().stream()
+                .map(p -> new UnavailablePeriodDTO(p.getStartTime(), p.getEndTime()))
+                .toList();
+
+        send(CatalogEventConstants.RESOURCE_UPSERTED_ROUTING_KEY, ResourceChangedMessage.builder()
+                .changeType("UPSERTED")
+                .resourceId(resource.getId())
+                .offerId(resource.getOffer() != null ? resource.getOffer().getId() : null)
+                .active(resource.isActive())
+                .unavailablePeriods(periods)
+                .build());
+    }
+
+    public void resourceDeleted(UUID resourceId) {
+        send(CatalogEventConstants.RESOURCE_DELETED_ROUTING_KEY, ResourceChangedMessage.builder()
+                .changeType("DELETED")
+                .resourceId(resourceId)
+                .unavailablePeriods(List.of())
+                .build());
+    }
+
+    private void send(String routingKey, ResourceChangedMessage message) {
+        try {
+            message.setTimestamp(Instant.now());
+
+            rabbitTemplate.convertAndSend(
+                    CatalogEventConstants.CATALOG_EXCHANGE,
+                    routingKey,
+                    objectMapper.writeValueAsString(message)
+            );
+
+            log.debug("Catalog event sent | type={} | resource={}", message.getChangeType(), message.getResourceId());
+
+        } catch (Exception e) {
+            // Read models can be rebuilt; a broker outage must not fail catalog writes
+            log.error("Failed to publish catalog event for resource {}", message.getResourceId(), e);
+        }
+    }
+}
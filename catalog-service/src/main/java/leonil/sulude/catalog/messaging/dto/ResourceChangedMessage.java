@@ -0,0 +1,25 @@
+package leonil.sulude.catalog.messaging.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import leonil.sulude.catalog.dto.UnavailablePeriodDTO;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ResourceChangedMessage {
+
+    private String changeType;                          // UPSERTED, DELETED
+    private UUID resourceId;                            // Changed service resource
+    private UUID offerId;                               // Owning offer (null on delete)
+    private boolean active;                             // Whether the resource can be booked
+    private List<UnavailablePeriodDTO> unavailablePeriods; // Full current list, not a delta
+    private Instant timestamp;                          // When the change happened
+}
@@ -19,6 +19,10 @@ public class ServiceOffer {
     @GeneratedValue
     private UUID id;
 
+    // Incremented on every update; optimistic locking against lost updates
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String title;
 
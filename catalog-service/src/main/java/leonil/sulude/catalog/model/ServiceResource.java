@@ -16,6 +16,10 @@ public class ServiceResource {
     @GeneratedValue
     private UUID id;
 
+    // Incremented on every update; optimistic locking against lost updates
+    @Version
+    private Long version;
+
     @ManyToOne(optional = false)
     private ServiceOffer offer;
 
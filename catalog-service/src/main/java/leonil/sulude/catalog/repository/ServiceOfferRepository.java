@@ -2,8 +2,13 @@ package leonil.sulude.catalog.repository;
 
 import leonil.sulude.catalog.model.ServiceOffer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.UUID;
 
 public interface ServiceOfferRepository extends JpaRepository<ServiceOffer, UUID> {
+
+    // Bumped by a trigger on every write to offers, resources or periods (V1)
+    @Query(value = "SELECT revision FROM catalog_revision", nativeQuery = true)
+    long findCatalogRevision();
 }
@@ -1,11 +1,26 @@
 package leonil.sulude.catalog.repository;
 
 import leonil.sulude.catalog.model.ServiceResource;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface ServiceResourceRepository extends JpaRepository<ServiceResource, UUID> {
+
+    // Declared queries get no transaction by default; read-only lets a configured replica serve them
+    @Transactional(readOnly = true)
     List<ServiceResource> findByOfferId(UUID offerId);
+
+    // Loads the unavailable periods in the same query (batch lookups map every row)
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = "unavailablePeriods")
+    List<ServiceResource> findByIdIn(Collection<UUID> ids);
+
+    // Every resource with its offer and periods in one query (full catalog snapshot)
+    @EntityGraph(attributePaths = {"offer", "unavailablePeriods"})
+    List<ServiceResource> findAllBy();
 }
@@ -26,6 +26,14 @@ public interface ServiceOfferService {
      */
     List<ServiceOfferResponseDTO> getAllWithResources();
 
+    /**
+     * Retrieves the catalog revision, which changes whenever offers, resources
+     * or unavailable periods are written by any instance.
+     *
+     * @return The current catalog revision.
+     */
+    long getRevision();
+
     /**
      * Retrieves a specific service offer by its unique ID.
      *
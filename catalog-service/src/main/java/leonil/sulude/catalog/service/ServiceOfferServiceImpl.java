@@ -1,24 +1,30 @@
 package leonil.sulude.catalog.service;
 
 import leonil.sulude.catalog.dto.*;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
 import leonil.sulude.catalog.model.ServiceOffer;
 import leonil.sulude.catalog.model.ServiceResource;
 import leonil.sulude.catalog.repository.ServiceOfferRepository;
 import leonil.sulude.catalog.repository.ServiceResourceRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class ServiceOfferServiceImpl implements ServiceOfferService {
 
     private final ServiceOfferRepository offerRepository;
     private final ServiceResourceRepository resourceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ServiceOfferServiceImpl(ServiceOfferRepository offerRepository,
-                                   ServiceResourceRepository resourceRepository) {
+                                   ServiceResourceRepository resourceRepository,
+                                   ApplicationEventPublisher eventPublisher) {
         this.offerRepository = offerRepository;
         this.resourceRepository = resourceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -30,14 +36,22 @@ public class ServiceOfferServiceImpl implements ServiceOfferService {
 
     @Override
     public List<ServiceOfferResponseDTO> getAllWithResources() {
+        // Two queries for the whole catalog instead of one per offer (and per resource for its periods);
+        // offers are read on their own as well, since some have no resources yet
+        Map<UUID, List<ServiceResource>> resourcesByOffer = resourceRepository.findAllBy().stream()
+                .collect(Collectors.groupingBy(resource -> resource.getOffer().getId()));
+
         return offerRepository.findAll().stream()
-                .map(offer -> {
-                    List<ServiceResource> resources = resourceRepository.findByOfferId(offer.getId());
-                    return mapToResponseWithResources(offer, resources);
-                })
+                .map(offer -> mapToResponseWithResources(offer,
+                        resourcesByOffer.getOrDefault(offer.getId(), List.of())))
                 .toList();
     }
 
+    @Override
+    public long getRevision() {
+        return offerRepository.findCatalogRevision();
+    }
+
     @Override
     public Optional<ServiceOfferResponseDTO> getById(UUID id) {
         return offerRepository.findById(id)
@@ -59,6 +73,7 @@ public class ServiceOfferServiceImpl implements ServiceOfferService {
                 request.location()
         );
         ServiceOffer saved = offerRepository.save(offer);
+        eventPublisher.publishEvent(CatalogChangedEvent.offer(saved.getId()));
         return mapToResponseWithoutResources(saved);
     }
 
@@ -66,6 +81,7 @@ public class ServiceOfferServiceImpl implements ServiceOfferService {
     public boolean delete(UUID id) {
         if (!offerRepository.existsById(id)) return false;
         offerRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangedEvent.offer(id));
         return true;
     }
 
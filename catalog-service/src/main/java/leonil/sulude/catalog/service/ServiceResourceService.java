@@ -4,15 +4,22 @@ import leonil.sulude.catalog.dto.ServiceResourceRequestDTO;
 import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
 import leonil.sulude.catalog.model.ServiceResource;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing service resources associated with a service offer.
  */
 public interface ServiceResourceService {
 
+    /**
+     * Maximum number of IDs accepted by a single batch lookup.
+     */
+    int MAX_BATCH_SIZE = 1000;
+
     /**
      * Creates and persists a new service resource based on the provided DTO.
      *
@@ -37,6 +44,15 @@ public interface ServiceResourceService {
      */
     Optional<ServiceResourceResponseDTO> getById(UUID id);
 
+    /**
+     * Retrieves several service resources at once, handing each one to the consumer
+     * as soon as its chunk is loaded. Unknown IDs are skipped.
+     *
+     * @param ids      The IDs of the service resources.
+     * @param consumer Receives each resource found.
+     */
+    void forEachById(Collection<UUID> ids, Consumer<ServiceResourceResponseDTO> consumer);
+
     /**
      * Deletes a service resource by its unique ID.
      *
@@ -3,27 +3,41 @@ package leonil.sulude.catalog.service;
 import leonil.sulude.catalog.dto.ServiceResourceRequestDTO;
 import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
 import leonil.sulude.catalog.dto.UnavailablePeriodDTO;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
+import leonil.sulude.catalog.messaging.CatalogEventProducer;
 import leonil.sulude.catalog.model.ServiceOffer;
 import leonil.sulude.catalog.model.ServiceResource;
 import leonil.sulude.catalog.model.UnavailablePeriod;
 import leonil.sulude.catalog.repository.ServiceOfferRepository;
 import leonil.sulude.catalog.repository.ServiceResourceRepository;
 import leonil.sulude.catalog.service.ServiceResourceService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public class ServiceResourceServiceImpl implements ServiceResourceService {
 
+    private static final int CHUNK_SIZE = 100;
+
     private final ServiceResourceRepository repository;
     private final ServiceOfferRepository offerRepository;
+    private final CatalogEventProducer eventProducer;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ServiceResourceServiceImpl(ServiceResourceRepository repository, ServiceOfferRepository offerRepository) {
+    public ServiceResourceServiceImpl(ServiceResourceRepository repository,
+                                      ServiceOfferRepository offerRepository,
+                                      CatalogEventProducer eventProducer,
+                                      ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
         this.offerRepository = offerRepository;
+        this.eventProducer = eventProducer;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -60,6 +74,12 @@ public class ServiceResourceServiceImpl implements ServiceResourceService {
         }
 
         ServiceResource saved = repository.save(resource);
+
+        // Let read models (booking calendar) pick up the new unavailable periods
+        eventProducer.resourceUpserted(saved);
+        // Invalidate cached catalog responses
+        eventPublisher.publishEvent(CatalogChangedEvent.resource(saved.getId()));
+
         return toResponseDTO(saved);
     }
 
@@ -89,6 +109,27 @@ public class ServiceResourceServiceImpl implements ServiceResourceService {
                 .map(this::toResponseDTO);
     }
 
+    /**
+     * Loads resources in chunks so memory stays bounded for large batches
+     * and the first results can be written while later chunks are loading.
+     *
+     * @param ids      The resource IDs.
+     * @param consumer Receives each response DTO.
+     */
+    @Override
+    public void forEachById(Collection<UUID> ids, Consumer<ServiceResourceResponseDTO> consumer) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " resources can be requested at once.");
+        }
+        List<UUID> distinct = ids.stream().distinct().toList();
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            repository.findByIdIn(chunk).stream()
+                    .map(this::toResponseDTO)
+                    .forEach(consumer);
+        }
+    }
+
     /**
      * Deletes a resource by ID.
      *
@@ -97,6 +138,8 @@ public class ServiceResourceServiceImpl implements ServiceResourceService {
     @Override
     public void delete(UUID id) {
         repository.deleteById(id);
+        eventProducer.resourceDeleted(id);
+        eventPublisher.publishEvent(CatalogChangedEvent.resource(id));
     }
 
     /**
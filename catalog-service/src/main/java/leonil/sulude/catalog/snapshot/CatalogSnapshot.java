@@ -0,0 +1,178 @@
+package leonil.sulude.catalog.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.catalog.dto.ServiceOfferResponseDTO;
+import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
+import leonil.sulude.catalog.model.ServiceCategory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable, pre-rendered view of the whole catalog.
+ *
+ * Each offer is serialized once in two forms (summary and with resources).
+ * List responses (all offers, per-category slices) are assembled by
+ * concatenating those bytes into a JSON array, so a change to one offer only
+ * re-serializes that offer. Readers share an instance without locking;
+ * writers derive a new instance ({@link #withOffer}, {@link #withoutOffer})
+ * and publish it atomically (copy-on-write).
+ */
+public final class CatalogSnapshot {
+
+    // Below this size gzip saves too little to be worth the header and CPU on the client
+    private static final int GZIP_MIN_SIZE = 1024;
+
+    private final Map<UUID, ServiceOfferResponseDTO> offers;   // insertion-ordered
+    private final Map<UUID, UUID> offerByResource;
+    private final Map<UUID, byte[]> summaries;                  // offer without resources
+    private final Map<UUID, RenderedJson> details;              // offer with resources
+    private final RenderedJson allSummaries;
+    private final RenderedJson allDetails;
+    private final Map<ServiceCategory, RenderedJson> categorySummaries;
+    private final Map<ServiceCategory, RenderedJson> categoryDetails;
+
+    private CatalogSnapshot(Map<UUID, ServiceOfferResponseDTO> offers,
+                            Map<UUID, byte[]> summaries,
+                            Map<UUID, RenderedJson> details,
+                            boolean gzip) {
+        this.offers = Collections.unmodifiableMap(offers);
+        this.summaries = Collections.unmodifiableMap(summaries);
+        this.details = Collections.unmodifiableMap(details);
+
+        Map<UUID, UUID> resourceIndex = new HashMap<>();
+        Map<ServiceCategory, List<UUID>> byCategory = new EnumMap<>(ServiceCategory.class);
+        for (ServiceOfferResponseDTO offer : offers.values()) {
+            byCategory.computeIfAbsent(offer.category(), c -> new ArrayList<>()).add(offer.id());
+            if (offer.resources() != null) {
+                offer.resources().forEach(resource -> resourceIndex.put(resource.id(), offer.id()));
+            }
+        }
+        this.offerByResource = Collections.unmodifiableMap(resourceIndex);
+
+        this.allSummaries = render(array(offers.keySet(), summaries::get), gzip);
+        this.allDetails = render(array(offers.keySet(), id -> details.get(id).json()), gzip);
+
+        Map<ServiceCategory, RenderedJson> categorySummaryBodies = new EnumMap<>(ServiceCategory.class);
+        Map<ServiceCategory, RenderedJson> categoryDetailBodies = new EnumMap<>(ServiceCategory.class);
+        byCategory.forEach((category, ids) -> {
+            categorySummaryBodies.put(category, render(array(ids, summaries::get), gzip));
+            categoryDetailBodies.put(category, render(array(ids, id -> details.get(id).json()), gzip));
+        });
+        this.categorySummaries = Collections.unmodifiableMap(categorySummaryBodies);
+        this.categoryDetails = Collections.unmodifiableMap(categoryDetailBodies);
+    }
+
+    /**
+     * Renders a full snapshot from offers that include their resources.
+     */
+    public static CatalogSnapshot build(Collection<ServiceOfferResponseDTO> offers, ObjectMapper mapper, boolean gzip) {
+        Map<UUID, ServiceOfferResponseDTO> byId = new LinkedHashMap<>();
+        Map<UUID, byte[]> summaries = new HashMap<>();
+        Map<UUID, RenderedJson> details = new HashMap<>();
+        for (ServiceOfferResponseDTO offer : offers) {
+            byId.put(offer.id(), offer);
+            summaries.put(offer.id(), serialize(summaryOf(offer), mapper));
+            details.put(offer.id(), render(serialize(offer, mapper), gzip));
+        }
+        return new CatalogSnapshot(byId, summaries, details, gzip);
+    }
+
+    /**
+     * Returns a new snapshot with the offer added or replaced; only that offer is re-serialized.
+     */
+    public CatalogSnapshot withOffer(ServiceOfferResponseDTO offer, ObjectMapper mapper, boolean gzip) {
+        Map<UUID, ServiceOfferResponseDTO> byId = new LinkedHashMap<>(offers);
+        Map<UUID, byte[]> newSummaries = new HashMap<>(summaries);
+        Map<UUID, RenderedJson> newDetails = new HashMap<>(details);
+        byId.put(offer.id(), offer);
+        newSummaries.put(offer.id(), serialize(summaryOf(offer), mapper));
+        newDetails.put(offer.id(), render(serialize(offer, mapper), gzip));
+        return new CatalogSnapshot(byId, newSummaries, newDetails, gzip);
+    }
+
+    /**
+     * Returns a new snapshot without the offer (and its resources).
+     */
+    public CatalogSnapshot withoutOffer(UUID offerId, boolean gzip) {
+        if (!offers.containsKey(offerId)) {
+            return this;
+        }
+        Map<UUID, ServiceOfferResponseDTO> byId = new LinkedHashMap<>(offers);
+        Map<UUID, byte[]> newSummaries = new HashMap<>(summaries);
+        Map<UUID, RenderedJson> newDetails = new HashMap<>(details);
+        byId.remove(offerId);
+        newSummaries.remove(offerId);
+        newDetails.remove(offerId);
+        return new CatalogSnapshot(byId, newSummaries, newDetails, gzip);
+    }
+
+    public RenderedJson all(boolean includeResources) {
+        return includeResources ? allDetails : allSummaries;
+    }
+
+    public RenderedJson category(ServiceCategory category, boolean includeResources) {
+        RenderedJson slice = (includeResources ? categoryDetails : categorySummaries).get(category);
+        return slice != null ? slice : render("[]".getBytes(), false);
+    }
+
+    public Optional<RenderedJson> offer(UUID offerId) {
+        return Optional.ofNullable(details.get(offerId));
+    }
+
+    /**
+     * Offer owning a resource, used to refresh the right offer when a resource is deleted.
+     */
+    public Optional<UUID> offerOfResource(UUID resourceId) {
+        return Optional.ofNullable(offerByResource.get(resourceId));
+    }
+
+    public Collection<ServiceOfferResponseDTO> offers() {
+        return offers.values();
+    }
+
+    private static ServiceOfferResponseDTO summaryOf(ServiceOfferResponseDTO offer) {
+        return new ServiceOfferResponseDTO(offer.id(), offer.title(), offer.description(), offer.category(),
+                offer.providerName(), offer.location(), null);
+    }
+
+    private static byte[] serialize(Object value, ObjectMapper mapper) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render catalog snapshot", e);
+        }
+    }
+
+    private static byte[] array(Collection<UUID> ids, java.util.function.Function<UUID, byte[]> element) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        boolean first = true;
+        for (UUID id : ids) {
+            if (!first) {
+                out.write(',');
+            }
+            out.writeBytes(element.apply(id));
+            first = false;
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private static RenderedJson render(byte[] json, boolean gzip) {
+        if (!gzip || json.length < GZIP_MIN_SIZE) {
+            return new RenderedJson(json, null);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RenderedJson(json, out.toByteArray());
+    }
+}
@@ -0,0 +1,214 @@
+package leonil.sulude.catalog.snapshot;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import leonil.sulude.catalog.dto.ServiceOfferResponseDTO;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
+import leonil.sulude.catalog.repository.ServiceResourceRepository;
+import leonil.sulude.catalog.service.ServiceOfferService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the current {@link CatalogSnapshot} and keeps it in sync with writes.
+ *
+ * - Readers call {@link #current()}: a volatile read, no query, no serialization.
+ * - Writes publish {@link CatalogChangedEvent}; only the affected offer is reloaded
+ *   and a new snapshot is swapped in. Mutations are serialized by this object's lock.
+ * - That event only reaches the instance that handled the write, so every
+ *   {@code catalog.snapshot.refresh-interval} the catalog revision (bumped by the database
+ *   on every write) is compared with the one the snapshot was loaded at. Only when it moved
+ *   are the offers reloaded, and a new snapshot is swapped in when they differ: writes made
+ *   on other instances show up within that interval.
+ * - When {@code catalog.snapshot.dump-file} is set, every snapshot is also written as a
+ *   gzip'd Smile dump. On startup the dump is loaded first so a new replica serves reads
+ *   immediately, while the authoritative rebuild from the database runs in the background.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotService {
+
+    private static final TypeReference<List<ServiceOfferResponseDTO>> DUMP_TYPE = new TypeReference<>() {};
+
+    private final ServiceOfferService offerService;
+    private final ServiceResourceRepository resourceRepository;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper dumpMapper;
+    private final boolean gzip;
+    private final Path dumpFile;
+    private final TransactionOperations transactions;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+    // Catalog revision the offers were last loaded at; guarded by this object's lock
+    private long loadedRevision = -1;
+
+    private record LoadedOffers(long revision, List<ServiceOfferResponseDTO> offers) {}
+
+    public CatalogSnapshotService(ServiceOfferService offerService,
+                                  ServiceResourceRepository resourceRepository,
+                                  ObjectMapper objectMapper,
+                                  MappingJackson2SmileHttpMessageConverter smileConverter,
+                                  @Value("${catalog.snapshot.gzip:true}") boolean gzip,
+                                  @Value("${catalog.snapshot.dump-file:}") String dumpFile,
+                                  TransactionOperations transactions) {
+        this.offerService = offerService;
+        this.resourceRepository = resourceRepository;
+        this.jsonMapper = objectMapper;
+        this.dumpMapper = smileConverter.getObjectMapper();
+        this.gzip = gzip;
+        this.dumpFile = dumpFile.isBlank() ? null : Path.of(dumpFile);
+        this.transactions = transactions;
+    }
+
+    /**
+     * Current snapshot; built synchronously if a request arrives before the first one exists.
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current : rebuild();
+    }
+
+    @PostConstruct
+    void warmStart() {
+        if (dumpFile == null || !Files.isRegularFile(dumpFile)) {
+            return;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(dumpFile))) {
+            List<ServiceOfferResponseDTO> offers = dumpMapper.readValue(in, DUMP_TYPE);
+            snapshot.compareAndSet(null, CatalogSnapshot.build(offers, jsonMapper, gzip));
+            log.info("Catalog snapshot warmed from {} ({} offers)", dumpFile, offers.size());
+        } catch (IOException | RuntimeException e) {
+            // A stale or corrupt dump only costs the warm start; the database rebuild follows
+            log.warn("Could not load catalog snapshot dump {}: {}", dumpFile, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        CompletableFuture.runAsync(this::rebuild)
+                .exceptionally(e -> {
+                    log.error("Catalog snapshot rebuild failed", e);
+                    return null;
+                });
+    }
+
+    /**
+     * Full rebuild from the database.
+     */
+    public synchronized CatalogSnapshot rebuild() {
+        CatalogSnapshot rebuilt = CatalogSnapshot.build(loadOffers().offers(), jsonMapper, gzip);
+        publish(rebuilt);
+        log.info("Catalog snapshot rebuilt ({} offers)", rebuilt.offers().size());
+        return rebuilt;
+    }
+
+    /**
+     * Picks up writes handled by other catalog instances. Costs a single-row read
+     * while the catalog revision is unchanged; the current snapshot is kept (and no
+     * dump written) when the reloaded offers are the same.
+     */
+    @Scheduled(initialDelayString = "${catalog.snapshot.refresh-interval:15s}",
+            fixedDelayString = "${catalog.snapshot.refresh-interval:15s}")
+    public synchronized void refresh() {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return; // The startup rebuild has not run yet
+        }
+
+        Long revision = transactions.execute(status -> offerService.getRevision());
+        if (revision != null && revision == loadedRevision) {
+            return;
+        }
+
+        List<ServiceOfferResponseDTO> offers = loadOffers().offers();
+        if (new HashSet<>(offers).equals(new HashSet<>(current.offers()))) {
+            return;
+        }
+        publish(CatalogSnapshot.build(offers, jsonMapper, gzip));
+        log.info("Catalog snapshot refreshed with changes made elsewhere ({} offers)", offers.size());
+    }
+
+    /**
+     * Runs before the HTTP response cache is invalidated, so responses rendered
+     * after the invalidation already come from the new snapshot.
+     */
+    @Order(0)
+    @EventListener
+    public synchronized void onCatalogChanged(CatalogChangedEvent event) {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return; // Nothing to patch yet, the first rebuild will read the change
+        }
+
+        Optional<UUID> offerId = CatalogChangedEvent.OFFER.equals(event.entity())
+                ? Optional.of(event.id())
+                : resourceRepository.findById(event.id())
+                        .map(resource -> resource.getOffer().getId())
+                        .or(() -> current.offerOfResource(event.id()));
+
+        offerId.ifPresent(id -> publish(offerService.getById(id)
+                .map(offer -> current.withOffer(offer, jsonMapper, gzip))
+                .orElseGet(() -> current.withoutOffer(id, gzip))));
+    }
+
+    /**
+     * Reads in a read-write transaction, which replica routing sends to the primary:
+     * a lagging replica would otherwise undo patches made from fresh writes.
+     * The revision is read first, so a write committed in between only causes
+     * one more reload.
+     */
+    private LoadedOffers loadOffers() {
+        LoadedOffers loaded = transactions.execute(status ->
+                new LoadedOffers(offerService.getRevision(), offerService.getAllWithResources()));
+        loadedRevision = loaded.revision();
+        return loaded;
+    }
+
+    private void publish(CatalogSnapshot next) {
+        snapshot.set(next);
+        if (dumpFile != null) {
+            dump(next);
+        }
+    }
+
+    /**
+     * Writes to a temporary file and moves it into place, so readers never see a partial dump.
+     */
+    private void dump(CatalogSnapshot next) {
+        try {
+            Path parent = dumpFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "catalog-snapshot", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                dumpMapper.writeValue(out, next.offers());
+            }
+            Files.move(tmp, dumpFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write catalog snapshot dump {}: {}", dumpFile, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package leonil.sulude.catalog.snapshot;
+
+/**
+ * Pre-rendered JSON body, optionally with its gzip encoding.
+ *
+ * @param json UTF-8 JSON bytes
+ * @param gzip gzip-compressed JSON, or null when compression is disabled or not worth it
+ */
+public record RenderedJson(byte[] json, byte[] gzip) {}
@@ -0,0 +1,64 @@
+CREATE TABLE service_offers (
+    id            UUID          NOT NULL,
+    version       BIGINT,
+    title         VARCHAR(255)  NOT NULL,
+    description   VARCHAR(1000),
+    category      VARCHAR(255)  NOT NULL,
+    provider_name VARCHAR(255)  NOT NULL,
+    location      VARCHAR(255),
+    created_at    TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_service_offers PRIMARY KEY (id),
+    CONSTRAINT ck_service_offers_category CHECK (category IN
+        ('EDUCATION', 'HEALTH', 'FITNESS', 'CONSULTING', 'TECHNOLOGY', 'BEAUTY', 'OTHER'))
+);
+
+CREATE TABLE service_resources (
+    id                  UUID          NOT NULL,
+    version             BIGINT,
+    offer_id            UUID          NOT NULL,
+    name                VARCHAR(255)  NOT NULL,
+    price               NUMERIC(38, 2) NOT NULL,
+    duration_in_minutes INTEGER,
+    active              BOOLEAN       NOT NULL,
+    CONSTRAINT pk_service_resources PRIMARY KEY (id),
+    CONSTRAINT fk_service_resources_offer FOREIGN KEY (offer_id) REFERENCES service_offers (id)
+);
+
+-- Resources of an offer (findByOfferId, offer details and listings).
+-- PostgreSQL does not index foreign keys by itself.
+CREATE INDEX idx_service_resources_offer ON service_resources (offer_id);
+
+-- Element collection of ServiceResource
+CREATE TABLE unavailable_periods (
+    resource_id UUID         NOT NULL,
+    start_time  TIMESTAMP(6) NOT NULL,
+    end_time    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_unavailable_periods_resource FOREIGN KEY (resource_id) REFERENCES service_resources (id)
+);
+
+-- Periods are loaded, replaced and checked per resource (booking rules scan them by time)
+CREATE INDEX idx_unavailable_periods_resource_start ON unavailable_periods (resource_id, start_time);
+
+-- Change marker of the whole catalog, bumped by every write: instances compare it before
+-- reloading their snapshot. The row lock orders the bumps by commit; catalog writes are rare.
+CREATE TABLE catalog_revision (
+    revision BIGINT NOT NULL
+);
+
+INSERT INTO catalog_revision (revision) VALUES (0);
+
+CREATE FUNCTION bump_catalog_revision() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE catalog_revision SET revision = revision + 1;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER service_offers_revision AFTER INSERT OR UPDATE OR DELETE ON service_offers
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_revision();
+
+CREATE TRIGGER service_resources_revision AFTER INSERT OR UPDATE OR DELETE ON service_resources
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_revision();
+
+CREATE TRIGGER unavailable_periods_revision AFTER INSERT OR UPDATE OR DELETE ON unavailable_periods
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_revision();
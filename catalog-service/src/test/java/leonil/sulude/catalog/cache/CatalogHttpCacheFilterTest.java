@@ -0,0 +1,101 @@
+package leonil.sulude.catalog.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogHttpCacheFilter.
+ *
+ * These tests validate:
+ * - Responses are served from cached bytes after the first rendering
+ * - ETag revalidation with 304
+ * - Invalidation on catalog changes
+ */
+class CatalogHttpCacheFilterTest {
+
+    private CatalogHttpCacheFilter filter;
+
+    private CatalogResponseCache cache;
+
+    private final AtomicInteger renders = new AtomicInteger(); // Controller invocations
+
+    private final FilterChain controller = (request, response) -> {
+        renders.incrementAndGet();
+        response.setContentType("application/json");
+        response.getOutputStream().write("[{\"title\":\"Yoga\"}]".getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void setup() {
+        cache = new CatalogResponseCache(Duration.ofMinutes(1), 100);
+        filter = new CatalogHttpCacheFilter(cache, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Tests that a repeated GET is served from cache with the same strong ETag.
+     */
+    @Test
+    void shouldServeRepeatedGetFromCache() throws Exception {
+
+        MockHttpServletResponse first = get(null);
+        MockHttpServletResponse second = get(null);
+
+        assertEquals(1, renders.get()); // Rendered only once
+        assertEquals(200, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals(first.getHeader("ETag"), second.getHeader("ETag"));
+        assertTrue(first.getHeader("ETag").startsWith("\"")); // Strong ETag
+        assertEquals("max-age=30, must-revalidate, public", second.getHeader("Cache-Control"));
+    }
+
+    /**
+     * Tests that If-None-Match with the current ETag returns 304 without a body.
+     */
+    @Test
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+
+        String etag = get(null).getHeader("ETag");
+
+        MockHttpServletResponse revalidation = get(etag);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, revalidation.getStatus());
+        assertEquals(0, revalidation.getContentAsByteArray().length);
+        assertEquals(etag, revalidation.getHeader("ETag"));
+        assertEquals(1, renders.get());
+    }
+
+    /**
+     * Tests that a catalog change invalidates cached responses.
+     */
+    @Test
+    void shouldRenderAgainAfterCatalogChange() throws Exception {
+
+        get(null);
+        cache.onCatalogChanged(CatalogChangedEvent.offer(UUID.randomUUID()));
+        get(null);
+
+        assertEquals(2, renders.get());
+    }
+
+    private MockHttpServletResponse get(String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/offers");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+}
@@ -0,0 +1,73 @@
+package leonil.sulude.catalog.cache;
+
+import leonil.sulude.catalog.event.CatalogChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogResponseCache.
+ *
+ * These tests validate:
+ * - New responses are still cached after many distinct keys filled the cache
+ * - Entries expire after the TTL even if their key is never read again
+ * - A response rendered before a catalog change is not stored
+ */
+class CatalogResponseCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CatalogResponseCache cache =
+            new CatalogResponseCache(Duration.ofSeconds(10), 100, nanos::get);
+
+    /**
+     * Tests that a client sending many distinct query strings does not
+     * turn caching off: the newest response is still stored and served.
+     */
+    @Test
+    void shouldKeepCachingWhenFull() {
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("/api/offers?page=" + i, cache.generation(), response());
+        }
+
+        CachedResponse offers = response();
+        cache.put("/api/offers", cache.generation(), offers);
+
+        assertSame(offers, cache.get("/api/offers"));
+    }
+
+    /**
+     * Tests that an entry is gone once the TTL has elapsed.
+     */
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        cache.put("/api/offers", cache.generation(), response());
+
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertNotNull(cache.get("/api/offers"));
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertNull(cache.get("/api/offers"));
+    }
+
+    /**
+     * Tests that a response rendered before an invalidation is dropped.
+     */
+    @Test
+    void shouldNotStoreResponseRenderedBeforeChange() {
+        long renderedAt = cache.generation();
+        cache.onCatalogChanged(CatalogChangedEvent.offer(UUID.randomUUID()));
+
+        cache.put("/api/offers", renderedAt, response());
+
+        assertNull(cache.get("/api/offers"));
+    }
+
+    private CachedResponse response() {
+        return new CachedResponse(new byte[]{1}, "application/json", null, "\"etag\"", Instant.now());
+    }
+}
@@ -0,0 +1,121 @@
+package leonil.sulude.catalog.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.catalog.config.JacksonConfig;
+import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
+import leonil.sulude.catalog.service.ServiceResourceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for InternalResourceController.
+ *
+ * These tests validate:
+ * - Smile / JSON selection through the Accept header
+ * - The streamed batch response body
+ *
+ * The Service layer is mocked.
+ */
+@WebMvcTest(InternalResourceController.class)
+@Import(JacksonConfig.class)
+class InternalResourceControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc; // Simulates HTTP requests
+
+    @Autowired
+    private ObjectMapper objectMapper; // Converts objects to JSON
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter; // Decodes Smile responses
+
+    @Autowired
+    private ServiceResourceService service; // Mocked service
+
+    private final ServiceResourceResponseDTO resource = new ServiceResourceResponseDTO(
+            UUID.randomUUID(), "Massage", new BigDecimal("60.00"), 60, true, List.of());
+
+    /**
+     * Tests POST /internal/resources/batch with Accept: application/x-jackson-smile
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamBatchAsSmile() throws Exception {
+
+        doAnswer(invocation -> {
+            invocation.getArgument(1, Consumer.class).accept(resource);
+            return null;
+        }).when(service).forEachById(any(), any());
+
+        MvcResult result = mockMvc.perform(post("/internal/resources/batch")
+                        .accept("application/x-jackson-smile")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(List.of(resource.id(), UUID.randomUUID()))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<ServiceResourceResponseDTO> decoded = smileConverter.getObjectMapper()
+                .readValue(body, new TypeReference<>() {});
+        assertEquals(List.of(resource), decoded);
+    }
+
+    /**
+     * Tests POST /internal/resources/batch without Accept header (JSON).
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamBatchAsJsonByDefault() throws Exception {
+
+        doAnswer(invocation -> {
+            invocation.getArgument(1, Consumer.class).accept(resource);
+            return null;
+        }).when(service).forEachById(any(), any());
+
+        MvcResult result = mockMvc.perform(post("/internal/resources/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(List.of(resource.id()))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$[0].name").value("Massage"));
+    }
+
+    /**
+     * Test configuration replacing the real service with a Mockito mock.
+     */
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        ServiceResourceService service() {
+            return mock(ServiceResourceService.class);
+        }
+    }
+}
@@ -3,8 +3,11 @@ package leonil.sulude.catalog.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import leonil.sulude.catalog.dto.ServiceOfferRequestDTO;
 import leonil.sulude.catalog.dto.ServiceOfferResponseDTO;
+import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
 import leonil.sulude.catalog.model.ServiceCategory;
 import leonil.sulude.catalog.service.ServiceOfferService;
+import leonil.sulude.catalog.snapshot.CatalogSnapshot;
+import leonil.sulude.catalog.snapshot.CatalogSnapshotService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -12,8 +15,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.Mockito.*;
@@ -28,7 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - Status codes
  * - JSON responses
  *
- * The Service layer is mocked.
+ * The Service layer is mocked; reads are served from a snapshot built in each test.
  */
 @WebMvcTest(ServiceOfferController.class)
 class ServiceOfferControllerTest {
@@ -42,6 +45,9 @@ class ServiceOfferControllerTest {
     @Autowired
     private ServiceOfferService service; // Mocked service
 
+    @Autowired
+    private CatalogSnapshotService snapshots; // Mocked snapshot holder
+
     /**
      * Tests GET /api/offers without resources.
      */
@@ -58,13 +64,14 @@ class ServiceOfferControllerTest {
                 null
         );
 
-        when(service.getAll()).thenReturn(List.of(response));
+        when(snapshots.current()).thenReturn(CatalogSnapshot.build(List.of(response), objectMapper, false));
 
         mockMvc.perform(get("/api/offers"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value("Haircut")); // Navigate JSON root ($) → field "title" and assert its value
+                .andExpect(jsonPath("$[0].title").value("Haircut")) // Navigate JSON root ($) → field "title" and assert its value
+                .andExpect(jsonPath("$[0].resources").doesNotExist());
 
-        verify(service).getAll(); // Ensure correct service method was called
+        verify(service, never()).getAll(); // Reads never reach the service layer
     }
 
     /**
@@ -80,17 +87,38 @@ class ServiceOfferControllerTest {
                 ServiceCategory.HEALTH,
                 "Spa Center",
                 "Porto",
-                List.of()
+                List.of(new ServiceResourceResponseDTO(UUID.randomUUID(), "Room 1", BigDecimal.TEN, 60, true, List.of()))
         );
 
-        when(service.getAllWithResources()).thenReturn(List.of(response));
+        when(snapshots.current()).thenReturn(CatalogSnapshot.build(List.of(response), objectMapper, false));
 
         mockMvc.perform(get("/api/offers")
                         .param("includeResources", "true"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value("Massage")); // Navigate JSON root ($) → field "title" and assert its value
+                .andExpect(jsonPath("$[0].title").value("Massage")) // Navigate JSON root ($) → field "title" and assert its value
+                .andExpect(jsonPath("$[0].resources[0].name").value("Room 1"));
 
-        verify(service).getAllWithResources();
+        verify(service, never()).getAllWithResources();
+    }
+
+    /**
+     * Tests GET /api/offers?category=... returns only that category slice.
+     */
+    @Test
+    void shouldReturnOffersOfCategory() throws Exception {
+
+        ServiceOfferResponseDTO haircut = new ServiceOfferResponseDTO(
+                UUID.randomUUID(), "Haircut", "Basic haircut", ServiceCategory.BEAUTY, "Salon A", "Lisbon", null);
+        ServiceOfferResponseDTO yoga = new ServiceOfferResponseDTO(
+                UUID.randomUUID(), "Yoga Class", "Morning yoga", ServiceCategory.FITNESS, "Yoga Studio", "Coimbra", null);
+
+        when(snapshots.current()).thenReturn(CatalogSnapshot.build(List.of(haircut, yoga), objectMapper, false));
+
+        mockMvc.perform(get("/api/offers")
+                        .param("category", "FITNESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Yoga Class"));
     }
 
     /**
@@ -111,13 +139,11 @@ class ServiceOfferControllerTest {
                 null
         );
 
-        when(service.getById(id)).thenReturn(Optional.of(response));
+        when(snapshots.current()).thenReturn(CatalogSnapshot.build(List.of(response), objectMapper, false));
 
         mockMvc.perform(get("/api/offers/" + id))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("Yoga Class")); // Navigate JSON root ($) → field "title" and assert its value
-
-        verify(service).getById(id);
     }
 
     /**
@@ -128,12 +154,10 @@ class ServiceOfferControllerTest {
 
         UUID id = UUID.randomUUID();
 
-        when(service.getById(id)).thenReturn(Optional.empty());
+        when(snapshots.current()).thenReturn(CatalogSnapshot.build(List.of(), objectMapper, false));
 
         mockMvc.perform(get("/api/offers/" + id))
                 .andExpect(status().isNotFound());
-
-        verify(service).getById(id);
     }
 
     /**
@@ -217,5 +241,10 @@ class ServiceOfferControllerTest {
         ServiceOfferService service() {
             return mock(ServiceOfferService.class);
         }
+
+        @Bean
+        CatalogSnapshotService snapshots() {
+            return mock(CatalogSnapshotService.class);
+        }
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package leonil.sulude.catalog.exception;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import leonil.sulude.catalog.controller.ServiceOfferController;
 import leonil.sulude.catalog.service.ServiceOfferService;
+import leonil.sulude.catalog.snapshot.CatalogSnapshotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -31,6 +32,8 @@ class GlobalExceptionHandlerStandaloneTest {
 
     private ServiceOfferService service;
 
+    private CatalogSnapshotService snapshots;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
@@ -38,9 +41,10 @@ class GlobalExceptionHandlerStandaloneTest {
 
         // Mock service used by the controller
         service = Mockito.mock(ServiceOfferService.class);
+        snapshots = Mockito.mock(CatalogSnapshotService.class);
 
         // Controller under test
-        ServiceOfferController controller = new ServiceOfferController(service);
+        ServiceOfferController controller = new ServiceOfferController(service, snapshots);
 
         // Validator required for @Valid annotations to work in standalone mode
         LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
@@ -163,7 +167,7 @@ class GlobalExceptionHandlerStandaloneTest {
     @Test
     void shouldReturn500ForUnexpectedErrors() throws Exception {
 
-        when(service.getAll())
+        when(snapshots.current())
                 .thenThrow(new RuntimeException("Unexpected error"));
 
         mockMvc.perform(get("/api/offers"))
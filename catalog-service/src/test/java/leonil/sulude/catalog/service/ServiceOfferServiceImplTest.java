@@ -2,8 +2,10 @@ package leonil.sulude.catalog.service;
 
 import leonil.sulude.catalog.dto.ServiceOfferRequestDTO;
 import leonil.sulude.catalog.dto.ServiceOfferResponseDTO;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
 import leonil.sulude.catalog.model.ServiceCategory;
 import leonil.sulude.catalog.model.ServiceOffer;
+import leonil.sulude.catalog.model.ServiceResource;
 import leonil.sulude.catalog.repository.ServiceOfferRepository;
 import leonil.sulude.catalog.repository.ServiceResourceRepository;
 import org.junit.jupiter.api.Test;
@@ -11,7 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +38,9 @@ class ServiceOfferServiceImplTest {
     @Mock
     private ServiceResourceRepository resourceRepository; // Fake repository created by Mockito
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // Mocked in-process event publisher (cache invalidation)
+
     @InjectMocks
     private ServiceOfferServiceImpl service; // Real service with the mocks injected
 
@@ -64,6 +71,38 @@ class ServiceOfferServiceImplTest {
         verify(offerRepository).findAll(); // Ensure service called repository.findAll()
     }
 
+    /**
+     * Tests that the full catalog is loaded with one resource query for all
+     * offers, and that offers without resources are kept.
+     */
+    @Test
+    void shouldLoadAllOffersWithResourcesWithoutPerOfferQueries() {
+
+        ServiceOffer yoga = new ServiceOffer("Yoga Class", "Morning yoga session",
+                ServiceCategory.FITNESS, "Yoga Studio", "Coimbra");
+        yoga.setId(UUID.randomUUID());
+        ServiceOffer haircut = new ServiceOffer("Haircut", "Professional haircut",
+                ServiceCategory.BEAUTY, "Salon A", "Lisbon");
+        haircut.setId(UUID.randomUUID());
+
+        ServiceResource mat = new ServiceResource();
+        mat.setId(UUID.randomUUID());
+        mat.setOffer(yoga);
+        mat.setName("Mat 1");
+        mat.setPrice(BigDecimal.TEN);
+
+        when(offerRepository.findAll()).thenReturn(List.of(yoga, haircut));
+        when(resourceRepository.findAllBy()).thenReturn(List.of(mat));
+
+        List<ServiceOfferResponseDTO> result = service.getAllWithResources();
+
+        assertEquals(2, result.size());
+        assertEquals(mat.getId(), result.get(0).resources().get(0).id());
+        assertTrue(result.get(1).resources().isEmpty()); // Offer without resources still listed
+
+        verify(resourceRepository, never()).findByOfferId(any()); // No query per offer
+    }
+
     /**
      * Tests retrieving an offer by ID when it exists.
      */
@@ -177,6 +216,7 @@ class ServiceOfferServiceImplTest {
 
         // Verify delete operation happened
         verify(offerRepository).deleteById(id); // Service executed delete
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.offer(id)); // Cached responses invalidated
     }
 
     /**
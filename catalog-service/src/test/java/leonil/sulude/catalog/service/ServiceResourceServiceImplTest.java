@@ -3,6 +3,8 @@ package leonil.sulude.catalog.service;
 import leonil.sulude.catalog.dto.ServiceResourceRequestDTO;
 import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
 import leonil.sulude.catalog.dto.UnavailablePeriodDTO;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
+import leonil.sulude.catalog.messaging.CatalogEventProducer;
 import leonil.sulude.catalog.model.ServiceOffer;
 import leonil.sulude.catalog.model.ServiceResource;
 import leonil.sulude.catalog.repository.ServiceOfferRepository;
@@ -12,14 +14,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,6 +39,12 @@ class ServiceResourceServiceImplTest {
     @Mock
     private ServiceOfferRepository offerRepository; // Mocked offer repository
 
+    @Mock
+    private CatalogEventProducer eventProducer; // Mocked catalog event publisher
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // Mocked in-process event publisher (cache invalidation)
+
     @InjectMocks
     private ServiceResourceServiceImpl service; // Service under test
 
@@ -74,6 +85,7 @@ class ServiceResourceServiceImplTest {
 
         verify(offerRepository).findById(offerId); // Ensure offer lookup happened
         verify(repository).save(any()); // Ensure resource was persisted
+        verify(eventProducer).resourceUpserted(any()); // Ensure read models are notified
     }
 
     /**
@@ -100,6 +112,7 @@ class ServiceResourceServiceImplTest {
 
         verify(offerRepository).findById(offerId); // Verify lookup occurred
         verify(repository, never()).save(any()); // Ensure resource was not saved
+        verifyNoInteractions(eventProducer); // No event for a failed write
     }
 
     /**
@@ -213,5 +226,51 @@ class ServiceResourceServiceImplTest {
         service.delete(id);
 
         verify(repository).deleteById(id); // Ensure repository delete was called
+        verify(eventProducer).resourceDeleted(id); // Ensure read models are notified
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.resource(id)); // Ensure cached responses are invalidated
+    }
+
+    /**
+     * Tests that batch lookups skip duplicate IDs and query the repository in chunks.
+     */
+    @Test
+    void shouldLoadBatchInChunks() {
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        ids.add(ids.get(0)); // duplicate
+
+        ServiceResource resource = new ServiceResource();
+        resource.setId(ids.get(0));
+        resource.setName("Massage");
+        resource.setPrice(BigDecimal.valueOf(60));
+        resource.setUnavailablePeriods(List.of());
+
+        when(repository.findByIdIn(anyList())).thenReturn(List.of(resource), List.of());
+
+        List<ServiceResourceResponseDTO> received = new ArrayList<>();
+        service.forEachById(ids, received::add);
+
+        assertEquals(1, received.size());
+        verify(repository).findByIdIn(ids.subList(0, 100)); // First chunk
+        verify(repository).findByIdIn(ids.subList(100, 150)); // Second chunk, duplicate removed
+    }
+
+    /**
+     * Tests that oversized batch lookups are rejected.
+     */
+    @Test
+    void shouldRejectOversizedBatch() {
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i <= ServiceResourceService.MAX_BATCH_SIZE; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> service.forEachById(ids, r -> {}));
+
+        verifyNoInteractions(repository);
     }
-}
\ No newline at end of file
+}
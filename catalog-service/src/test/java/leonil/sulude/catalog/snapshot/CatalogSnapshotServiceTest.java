@@ -0,0 +1,129 @@
+package leonil.sulude.catalog.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.catalog.dto.ServiceOfferResponseDTO;
+import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
+import leonil.sulude.catalog.event.CatalogChangedEvent;
+import leonil.sulude.catalog.model.ServiceCategory;
+import leonil.sulude.catalog.repository.ServiceResourceRepository;
+import leonil.sulude.catalog.service.ServiceOfferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogSnapshotService.
+ *
+ * These tests validate:
+ * - Writes handled by another instance reach this instance's snapshot on refresh
+ * - A refresh skips reloading the offers while the catalog revision is unchanged
+ * - A reload finding the same offers keeps the current snapshot
+ */
+class CatalogSnapshotServiceTest {
+
+    @Mock
+    private ServiceOfferService offerService; // Stands in for the database shared by all instances
+
+    @Mock
+    private ServiceResourceRepository resourceRepository;
+
+    private final List<ServiceOfferResponseDTO> database = new ArrayList<>();
+    private final AtomicLong revision = new AtomicLong(); // Bumped by the database on every write
+
+    private CatalogSnapshotService instanceA;
+    private CatalogSnapshotService instanceB;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(offerService.getAllWithResources()).thenAnswer(invocation -> List.copyOf(database));
+        when(offerService.getRevision()).thenAnswer(invocation -> revision.get());
+        when(offerService.getById(any())).thenAnswer(invocation -> database.stream()
+                .filter(offer -> offer.id().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(resourceRepository.findById(any())).thenReturn(Optional.empty());
+
+        database.add(offer("Haircut"));
+        instanceA = instance();
+        instanceB = instance();
+        instanceA.rebuild();
+        instanceB.rebuild();
+    }
+
+    /**
+     * Tests that an offer created through instance A, which only A is told about,
+     * is served by instance B after its next refresh.
+     */
+    @Test
+    void shouldServeWriteMadeOnAnotherInstanceAfterRefresh() {
+        ServiceOfferResponseDTO yoga = offer("Yoga");
+        database.add(yoga);
+        revision.incrementAndGet();
+        instanceA.onCatalogChanged(CatalogChangedEvent.offer(yoga.id()));
+
+        assertTrue(instanceA.current().offer(yoga.id()).isPresent());
+        assertTrue(instanceB.current().offer(yoga.id()).isEmpty()); // The event never reached B
+
+        instanceB.refresh();
+
+        assertTrue(instanceB.current().offer(yoga.id()).isPresent());
+        assertEquals(2, instanceB.current().offers().size());
+    }
+
+    /**
+     * Tests that a refresh with an unchanged revision reads nothing but the revision.
+     */
+    @Test
+    void shouldNotReloadOffersWhenRevisionUnchanged() {
+        CatalogSnapshot before = instanceB.current();
+        clearInvocations(offerService);
+
+        instanceB.refresh();
+
+        assertSame(before, instanceB.current());
+        verify(offerService, never()).getAllWithResources();
+    }
+
+    /**
+     * Tests that a reload finding the same offers (the revision moved, e.g. for a
+     * write already patched in) keeps the snapshot readers hold.
+     */
+    @Test
+    void shouldKeepSnapshotWhenOffersUnchanged() {
+        CatalogSnapshot before = instanceB.current();
+        clearInvocations(offerService);
+        revision.incrementAndGet();
+
+        instanceB.refresh();
+
+        assertSame(before, instanceB.current());
+        verify(offerService).getAllWithResources();
+    }
+
+    private CatalogSnapshotService instance() {
+        return new CatalogSnapshotService(offerService, resourceRepository, new ObjectMapper(),
+                new MappingJackson2SmileHttpMessageConverter(), false, "",
+                TransactionOperations.withoutTransaction());
+    }
+
+    private ServiceOfferResponseDTO offer(String title) {
+        ServiceResourceResponseDTO resource = new ServiceResourceResponseDTO(
+                UUID.randomUUID(), title + " 0", BigDecimal.TEN, 60, true, List.of());
+        return new ServiceOfferResponseDTO(UUID.randomUUID(), title, title + " description",
+                ServiceCategory.FITNESS, "Provider", "Lisbon", List.of(resource));
+    }
+}
@@ -0,0 +1,106 @@
+package leonil.sulude.catalog.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.catalog.dto.ServiceOfferResponseDTO;
+import leonil.sulude.catalog.dto.ServiceResourceResponseDTO;
+import leonil.sulude.catalog.model.ServiceCategory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogSnapshot.
+ *
+ * These tests validate:
+ * - Pre-rendered list, category and offer bodies
+ * - Copy-on-write updates leave the previous snapshot untouched
+ * - Gzip rendering of large bodies
+ */
+class CatalogSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Tests that lists, category slices and single offers are rendered as valid JSON.
+     */
+    @Test
+    void shouldRenderListsCategoriesAndOffers() throws Exception {
+
+        ServiceOfferResponseDTO haircut = offer("Haircut", ServiceCategory.BEAUTY, 1);
+        ServiceOfferResponseDTO yoga = offer("Yoga", ServiceCategory.FITNESS, 2);
+
+        CatalogSnapshot snapshot = CatalogSnapshot.build(List.of(haircut, yoga), objectMapper, false);
+
+        JsonNode summaries = objectMapper.readTree(snapshot.all(false).json());
+        assertEquals(2, summaries.size());
+        assertFalse(summaries.get(0).has("resources")); // Summaries omit resources
+
+        JsonNode details = objectMapper.readTree(snapshot.all(true).json());
+        assertEquals(2, details.get(1).get("resources").size());
+
+        JsonNode fitness = objectMapper.readTree(snapshot.category(ServiceCategory.FITNESS, false).json());
+        assertEquals(1, fitness.size());
+        assertEquals("Yoga", fitness.get(0).get("title").asText());
+
+        assertEquals("[]", new String(snapshot.category(ServiceCategory.EDUCATION, true).json()));
+        assertEquals("Haircut", objectMapper.readTree(snapshot.offer(haircut.id()).orElseThrow().json())
+                .get("title").asText());
+        assertEquals(haircut.id(), snapshot.offerOfResource(haircut.resources().get(0).id()).orElseThrow());
+    }
+
+    /**
+     * Tests that updates produce a new snapshot and never modify the one readers hold.
+     */
+    @Test
+    void shouldApplyChangesCopyOnWrite() throws Exception {
+
+        ServiceOfferResponseDTO haircut = offer("Haircut", ServiceCategory.BEAUTY, 1);
+        ServiceOfferResponseDTO yoga = offer("Yoga", ServiceCategory.FITNESS, 1);
+        CatalogSnapshot original = CatalogSnapshot.build(List.of(haircut), objectMapper, false);
+
+        CatalogSnapshot added = original.withOffer(yoga, objectMapper, false);
+        CatalogSnapshot removed = added.withoutOffer(haircut.id(), false);
+
+        assertEquals(1, objectMapper.readTree(original.all(false).json()).size());
+        assertTrue(original.offer(yoga.id()).isEmpty());
+        assertEquals(2, objectMapper.readTree(added.all(false).json()).size());
+        assertEquals(1, objectMapper.readTree(removed.all(false).json()).size());
+        assertTrue(removed.offer(haircut.id()).isEmpty());
+        assertTrue(removed.offerOfResource(haircut.resources().get(0).id()).isEmpty());
+    }
+
+    /**
+     * Tests that large bodies also carry a gzip rendering of the same JSON.
+     */
+    @Test
+    void shouldGzipLargeBodies() throws Exception {
+
+        CatalogSnapshot snapshot = CatalogSnapshot.build(List.of(offer("Gym", ServiceCategory.FITNESS, 40)),
+                objectMapper, true);
+
+        RenderedJson body = snapshot.all(true);
+
+        assertNotNull(body.gzip());
+        assertTrue(body.gzip().length < body.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.gzip()))) {
+            assertArrayEquals(body.json(), in.readAllBytes());
+        }
+        assertNull(snapshot.all(false).gzip()); // Too small to be worth compressing
+    }
+
+    private ServiceOfferResponseDTO offer(String title, ServiceCategory category, int resources) {
+        List<ServiceResourceResponseDTO> resourceList = java.util.stream.IntStream.range(0, resources)
+                .mapToObj(i -> new ServiceResourceResponseDTO(
+                        UUID.randomUUID(), title + " " + i, BigDecimal.TEN, 60, true, List.of()))
+                .toList();
+        return new ServiceOfferResponseDTO(UUID.randomUUID(), title, title + " description", category,
+                "Provider", "Lisbon", resourceList);
+    }
+}
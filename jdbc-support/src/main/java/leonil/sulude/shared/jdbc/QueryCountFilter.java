@@ -0,0 +1,36 @@
+package leonil.sulude.shared.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements each request issues (N+1 detection, see QueryStats).
+ *
+ * Registered by QueryStatsConfig right after CorrelationIdPropagationFilter,
+ * so the warning for a flagged request carries its correlation ID.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryStats stats;
+
+    public QueryCountFilter(QueryStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        stats.beginRequest();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stats.endRequest(request.getMethod(), request.getRequestURI());
+        }
+    }
+}
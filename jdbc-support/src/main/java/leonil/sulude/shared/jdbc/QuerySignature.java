@@ -0,0 +1,48 @@
+package leonil.sulude.shared.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized form of a SQL statement, used to aggregate statistics.
+ *
+ * Whitespace is collapsed, literals are replaced with ? (so they never reach
+ * the logs or the stats endpoint) and IN lists of any length become (?...),
+ * so "in (?, ?)" and "in (?, ?, ?)" count as the same query.
+ *
+ * Hibernate reuses the same SQL string for a given query, so signatures are
+ * cached by SQL text; the cache is bounded and falls back to normalizing on
+ * every call for ad-hoc statements past the limit.
+ */
+public final class QuerySignature {
+
+    private static final int CACHE_LIMIT = 2000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private QuerySignature() {}
+
+    public static String of(String sql) {
+        String signature = CACHE.get(sql);
+        if (signature == null) {
+            signature = normalize(sql);
+            if (CACHE.size() < CACHE_LIMIT) {
+                CACHE.put(sql, signature);
+            }
+        }
+        return signature;
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+}
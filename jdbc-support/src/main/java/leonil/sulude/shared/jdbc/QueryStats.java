@@ -0,0 +1,188 @@
+package leonil.sulude.shared.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-signature JDBC statistics and per-request query counting.
+ *
+ * Every statement is recorded under its QuerySignature: executions, errors,
+ * rows (update counts, and rows read from result sets) and an HdrHistogram of
+ * execution times in microseconds. The number of signatures is bounded;
+ * statements past the limit are aggregated under OTHER.
+ *
+ * Requests are tracked per thread between beginRequest and endRequest. A
+ * request issuing more than maxQueriesPerRequest statements is logged as a
+ * possible N+1 with its most repeated signature, and kept in a short list of
+ * recent offenders. Statements run on other threads (executors, schedulers)
+ * are not attributed to the request.
+ *
+ * Each service declares it as a bean in its QueryStatsConfig, with the limit
+ * read from <service>.query-stats.max-queries-per-request.
+ */
+@Slf4j
+public class QueryStats {
+
+    static final String OTHER = "<other>";
+
+    private static final int MAX_SIGNATURES = 500;
+
+    private static final int RECENT_FLAGGED = 20;
+
+    private final Map<String, SignatureStats> signatures = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<RequestQueries> currentRequest = new ThreadLocal<>();
+
+    private final Deque<FlaggedRequest> recentFlagged = new ArrayDeque<>();
+
+    private final LongAdder flaggedRequests = new LongAdder();
+
+    private final int maxQueriesPerRequest;
+
+    public QueryStats(int maxQueriesPerRequest) {
+        this.maxQueriesPerRequest = maxQueriesPerRequest;
+    }
+
+    /**
+     * Records one execution and returns the stats it was recorded in,
+     * so rows read later from its result set can be added.
+     */
+    public SignatureStats record(String signature, long elapsedNanos, long rows, boolean success) {
+        SignatureStats stats = signatures.get(signature);
+        if (stats == null) {
+            String key = signatures.size() < MAX_SIGNATURES ? signature : OTHER;
+            stats = signatures.computeIfAbsent(key, k -> new SignatureStats());
+        }
+        stats.record(elapsedNanos, rows, success);
+
+        RequestQueries request = currentRequest.get();
+        if (request != null) {
+            request.add(signature);
+        }
+        return stats;
+    }
+
+    public void beginRequest() {
+        currentRequest.set(new RequestQueries());
+    }
+
+    public void endRequest(String method, String path) {
+        RequestQueries request = currentRequest.get();
+        currentRequest.remove();
+        if (request == null || request.total <= maxQueriesPerRequest) {
+            return;
+        }
+
+        Map.Entry<String, Integer> top = request.bySignature.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElseThrow();
+        FlaggedRequest flagged = new FlaggedRequest(method + " " + path, request.total, top.getKey(), top.getValue());
+
+        flaggedRequests.increment();
+        synchronized (recentFlagged) {
+            if (recentFlagged.size() == RECENT_FLAGGED) {
+                recentFlagged.removeFirst();
+            }
+            recentFlagged.addLast(flagged);
+        }
+        log.warn("Possible N+1 | request={} | queries={} | limit={} | repeated={}x {}",
+                flagged.request(), flagged.queries(), maxQueriesPerRequest,
+                flagged.repeatedCount(), flagged.repeatedSignature());
+    }
+
+    /**
+     * Signatures by total execution time, most expensive first.
+     */
+    public Report report() {
+        List<QuerySummary> queries = new ArrayList<>();
+        signatures.forEach((signature, stats) -> queries.add(stats.summary(signature)));
+        queries.sort(Comparator.comparingDouble(QuerySummary::totalMs).reversed());
+
+        List<FlaggedRequest> flagged;
+        synchronized (recentFlagged) {
+            flagged = new ArrayList<>(recentFlagged);
+        }
+        return new Report(maxQueriesPerRequest, flaggedRequests.sum(), flagged, queries);
+    }
+
+    public void reset() {
+        signatures.clear();
+        flaggedRequests.reset();
+        synchronized (recentFlagged) {
+            recentFlagged.clear();
+        }
+    }
+
+    public static final class SignatureStats {
+
+        private static final double MICROS_PER_MILLI = 1000.0;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+
+        // Auto-resizing, 2 significant digits
+        private final Histogram micros = new ConcurrentHistogram(2);
+
+        void record(long elapsedNanos, long rowCount, boolean success) {
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+            count.increment();
+            if (!success) {
+                errors.increment();
+            }
+            rows.add(rowCount);
+            totalMicros.add(elapsedMicros);
+            micros.recordValue(elapsedMicros);
+        }
+
+        public void addRows(long rowCount) {
+            rows.add(rowCount);
+        }
+
+        QuerySummary summary(String signature) {
+            return new QuerySummary(
+                    signature,
+                    count.sum(),
+                    errors.sum(),
+                    rows.sum(),
+                    totalMicros.sum() / MICROS_PER_MILLI,
+                    micros.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    micros.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    micros.getMaxValue() / MICROS_PER_MILLI
+            );
+        }
+    }
+
+    private static final class RequestQueries {
+
+        private final Map<String, Integer> bySignature = new HashMap<>();
+
+        private int total;
+
+        void add(String signature) {
+            total++;
+            bySignature.merge(signature, 1, Integer::sum);
+        }
+    }
+
+    public record QuerySummary(String signature, long count, long errors, long rows,
+                               double totalMs, double p50Ms, double p99Ms, double maxMs) {}
+
+    public record FlaggedRequest(String request, int queries, String repeatedSignature, int repeatedCount) {}
+
+    public record Report(int maxQueriesPerRequest, long flaggedRequests,
+                         List<FlaggedRequest> recentFlagged, List<QuerySummary> queries) {}
+}
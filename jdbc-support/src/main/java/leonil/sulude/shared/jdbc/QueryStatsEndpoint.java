@@ -0,0 +1,32 @@
+package leonil.sulude.shared.jdbc;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * /actuator/querystats: per-signature count, errors, rows and p50/p99/max
+ * execution time, plus the requests flagged as possible N+1.
+ * DELETE resets the statistics, e.g. before a load test.
+ *
+ * Declared as a bean by each service's QueryStatsConfig.
+ */
+@Endpoint(id = "querystats")
+public class QueryStatsEndpoint {
+
+    private final QueryStats stats;
+
+    public QueryStatsEndpoint(QueryStats stats) {
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public QueryStats.Report queryStats() {
+        return stats.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        stats.reset();
+    }
+}
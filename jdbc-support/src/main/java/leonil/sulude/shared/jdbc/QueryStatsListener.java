@@ -0,0 +1,154 @@
+package leonil.sulude.shared.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statement instrumentation on the datasource-proxy layer that
+ * datasource-micrometer already wraps around the DataSource (both pick up
+ * QueryExecutionListener and MethodExecutionListener beans).
+ *
+ * - Every statement is timed and recorded in QueryStats under its signature.
+ * - Statements slower than <service>.query-stats.slow-threshold are logged at
+ *   WARN with their signature. Bind values are redacted: only their types
+ *   are logged.
+ * - Rows: update counts for writes. For queries, ResultSet.next() calls
+ *   are counted on the result set proxy (QueryStatsConfig) and added to
+ *   the last query executed on the same thread. Hibernate reads a result
+ *   set completely before running the next statement.
+ * - A batch is one round trip: its time is split evenly across its statements
+ *   (none is recorded as 0 ns), and a slow batch is logged once.
+ *
+ * This replaces show-sql, which printed every statement to stdout.
+ */
+@Slf4j
+public class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "queryStats.startNanos";
+
+    private final QueryStats stats;
+
+    private final long slowThresholdNanos;
+
+    // Stats of the last query whose result set is being read on this thread
+    private final ThreadLocal<QueryStats.SignatureStats> openResultSet = new ThreadLocal<>();
+
+    public QueryStatsListener(QueryStats stats, Duration slowThreshold) {
+        this.stats = stats;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queries) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queries) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        long rows = updateCount(execInfo.getResult());
+
+        QueryStats.SignatureStats recorded = null;
+        int statements = queries.size();
+        for (int i = 0; i < statements; i++) {
+            String signature = QuerySignature.of(queries.get(i).getQuery());
+            long share = elapsedNanos / statements + (i == 0 ? elapsedNanos % statements : 0);
+            long statementRows = statementRows(execInfo.getResult(), i, statements, rows);
+            recorded = stats.record(signature, share, statementRows, execInfo.isSuccess());
+            if (i == 0 && elapsedNanos >= slowThresholdNanos) {
+                logSlow(execInfo, queries.get(i), signature, elapsedNanos, rows);
+            }
+        }
+
+        if (execInfo.getResult() instanceof ResultSet) {
+            openResultSet.set(recorded);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        String method = executionContext.getMethod().getName();
+        if ("next".equals(method) && Boolean.TRUE.equals(executionContext.getResult())) {
+            QueryStats.SignatureStats owner = openResultSet.get();
+            if (owner != null) {
+                owner.addRows(1);
+            }
+        } else if ("close".equals(method)) {
+            openResultSet.remove();
+        }
+    }
+
+    private void logSlow(ExecutionInfo execInfo, QueryInfo query, String signature, long elapsedNanos, long rows) {
+        log.warn("Slow query | elapsedMs={} | type={} | batchSize={} | success={} | rows={} | params={} | sql={}",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                execInfo.getStatementType(),
+                execInfo.isBatch() ? execInfo.getBatchSize() : 1,
+                execInfo.isSuccess(),
+                execInfo.getResult() instanceof ResultSet ? "n/a" : rows,
+                redactedParameters(query),
+                signature);
+    }
+
+    /**
+     * Types of the bind values of the first parameter set, never the values.
+     */
+    static List<String> redactedParameters(QueryInfo query) {
+        if (query.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        return query.getParametersList().get(0).stream()
+                .map(operation -> {
+                    Object[] args = operation.getArgs();
+                    boolean isNull = ParameterSetOperation.isSetNullParameterOperation(operation)
+                            || args.length < 2 || args[1] == null;
+                    return isNull ? "null" : args[1].getClass().getSimpleName();
+                })
+                .toList();
+    }
+
+    /**
+     * Update count of one statement of a Statement batch (one count per statement),
+     * otherwise everything is counted on the first one.
+     */
+    private static long statementRows(Object result, int index, int statements, long rows) {
+        if (statements > 1 && result instanceof int[] counts && counts.length == statements) {
+            return Math.max(counts[index], 0);
+        }
+        return index == 0 ? rows : 0;
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,99 @@
+package leonil.sulude.shared.jdbc;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-your-writes on top of replica routing.
+ *
+ * A request that committed a write reads from the primary for the rest of the request,
+ * and so do the caller's next requests for a short window: a booking or resource that
+ * was just created shows up in the caller's next listing even if the replica has not
+ * replayed it yet.
+ * The window is the configured minimum or the current replica lag, whichever is larger.
+ *
+ * Callers are identified by their Authorization header, or by the remote address for
+ * anonymous calls; only a hash of it is kept. Writes made outside HTTP requests
+ * (listeners, schedulers) are not tracked.
+ */
+public class ReadYourWrites {
+
+    static final int MAX_TRACKED_CALLERS = 10_000;
+
+    private final Duration window;
+    private final ReplicaLagMonitor lagMonitor;
+    private final LongSupplier nanoClock;
+
+    private final ThreadLocal<Request> currentRequest = new ThreadLocal<>();
+
+    // Caller hash -> System.nanoTime() of its last committed write
+    private final Map<Integer, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration window, ReplicaLagMonitor lagMonitor) {
+        this(window, lagMonitor, System::nanoTime);
+    }
+
+    ReadYourWrites(Duration window, ReplicaLagMonitor lagMonitor, LongSupplier nanoClock) {
+        this.window = window;
+        this.lagMonitor = lagMonitor;
+        this.nanoClock = nanoClock;
+    }
+
+    public void beginRequest(String caller) {
+        currentRequest.set(new Request(caller.hashCode()));
+    }
+
+    public void endRequest() {
+        currentRequest.remove();
+    }
+
+    /**
+     * Called when a read-write transaction commits.
+     */
+    public void recordWrite() {
+        Request request = currentRequest.get();
+        if (request == null) {
+            return;
+        }
+        request.wrote = true;
+
+        long now = nanoClock.getAsLong();
+        lastWrites.put(request.caller, now);
+        if (lastWrites.size() > MAX_TRACKED_CALLERS) {
+            long windowNanos = windowNanos();
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+    }
+
+    /**
+     * True when the current request, or its caller shortly before, wrote something.
+     */
+    public boolean requiresPrimary() {
+        Request request = currentRequest.get();
+        if (request == null) {
+            return false;
+        }
+        if (request.wrote) {
+            return true;
+        }
+        Long writtenAt = lastWrites.get(request.caller);
+        return writtenAt != null && nanoClock.getAsLong() - writtenAt < windowNanos();
+    }
+
+    private long windowNanos() {
+        Duration lag = lagMonitor.lag();
+        return (lag.compareTo(window) > 0 ? lag : window).toNanos();
+    }
+
+    private static final class Request {
+
+        private final int caller;
+        private boolean wrote;
+
+        private Request(int caller) {
+            this.caller = caller;
+        }
+    }
+}
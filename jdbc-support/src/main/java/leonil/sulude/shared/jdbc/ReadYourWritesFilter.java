@@ -0,0 +1,37 @@
+package leonil.sulude.shared.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Scopes ReadYourWrites to the request and identifies its caller.
+ *
+ * Registered by ReadReplicaConfig when a replica is configured.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesFilter(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        readYourWrites.beginRequest(authorization != null ? authorization : request.getRemoteAddr());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            readYourWrites.endRequest();
+        }
+    }
+}
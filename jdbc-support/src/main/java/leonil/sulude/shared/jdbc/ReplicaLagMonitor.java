@@ -0,0 +1,113 @@
+package leonil.sulude.shared.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the replay lag of the replica, so reads go back to the primary while it is behind.
+ *
+ * - The lag is now() - pg_last_xact_replay_timestamp(), or 0 once everything received
+ *   has been replayed: an idle primary sends no new transactions, so the replay
+ *   timestamp alone would keep growing.
+ * - A server that is not in recovery (e.g. the primary itself, in development) has no lag.
+ * - A failed check makes the lag unknown, and the replica unusable until the next
+ *   successful one.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final String LAG_QUERY = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private static final long UNKNOWN = -1;
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile long lagMillis = UNKNOWN;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * True when the last check succeeded and the replica was at most max-lag behind.
+     */
+    public boolean isUsable() {
+        long lag = lagMillis;
+        return lag != UNKNOWN && lag <= maxLagMillis;
+    }
+
+    /**
+     * Last measured lag; zero while unknown.
+     */
+    public Duration lag() {
+        return Duration.ofMillis(Math.max(lagMillis, 0));
+    }
+
+    /**
+     * Last measured lag in seconds, NaN while unknown (exported as a gauge).
+     */
+    public double lagSeconds() {
+        long lag = lagMillis;
+        return lag == UNKNOWN ? Double.NaN : lag / 1000.0;
+    }
+
+    void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            record(Math.round(resultSet.getDouble(1)));
+        } catch (SQLException | RuntimeException e) {
+            recordFailure(e);
+        }
+    }
+
+    void record(long measuredMillis) {
+        boolean wasUsable = isUsable();
+        lagMillis = measuredMillis;
+        if (wasUsable && !isUsable()) {
+            log.warn("Replica is {} ms behind (max {} ms), reads go to the primary", measuredMillis, maxLagMillis);
+        } else if (!wasUsable && isUsable()) {
+            log.info("Replica caught up ({} ms behind), read-only transactions use it again", measuredMillis);
+        }
+    }
+
+    void recordFailure(Exception e) {
+        if (lagMillis != UNKNOWN) {
+            log.warn("Replica lag check failed, reads go to the primary: {}", e.getMessage());
+        }
+        lagMillis = UNKNOWN;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
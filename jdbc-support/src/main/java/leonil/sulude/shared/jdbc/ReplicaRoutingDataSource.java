@@ -0,0 +1,89 @@
+package leonil.sulude.shared.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to the replica pool and everything else to the primary.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of the transaction
+ * is only set after the transaction manager asked for a connection, so the pool is
+ * picked when the first statement runs.
+ *
+ * A read-only transaction still uses the primary when:
+ * - the replica lags more than the allowed maximum, or its lag is unknown (ReplicaLagMonitor)
+ * - the caller wrote recently (ReadYourWrites)
+ *
+ * Every checkout is counted under the given metric name, tagged {pool, reason}
+ * (e.g. booking.datasource.connections).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        READ_WRITE("primary", "read_write"),
+        READ_ONLY("replica", "read_only"),
+        READ_YOUR_WRITES("primary", "read_your_writes"),
+        REPLICA_LAGGING("primary", "replica_lagging");
+
+        private final String pool;
+        private final String reason;
+
+        Route(String pool, String reason) {
+            this.pool = pool;
+            this.reason = reason;
+        }
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+    private final Map<Route, Counter> checkouts = new EnumMap<>(Route.class);
+
+    public ReplicaRoutingDataSource(String connectionsMetric,
+                                    DataSource primary,
+                                    DataSource replica,
+                                    ReplicaLagMonitor lagMonitor,
+                                    ReadYourWrites readYourWrites,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+
+        for (Route route : Route.values()) {
+            checkouts.put(route, Counter.builder(connectionsMetric)
+                    .description("Connections checked out through the read/write router")
+                    .tag("pool", route.pool)
+                    .tag("reason", route.reason)
+                    .register(meterRegistry));
+        }
+
+        setTargetDataSources(Map.of("primary", primary, "replica", replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = route();
+        checkouts.get(route).increment();
+        return route.pool;
+    }
+
+    Route route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.READ_WRITE;
+        }
+        if (!lagMonitor.isUsable()) {
+            return Route.REPLICA_LAGGING;
+        }
+        if (readYourWrites.requiresPrimary()) {
+            return Route.READ_YOUR_WRITES;
+        }
+        return Route.READ_ONLY;
+    }
+}
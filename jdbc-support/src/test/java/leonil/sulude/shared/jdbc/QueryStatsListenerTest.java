@@ -0,0 +1,166 @@
+package leonil.sulude.shared.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for QueryStatsListener, QueryStats and QuerySignature.
+ *
+ * These tests validate:
+ * - Signatures hide literals and IN list sizes, but keep VALUES lists
+ * - Executions, rows and update counts are aggregated per signature
+ * - The time of a batch is split across its statements
+ * - Requests above the query limit are flagged as possible N+1
+ * - Bind values are redacted to their types
+ */
+class QueryStatsListenerTest {
+
+    private final QueryStats stats = new QueryStats(3);
+
+    private final QueryStatsListener listener = new QueryStatsListener(stats, Duration.ofMillis(200));
+
+    /**
+     * Tests that literals are replaced and IN lists of any size share one signature.
+     */
+    @Test
+    void shouldNormalizeLiteralsAndInLists() {
+        assertEquals(
+                QuerySignature.normalize("select b1_0.id from bookings b1_0 where b1_0.id in (?, ?)"),
+                QuerySignature.normalize("select b1_0.id from bookings b1_0\n  where b1_0.id in (?,?,?,?)"));
+        assertEquals(
+                "select * from bookings where status = ? and version > ?",
+                QuerySignature.normalize("select * from bookings where status = 'it''s' and version > 42"));
+        assertEquals(
+                "insert into bookings (id,status) values (?,?)",
+                QuerySignature.normalize("insert into bookings (id,status) values (?,?)"));
+    }
+
+    /**
+     * Tests that executions are counted per signature, with rows read from the
+     * result set and update counts of writes.
+     */
+    @Test
+    void shouldAggregateExecutionsAndRows() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+
+        execute("select * from bookings where resource_id = ?", resultSet);
+        next(resultSet, true);
+        next(resultSet, true);
+        next(resultSet, false);
+        execute("update bookings set status = ? where id = ?", 1);
+
+        QueryStats.Report report = stats.report();
+        QueryStats.QuerySummary select = summary(report, "select * from bookings where resource_id = ?");
+        QueryStats.QuerySummary update = summary(report, "update bookings set status = ? where id = ?");
+
+        assertEquals(1, select.count());
+        assertEquals(2, select.rows());
+        assertEquals(1, update.rows());
+        assertEquals(0, select.errors());
+    }
+
+    /**
+     * Tests that every statement of a batch gets a share of its time and its own
+     * update count, instead of the first one taking everything.
+     */
+    @Test
+    void shouldSplitBatchTimeAcrossStatements() {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setSuccess(true);
+        execInfo.setBatch(true);
+        List<QueryInfo> queries = List.of(
+                new QueryInfo("insert into bookings (id) values (1)"),
+                new QueryInfo("delete from waitlist_entries where id = 2"));
+        execInfo.addCustomValue("queryStats.startNanos", System.nanoTime() - 4_000_000);
+        execInfo.setResult(new int[]{1, 3});
+        listener.afterQuery(execInfo, queries);
+
+        QueryStats.Report report = stats.report();
+        QueryStats.QuerySummary insert = summary(report, "insert into bookings (id) values (?)");
+        QueryStats.QuerySummary delete = summary(report, "delete from waitlist_entries where id = ?");
+
+        assertTrue(delete.totalMs() >= 2.0, "Second statement got " + delete.totalMs() + " ms");
+        assertEquals(insert.totalMs(), delete.totalMs(), 0.5);
+        assertEquals(1, insert.rows());
+        assertEquals(3, delete.rows());
+    }
+
+    /**
+     * Tests that a request issuing more statements than the limit is flagged with its most repeated query.
+     */
+    @Test
+    void shouldFlagRequestsAboveTheQueryLimit() {
+        stats.beginRequest();
+        execute("select * from service_offers", 0);
+        for (int i = 0; i < 3; i++) {
+            execute("select * from service_resources where offer_id = ?", 0);
+        }
+        stats.endRequest("GET", "/api/offers");
+
+        stats.beginRequest();
+        execute("select * from service_offers", 0);
+        stats.endRequest("GET", "/api/offers");
+
+        QueryStats.Report report = stats.report();
+        assertEquals(1, report.flaggedRequests());
+        QueryStats.FlaggedRequest flagged = report.recentFlagged().get(0);
+        assertEquals("GET /api/offers", flagged.request());
+        assertEquals(4, flagged.queries());
+        assertEquals(3, flagged.repeatedCount());
+        assertEquals("select * from service_resources where offer_id = ?", flagged.repeatedSignature());
+    }
+
+    /**
+     * Tests that only the types of bind values are exposed.
+     */
+    @Test
+    void shouldRedactBindValues() throws Exception {
+        QueryInfo query = new QueryInfo("select * from bookings where customer_email = ? and resource_id = ?");
+        query.setParametersList(List.of(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[]{1, "alice@example.com"}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setObject", int.class, Object.class),
+                        new Object[]{2, UUID.randomUUID()})
+        )));
+
+        List<String> parameters = QueryStatsListener.redactedParameters(query);
+
+        assertEquals(List.of("String", "UUID"), parameters);
+    }
+
+    private void execute(String sql, Object result) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setSuccess(true);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execInfo, queries);
+        execInfo.setResult(result);
+        listener.afterQuery(execInfo, queries);
+    }
+
+    private void next(ResultSet resultSet, boolean hasRow) throws Exception {
+        MethodExecutionContext context = new MethodExecutionContext();
+        context.setTarget(resultSet);
+        context.setMethod(ResultSet.class.getMethod("next"));
+        context.setResult(hasRow);
+        listener.afterMethod(context);
+    }
+
+    private static QueryStats.QuerySummary summary(QueryStats.Report report, String signature) {
+        return report.queries().stream()
+                .filter(query -> query.signature().equals(signature))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,148 @@
+package leonil.sulude.shared.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource, ReadYourWrites and ReplicaLagMonitor.
+ *
+ * These tests validate:
+ * - Read-only transactions use the replica, everything else the primary
+ * - Reads fall back to the primary while the replica lags or its lag is unknown
+ * - A caller reads its own writes from the primary for the read-your-writes window
+ * - The window is extended to the replica lag when that is larger
+ * - Checkouts are counted per pool and reason
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(mock(DataSource.class), Duration.ofSeconds(5));
+
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(2), lagMonitor, nanoTime::get);
+
+    private static final String CONNECTIONS_METRIC = "test.datasource.connections";
+
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(CONNECTIONS_METRIC,
+            mock(DataSource.class), mock(DataSource.class), lagMonitor, readYourWrites, meterRegistry);
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        readYourWrites.endRequest();
+    }
+
+    /**
+     * Tests that only read-only transactions are sent to the replica.
+     */
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        lagMonitor.record(0);
+
+        assertEquals(ReplicaRoutingDataSource.Route.READ_WRITE, routing.route());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.Route.READ_ONLY, routing.route());
+    }
+
+    /**
+     * Tests that reads use the primary while the replica is too far behind or unreachable.
+     */
+    @Test
+    void shouldUsePrimaryWhileReplicaLags() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA_LAGGING, routing.route(), "lag unknown before the first check");
+
+        lagMonitor.record(6_000);
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA_LAGGING, routing.route());
+
+        lagMonitor.record(100);
+        assertEquals(ReplicaRoutingDataSource.Route.READ_ONLY, routing.route());
+
+        lagMonitor.recordFailure(new SQLException("connection refused"));
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA_LAGGING, routing.route());
+        assertTrue(Double.isNaN(lagMonitor.lagSeconds()));
+    }
+
+    /**
+     * Tests that a caller's reads stay on the primary during the window after its write,
+     * while other callers keep using the replica.
+     */
+    @Test
+    void shouldReadOwnWritesFromPrimary() {
+        lagMonitor.record(0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        readYourWrites.beginRequest("Bearer alice");
+        assertEquals(ReplicaRoutingDataSource.Route.READ_ONLY, routing.route());
+        readYourWrites.recordWrite();
+        assertEquals(ReplicaRoutingDataSource.Route.READ_YOUR_WRITES, routing.route(), "same request");
+        readYourWrites.endRequest();
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        readYourWrites.beginRequest("Bearer alice");
+        assertEquals(ReplicaRoutingDataSource.Route.READ_YOUR_WRITES, routing.route(), "next request of the caller");
+        readYourWrites.endRequest();
+
+        readYourWrites.beginRequest("Bearer bob");
+        assertEquals(ReplicaRoutingDataSource.Route.READ_ONLY, routing.route(), "other caller");
+        readYourWrites.endRequest();
+
+        nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+        readYourWrites.beginRequest("Bearer alice");
+        assertEquals(ReplicaRoutingDataSource.Route.READ_ONLY, routing.route(), "after the window");
+    }
+
+    /**
+     * Tests that the read-your-writes window is at least the current replica lag.
+     */
+    @Test
+    void shouldExtendWindowToReplicaLag() {
+        lagMonitor.record(4_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        readYourWrites.beginRequest("Bearer alice");
+        readYourWrites.recordWrite();
+        readYourWrites.endRequest();
+
+        nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+        readYourWrites.beginRequest("Bearer alice");
+        assertEquals(ReplicaRoutingDataSource.Route.READ_YOUR_WRITES, routing.route());
+    }
+
+    /**
+     * Tests that every lookup is counted under its pool and reason.
+     */
+    @Test
+    void shouldCountCheckoutsPerPool() {
+        lagMonitor.record(0);
+        routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routing.determineCurrentLookupKey();
+        routing.determineCurrentLookupKey();
+
+        assertEquals(1, count("primary", "read_write"));
+        assertEquals(2, count("replica", "read_only"));
+    }
+
+    private double count(String pool, String reason) {
+        return meterRegistry.get(CONNECTIONS_METRIC)
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,120 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+/*
+VIRTUAL THREADS BEFORE/AFTER COMPARISON
+
+Goal
+----
+Compare booking-service under the default Tomcat thread pool
+and under the "virtual-threads" profile, at concurrency levels
+above the default 200 Tomcat threads.
+
+Each iteration performs the two I/O-bound booking paths:
+1) POST /api/bookings          -> overlap query + Feign call to catalog + insert
+2) GET  /api/bookings?resourceId -> keyset page + one Feign call per resource
+
+Run it twice, once per mode, and compare the summaries:
+
+  k6 run -e MODE=platform k6-tests/virtual-threads-comparison.js
+  (restart services with SPRING_PROFILES_ACTIVE=virtual-threads)
+  k6 run -e MODE=virtual  k6-tests/virtual-threads-comparison.js
+
+Summaries are written to virtual-threads-<MODE>.json.
+*/
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const PEAK_VUS = parseInt(__ENV.PEAK_VUS || '600');
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: Math.floor(PEAK_VUS / 4) },
+        { duration: '30s', target: Math.floor(PEAK_VUS / 2) },
+        { duration: '60s', target: PEAK_VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  thresholds: {
+    'http_req_failed{endpoint:create}': ['rate<0.01'],
+    'http_req_duration{endpoint:create}': ['p(95)<1000'],
+    'http_req_duration{endpoint:list}': ['p(95)<500'],
+  },
+  tags: { mode: MODE },
+};
+
+/*
+Shared fixture: one provider, one offer and one resource.
+Every booking targets a distinct slot, so 409s do not skew the numbers.
+*/
+export function setup() {
+  const json = { headers: { 'Content-Type': 'application/json' } };
+  const email = `vt-${Date.now()}@example.com`;
+  const password = 'securePassword123';
+
+  http.post(`${BASE_URL}/api/auth/register`, JSON.stringify({
+    name: 'Virtual Threads Provider', email: email, password: password, role: 'PROVIDER'
+  }), json);
+
+  const token = JSON.parse(http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({ email: email, password: password }), json).body).token;
+
+  const auth = { headers: { 'Content-Type': 'application/json', 'Authorization': `Bearer ${token}` } };
+
+  const offerId = JSON.parse(http.post(`${BASE_URL}/api/offers`, JSON.stringify({
+    title: 'Virtual Threads Offer',
+    description: 'Offer created for the virtual threads comparison',
+    category: 'OTHER',
+    providerName: 'LoadTest Inc',
+    location: 'Lisbon'
+  }), auth).body).id;
+
+  const resourceId = JSON.parse(http.post(`${BASE_URL}/api/resources`, JSON.stringify({
+    offerId: offerId, name: 'VT Resource', active: true, price: 50, durationInMinutes: 30
+  }), auth).body).id;
+
+  return { token: token, resourceId: resourceId };
+}
+
+export default function (data) {
+  const params = {
+    headers: { 'Content-Type': 'application/json', 'Authorization': `Bearer ${data.token}` },
+  };
+
+  // Unique 30-minute slot per (VU, iteration), starting tomorrow
+  const slot = __VU * 100000 + __ITER;
+  const start = new Date(Date.now() + 86400000 + slot * 1800000);
+  const end = new Date(start.getTime() + 1800000);
+
+  const createRes = http.post(`${BASE_URL}/api/bookings`, JSON.stringify({
+    resourceId: data.resourceId,
+    customerName: 'Load Test Customer',
+    customerEmail: `customer${__VU}@example.com`,
+    startTime: start.toISOString(),
+    endTime: end.toISOString()
+  }), Object.assign({ tags: { endpoint: 'create' } }, params));
+
+  check(createRes, { 'booking created': (r) => r.status === 201 });
+
+  const listRes = http.get(`${BASE_URL}/api/bookings?resourceId=${data.resourceId}&limit=20`,
+    Object.assign({ tags: { endpoint: 'list' } }, params));
+
+  check(listRes, { 'bookings listed': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return {
+    [`virtual-threads-${MODE}.json`]: JSON.stringify(data, null, 2),
+    stdout: `\nmode=${MODE}\n`
+      + `create p95=${data.metrics['http_req_duration{endpoint:create}'].values['p(95)'].toFixed(1)}ms\n`
+      + `list   p95=${data.metrics['http_req_duration{endpoint:list}'].values['p(95)'].toFixed(1)}ms\n`
+      + `requests/s=${data.metrics.http_reqs.values.rate.toFixed(1)}\n`
+      + `failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`,
+  };
+}
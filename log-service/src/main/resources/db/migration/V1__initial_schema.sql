@@ -0,0 +1,14 @@
+CREATE TABLE log_event (
+    id             UUID                     NOT NULL,
+    correlation_id VARCHAR(255)             NOT NULL,
+    service_name   VARCHAR(255),
+    source         VARCHAR(255),
+    event_type     VARCHAR(255),
+    level          VARCHAR(255),
+    message        VARCHAR(2000),
+    created_at     TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_log_event PRIMARY KEY (id)
+);
+
+-- Tracing a request across services
+CREATE INDEX idx_log_correlation_id ON log_event (correlation_id);
@@ -0,0 +1,105 @@
+package leonil.sulude.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leonil.sulude.perf.client.PlatformClient;
+import leonil.sulude.perf.config.HarnessProperties;
+import leonil.sulude.perf.infra.LockWaitSampler;
+import leonil.sulude.perf.infra.LockWaitSampler.LockWaits;
+import leonil.sulude.perf.infra.Platform;
+import leonil.sulude.perf.report.PerfReport;
+import leonil.sulude.perf.report.ReportWriter;
+import leonil.sulude.perf.report.WorkloadReport;
+import leonil.sulude.perf.workload.LoadDriver;
+import leonil.sulude.perf.workload.LoadResult;
+import leonil.sulude.perf.workload.Workload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the selected workloads one after the other against a single
+ * platform instance, verifies the invariants of each, then writes the report.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HarnessRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    private final HarnessProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private int exitCode;
+
+    @Override
+    public void run(String... args) throws Exception {
+        List<HarnessProperties.Workload> selected = selectedWorkloads();
+        ReportWriter writer = new ReportWriter(properties.getReportDir(), objectMapper);
+        Instant startedAt = Instant.now();
+        List<WorkloadReport> reports = new ArrayList<>();
+
+        try (Platform platform = new Platform(properties)) {
+            platform.start();
+            PlatformClient client = new PlatformClient(platform.gateway(), objectMapper);
+            platform.awaitRoutes(client);
+
+            LoadDriver driver = new LoadDriver();
+            for (HarnessProperties.Workload config : selected) {
+                log.info("{}: setup ({})", config.getName(), config.getType());
+                Workload workload = config.getType().create();
+                workload.setup(client, config);
+
+                driver.warmup(workload, config);
+                LoadResult result;
+                LockWaits lockWaits = null;
+                if (workload.lockedDatabase() == null) {
+                    result = driver.measure(workload, config);
+                } else {
+                    try (LockWaitSampler sampler = LockWaitSampler.start(platform.database(), workload.lockedDatabase())) {
+                        result = driver.measure(workload, config);
+                        lockWaits = sampler.stop();
+                    }
+                }
+                List<String> invariantViolations = workload.verify(platform.database());
+
+                writer.writeDistribution(config.getName(), result);
+                reports.add(WorkloadReport.of(config, result, lockWaits, invariantViolations));
+            }
+        }
+
+        PerfReport report = PerfReport.of(startedAt, reports);
+        writer.write(report);
+        exitCode = report.passed() ? 0 : 1;
+    }
+
+    private List<HarnessProperties.Workload> selectedWorkloads() {
+        Map<String, HarnessProperties.Workload> workloads = properties.getWorkloads();
+        workloads.forEach((name, workload) -> workload.setName(name));
+
+        if (properties.getRun().isEmpty()) {
+            return new ArrayList<>(workloads.values());
+        }
+
+        List<HarnessProperties.Workload> selected = new ArrayList<>();
+        for (String name : properties.getRun()) {
+            HarnessProperties.Workload workload = workloads.get(name);
+            if (workload == null) {
+                throw new IllegalArgumentException("Unknown workload: " + name);
+            }
+            selected.add(workload);
+        }
+        return selected;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
@@ -0,0 +1,20 @@
+package leonil.sulude.perf;
+
+import leonil.sulude.perf.config.HarnessProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Command line load-test harness: starts the platform on embedded
+ * infrastructure, runs the configured workloads and exits with 1 when a
+ * threshold is exceeded.
+ */
+@SpringBootApplication
+@EnableConfigurationProperties(HarnessProperties.class)
+public class PerfHarnessApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(PerfHarnessApplication.class, args)));
+    }
+}
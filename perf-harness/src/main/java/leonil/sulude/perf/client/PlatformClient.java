@@ -0,0 +1,149 @@
+package leonil.sulude.perf.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP client of the platform, always going through the API gateway.
+ *
+ * Workload operations use the status-only methods: the response body is
+ * discarded without being parsed, so the harness adds as little as possible
+ * to the measured latency. Setup helpers parse JSON and fail on any
+ * unexpected status.
+ */
+public class PlatformClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI gateway;
+    private final ObjectMapper mapper;
+
+    public PlatformClient(URI gateway, ObjectMapper mapper) {
+        this.gateway = gateway;
+        this.mapper = mapper;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    // ---------- Workload operations (status only) ----------
+
+    public int get(String path, String token) {
+        return send(request(path, token).GET().build());
+    }
+
+    public int post(String path, String token, Object body) {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(body)))
+                .build());
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    // ---------- Setup helpers (parsed JSON) ----------
+
+    public JsonNode getJson(String path, String token) {
+        return exchange(request(path, token).GET().build(), 200);
+    }
+
+    public JsonNode postJson(String path, String token, Object body, int expectedStatus) {
+        return exchange(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(body)))
+                .build(), expectedStatus);
+    }
+
+    /**
+     * Registers the user and returns its token (registration already logs in).
+     */
+    public String register(String email, String password, String role) {
+        return postJson("/api/auth/register", null, Map.of(
+                "name", "Perf " + role,
+                "email", email,
+                "password", password,
+                "role", role
+        ), 201).path("token").asText();
+    }
+
+    public String login(String email, String password) {
+        return postJson("/api/auth/login", null, Map.of(
+                "email", email,
+                "password", password
+        ), 200).path("token").asText();
+    }
+
+    private JsonNode exchange(HttpRequest request, int expectedStatus) {
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != expectedStatus) {
+                throw new UnexpectedStatusException(request, response.statusCode(),
+                        new String(response.body()));
+            }
+            return response.body().length == 0 ? mapper.missingNode() : mapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(gateway.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return mapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    /**
+     * A setup call answered with another status than the expected one.
+     */
+    public static class UnexpectedStatusException extends RuntimeException {
+
+        private final int status;
+
+        UnexpectedStatusException(HttpRequest request, int status, String body) {
+            super(request.method() + " " + request.uri().getPath() + " returned " + status + ": " + body);
+            this.status = status;
+        }
+
+        public int status() {
+            return status;
+        }
+    }
+}
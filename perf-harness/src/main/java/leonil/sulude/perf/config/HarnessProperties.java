@@ -0,0 +1,97 @@
+package leonil.sulude.perf.config;
+
+import leonil.sulude.perf.workload.WorkloadType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harness configuration ({@code harness.*}).
+ *
+ * Every value can be overridden on the command line, e.g.
+ * {@code --harness.run=login-storm --harness.workloads.login-storm.concurrency=128}.
+ * Workloads are keyed by name (not a list) for that reason: Spring replaces
+ * a list as a whole but merges map entries.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "harness")
+public class HarnessProperties {
+
+    // Checkout root holding the service modules, packaged with mvn package
+    private Path repositoryRoot = Path.of("..");
+
+    // perf-report.json, latency distributions (.hgrm) and service logs
+    private Path reportDir = Path.of("target", "perf");
+
+    // Names of the workloads to run; empty runs all of them
+    private List<String> run = new ArrayList<>();
+
+    private Platform platform = new Platform();
+
+    // Keyed by workload name, run in declaration order
+    private Map<String, Workload> workloads = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Platform {
+        private Duration startupTimeout = Duration.ofMinutes(3);
+        // Applied to every service JVM
+        private List<String> jvmArgs = new ArrayList<>();
+        // Spring properties passed to every service
+        private Map<String, String> properties = new LinkedHashMap<>();
+        // Spring properties per service, keyed by module name
+        private Map<String, Map<String, String>> services = new LinkedHashMap<>();
+        private String jwtSecret = "perf-harness-secret-key-with-at-least-32-characters";
+    }
+
+    @Getter
+    @Setter
+    public static class Workload {
+        // Map key in harness.workloads
+        private String name;
+        private WorkloadType type;
+        // Concurrent callers (virtual threads)
+        private int concurrency = 16;
+        // Target operations per second; 0 runs a closed loop (each caller sends as fast as it can)
+        private double rate = 0;
+        private Duration warmup = Duration.ofSeconds(10);
+        private Duration duration = Duration.ofSeconds(60);
+        // Workload specific settings, see the WorkloadType constants
+        private Map<String, String> params = new LinkedHashMap<>();
+        private Thresholds thresholds = new Thresholds();
+
+        public int intParam(String key, int defaultValue) {
+            String value = params.get(key);
+            return value == null ? defaultValue : Integer.parseInt(value.trim());
+        }
+
+        public double doubleParam(String key, double defaultValue) {
+            String value = params.get(key);
+            return value == null ? defaultValue : Double.parseDouble(value.trim());
+        }
+    }
+
+    /**
+     * Limits checked after a workload; any breach fails the run.
+     * Unset limits are not checked.
+     */
+    @Getter
+    @Setter
+    public static class Thresholds {
+        private Duration maxP50;
+        private Duration maxP99;
+        private Duration maxP999;
+        // Completed operations per second over the measured window
+        private Double minThroughput;
+        // Share of ERROR outcomes (expected rejections and throttling are not errors)
+        private Double maxErrorRate;
+    }
+}
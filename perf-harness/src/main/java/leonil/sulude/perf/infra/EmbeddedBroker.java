@@ -0,0 +1,46 @@
+package leonil.sulude.perf.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.qpid.server.SystemLauncher;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-process Qpid Broker-J speaking AMQP 0-9-1, standing in for RabbitMQ.
+ *
+ * Spring AMQP declares the same exchanges, queues and bindings on it as on
+ * RabbitMQ. The store is in memory and the guest/guest account matches the
+ * services' defaults.
+ */
+@Slf4j
+public class EmbeddedBroker implements AutoCloseable {
+
+    private static final String INITIAL_CONFIGURATION = "qpid-config.json";
+
+    private final SystemLauncher launcher = new SystemLauncher();
+
+    public static EmbeddedBroker start(int port, Path workDir) throws Exception {
+        EmbeddedBroker broker = new EmbeddedBroker();
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("type", "Memory");
+        attributes.put("initialConfigurationLocation",
+                EmbeddedBroker.class.getClassLoader().getResource(INITIAL_CONFIGURATION).toExternalForm());
+        attributes.put("startupLoggedToSystemOut", false);
+        attributes.put("context", Map.of(
+                "qpid.amqp_port", String.valueOf(port),
+                "qpid.work_dir", workDir.toAbsolutePath().toString()
+        ));
+
+        broker.launcher.startup(attributes);
+        log.info("AMQP broker started on port {}", port);
+        return broker;
+    }
+
+    @Override
+    public void close() {
+        launcher.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+package leonil.sulude.perf.infra;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * One embedded PostgreSQL server standing in for the four database containers
+ * of docker-compose.yaml. Each service gets its own database and role; the
+ * harness itself connects as superuser to check invariants and sample locks.
+ *
+ * The data directory is temporary, so every run starts from an empty schema
+ * (the services create it with their Flyway migrations).
+ */
+@Slf4j
+public class EmbeddedDatabase implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    public static EmbeddedDatabase start(int port) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setPort(port)
+                // Four services with their Hikari pools share this server
+                .setServerConfig("max_connections", "300")
+                .start();
+        log.info("PostgreSQL started on port {}", port);
+        return new EmbeddedDatabase(postgres);
+    }
+
+    public void create(ServiceModule service) throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ROLE " + service.username()
+                    + " LOGIN PASSWORD '" + service.password() + "'");
+            statement.execute("CREATE DATABASE " + service.database() + " OWNER " + service.username());
+        }
+    }
+
+    public String jdbcUrl(ServiceModule service) {
+        return "jdbc:postgresql://localhost:" + postgres.getPort() + "/" + service.database();
+    }
+
+    public Connection connect(ServiceModule service) throws SQLException {
+        return postgres.getDatabase("postgres", service.database()).getConnection();
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,109 @@
+package leonil.sulude.perf.infra;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the backends of one database that wait for a heavyweight lock
+ * (row, tuple, transaction id) while a workload runs.
+ *
+ * PostgreSQL keeps no cumulative lock wait counter, so the wait time is
+ * estimated from pg_stat_activity: every INTERVAL the waiting backends are
+ * counted, and each one is assumed to have waited for the whole interval.
+ * Waits shorter than the interval are mostly missed; the estimate is meant
+ * for comparing runs, not as an absolute figure.
+ */
+@Slf4j
+public class LockWaitSampler implements AutoCloseable {
+
+    private static final Duration INTERVAL = Duration.ofMillis(20);
+
+    private static final String WAITING_BACKENDS = """
+            SELECT count(*) FROM pg_stat_activity
+            WHERE datname = current_database() AND wait_event_type = 'Lock'
+            """;
+
+    private static final String DEADLOCKS = """
+            SELECT deadlocks FROM pg_stat_database WHERE datname = current_database()
+            """;
+
+    private final Connection connection;
+
+    private final long deadlocksBefore;
+
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    // Written by the sampling thread only, read after join
+    private long samples;
+
+    private long waiting;
+
+    private long maxWaiters;
+
+    private LockWaitSampler(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.deadlocksBefore = deadlocks();
+        this.thread = Thread.ofPlatform().daemon().name("lock-wait-sampler").start(this::sample);
+    }
+
+    public static LockWaitSampler start(EmbeddedDatabase database, ServiceModule service) throws SQLException {
+        return new LockWaitSampler(database.connect(service));
+    }
+
+    /**
+     * Stops sampling and returns what was observed since start.
+     */
+    public LockWaits stop() throws InterruptedException, SQLException {
+        running = false;
+        thread.join();
+        double waitSeconds = waiting * INTERVAL.toNanos() / 1e9;
+        return new LockWaits(samples, waitSeconds, maxWaiters, deadlocks() - deadlocksBefore);
+    }
+
+    private void sample() {
+        try (PreparedStatement statement = connection.prepareStatement(WAITING_BACKENDS)) {
+            while (running) {
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    long waiters = result.getLong(1);
+                    samples++;
+                    waiting += waiters;
+                    maxWaiters = Math.max(maxWaiters, waiters);
+                }
+                TimeUnit.NANOSECONDS.sleep(INTERVAL.toNanos());
+            }
+        } catch (SQLException e) {
+            log.warn("Lock wait sampling stopped", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long deadlocks() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DEADLOCKS);
+             ResultSet result = statement.executeQuery()) {
+            return result.next() ? result.getLong(1) : 0;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        running = false;
+        connection.close();
+    }
+
+    /**
+     * Lock waits observed during a run: sampled backends waiting, the
+     * estimated total wait, the most backends seen waiting at once, and the
+     * deadlocks PostgreSQL resolved.
+     */
+    public record LockWaits(long samples, double estimatedWaitSeconds, long maxWaiters, long deadlocks) {}
+}
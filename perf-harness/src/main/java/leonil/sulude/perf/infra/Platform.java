@@ -0,0 +1,169 @@
+package leonil.sulude.perf.infra;
+
+import leonil.sulude.perf.client.PlatformClient;
+import leonil.sulude.perf.config.HarnessProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The whole platform on local stand-ins: embedded PostgreSQL, the in-process
+ * AMQP broker, and the six modules as child JVMs. Replaces docker-compose.yaml
+ * and start-platform.sh for load tests.
+ *
+ * Every port is picked at random, so the harness can run next to a platform
+ * started with docker compose. Closing the platform stops everything in
+ * reverse order.
+ */
+@Slf4j
+public class Platform implements AutoCloseable {
+
+    // Services that can start in parallel once Eureka is up
+    private static final List<ServiceModule> BACKENDS = List.of(
+            ServiceModule.AUTH, ServiceModule.CATALOG, ServiceModule.BOOKING, ServiceModule.LOG);
+
+    private final HarnessProperties properties;
+
+    // Everything started so far, closed in reverse order
+    private final Deque<AutoCloseable> started = new ArrayDeque<>();
+
+    private URI gateway;
+
+    private EmbeddedDatabase database;
+
+    public Platform(HarnessProperties properties) {
+        this.properties = properties;
+    }
+
+    public URI gateway() {
+        return gateway;
+    }
+
+    public EmbeddedDatabase database() {
+        return database;
+    }
+
+    public void start() throws Exception {
+        HarnessProperties.Platform config = properties.getPlatform();
+        Duration timeout = config.getStartupTimeout();
+        Path workDir = Files.createDirectories(properties.getReportDir().resolve("work"));
+        Path logDir = properties.getReportDir().resolve("logs");
+
+        database = EmbeddedDatabase.start(freePort());
+        started.push(database);
+        for (ServiceModule service : ServiceModule.values()) {
+            if (service.hasDatabase()) {
+                database.create(service);
+            }
+        }
+
+        int amqpPort = freePort();
+        started.push(EmbeddedBroker.start(amqpPort, workDir.resolve("qpid")));
+
+        int eurekaPort = freePort();
+        Map<String, String> shared = new LinkedHashMap<>(config.getProperties());
+        shared.put("eureka.client.service-url.defaultZone", "http://localhost:" + eurekaPort + "/eureka");
+        shared.put("spring.rabbitmq.host", "localhost");
+        shared.put("spring.rabbitmq.port", String.valueOf(amqpPort));
+
+        Map<String, String> environment = Map.of("JWT_SECRET", config.getJwtSecret());
+
+        startAndAwait(List.of(ServiceModule.DISCOVERY), eurekaPort, database, shared, environment, logDir, timeout);
+        startAndAwait(BACKENDS, 0, database, shared, environment, logDir, timeout);
+
+        int gatewayPort = freePort();
+        startAndAwait(List.of(ServiceModule.GATEWAY), gatewayPort, database, shared, environment, logDir, timeout);
+        gateway = URI.create("http://localhost:" + gatewayPort);
+    }
+
+    private void startAndAwait(List<ServiceModule> services, int port, EmbeddedDatabase database,
+                               Map<String, String> shared, Map<String, String> environment,
+                               Path logDir, Duration timeout) throws Exception {
+
+        for (ServiceModule service : services) {
+            Map<String, String> serviceProperties = new LinkedHashMap<>(shared);
+            serviceProperties.put("server.port", String.valueOf(port != 0 ? port : freePort()));
+            if (service.hasDatabase()) {
+                serviceProperties.put("spring.datasource.url", database.jdbcUrl(service));
+            }
+            serviceProperties.putAll(properties.getPlatform().getServices().getOrDefault(service.module(), Map.of()));
+
+            started.push(ServiceProcess.start(service, properties.getRepositoryRoot(), logDir,
+                    properties.getPlatform().getJvmArgs(), serviceProperties, environment));
+        }
+
+        for (AutoCloseable resource : started) {
+            if (resource instanceof ServiceProcess process && services.contains(process.service())) {
+                process.awaitStarted(timeout);
+            }
+        }
+    }
+
+    /**
+     * Waits until the gateway routes to auth-, catalog- and booking-service.
+     *
+     * Services are reachable only after they registered in Eureka and the
+     * gateway fetched the registry; until then the gateway answers 503.
+     */
+    public void awaitRoutes(PlatformClient client) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + properties.getPlatform().getStartupTimeout().toNanos();
+
+        String token = null;
+        while (token == null) {
+            try {
+                token = client.register("perf-readiness-" + UUID.randomUUID() + "@example.com",
+                        "readiness-password", "ADMIN");
+            } catch (PlatformClient.UnexpectedStatusException e) {
+                if (e.status() < 500) {
+                    throw e;
+                }
+                awaitRetry(deadline, "auth-service");
+            }
+        }
+
+        while (client.get("/api/offers", token) >= 500) {
+            awaitRetry(deadline, "catalog-service");
+        }
+        while (client.get("/api/bookings/" + UUID.randomUUID(), token) >= 500) {
+            awaitRetry(deadline, "booking-service");
+        }
+        log.info("Gateway routes ready at {}", gateway);
+    }
+
+    private static void awaitRetry(long deadline, String service) throws InterruptedException, TimeoutException {
+        if (System.nanoTime() > deadline) {
+            throw new TimeoutException("The gateway does not route to " + service);
+        }
+        TimeUnit.SECONDS.sleep(1);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        while (!started.isEmpty()) {
+            try {
+                started.pop().close();
+            } catch (Exception e) {
+                log.warn("Shutdown failed", e);
+            }
+        }
+    }
+}
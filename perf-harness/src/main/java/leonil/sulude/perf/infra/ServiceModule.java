@@ -0,0 +1,49 @@
+package leonil.sulude.perf.infra;
+
+/**
+ * The platform modules started by the harness, in startup order.
+ *
+ * Database names and credentials mirror each service's application.yaml,
+ * so only the JDBC URL has to be overridden.
+ */
+public enum ServiceModule {
+
+    DISCOVERY("discovery-service", null, null, null),
+    AUTH("auth-service", "auth", "auth_user", "auth_pass"),
+    CATALOG("catalog-service", "catalog", "catalog_user", "catalog_pass"),
+    BOOKING("booking-service", "booking", "booking_user", "booking_pass"),
+    LOG("log-service", "logs", "log_user", "log_pass"),
+    GATEWAY("api-gateway", null, null, null);
+
+    private final String module;
+    private final String database;
+    private final String username;
+    private final String password;
+
+    ServiceModule(String module, String database, String username, String password) {
+        this.module = module;
+        this.database = database;
+        this.username = username;
+        this.password = password;
+    }
+
+    public String module() {
+        return module;
+    }
+
+    public boolean hasDatabase() {
+        return database != null;
+    }
+
+    public String database() {
+        return database;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String password() {
+        return password;
+    }
+}
@@ -0,0 +1,117 @@
+package leonil.sulude.perf.infra;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * A service running in its own JVM from the runnable jar of its module
+ * ({@code <module>/target/<module>-*-exec.jar}).
+ *
+ * Each service keeps its own classpath and application.yaml; the harness
+ * only passes the properties pointing it at the embedded infrastructure.
+ * Output goes to {@code <report-dir>/logs/<module>.log}.
+ */
+@Slf4j
+public class ServiceProcess implements AutoCloseable {
+
+    // Logged by SpringApplication once the context is refreshed and the web server is up
+    private static final Pattern STARTED = Pattern.compile("Started \\w+Application in ");
+
+    private final ServiceModule service;
+    private final Process process;
+    private final Path logFile;
+
+    private ServiceProcess(ServiceModule service, Process process, Path logFile) {
+        this.service = service;
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    public static ServiceProcess start(ServiceModule service, Path repositoryRoot, Path logDir,
+                                       List<String> jvmArgs, Map<String, String> properties,
+                                       Map<String, String> environment) throws IOException {
+
+        Path jar = findJar(repositoryRoot, service);
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        properties.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        Files.createDirectories(logDir);
+        Path logFile = logDir.resolve(service.module() + ".log");
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        builder.environment().putAll(environment);
+
+        log.info("Starting {} ({})", service.module(), jar.getFileName());
+        return new ServiceProcess(service, builder.start(), logFile);
+    }
+
+    private static Path findJar(Path repositoryRoot, ServiceModule service) throws IOException {
+        Path target = repositoryRoot.resolve(service.module()).resolve("target");
+        if (Files.isDirectory(target)) {
+            try (DirectoryStream<Path> jars = Files.newDirectoryStream(target, service.module() + "-*-exec.jar")) {
+                for (Path jar : jars) {
+                    return jar.toAbsolutePath();
+                }
+            }
+        }
+        throw new IllegalStateException("No runnable jar in " + target.toAbsolutePath()
+                + ", run mvn package -DskipTests in " + service.module());
+    }
+
+    /**
+     * Waits for the startup line of Spring Boot in the service log.
+     * Fails fast when the process exits, with the end of its log.
+     */
+    public void awaitStarted(Duration timeout) throws IOException, InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (Files.exists(logFile) && STARTED.matcher(Files.readString(logFile, StandardCharsets.UTF_8)).find()) {
+                log.info("{} started", service.module());
+                return;
+            }
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.module() + " exited with code "
+                        + process.exitValue() + ":\n" + tail());
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new TimeoutException(service.module() + " did not start within " + timeout + ":\n" + tail());
+    }
+
+    private String tail() throws IOException {
+        List<String> lines = Files.readAllLines(logFile, StandardCharsets.UTF_8);
+        return String.join("\n", lines.subList(Math.max(0, lines.size() - 40), lines.size()));
+    }
+
+    public ServiceModule service() {
+        return service;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        // SIGTERM first, so Spring shuts down gracefully and deregisters from Eureka
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
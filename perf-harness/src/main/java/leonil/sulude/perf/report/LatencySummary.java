@@ -0,0 +1,23 @@
+package leonil.sulude.perf.report;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency percentiles in milliseconds, from a histogram recorded in microseconds.
+ */
+public record LatencySummary(long count, double mean, double p50, double p90, double p99, double p999, double max) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public static LatencySummary of(Histogram micros) {
+        return new LatencySummary(
+                micros.getTotalCount(),
+                micros.getMean() / MICROS_PER_MILLI,
+                micros.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                micros.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                micros.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                micros.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                micros.getMaxValue() / MICROS_PER_MILLI
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package leonil.sulude.perf.report;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Content of perf-report.json: one entry per workload, and whether every
+ * workload stayed within its thresholds.
+ */
+public record PerfReport(Instant startedAt, boolean passed, List<WorkloadReport> workloads) {
+
+    public static PerfReport of(Instant startedAt, List<WorkloadReport> workloads) {
+        return new PerfReport(startedAt, workloads.stream().allMatch(WorkloadReport::passed), workloads);
+    }
+}
@@ -0,0 +1,58 @@
+package leonil.sulude.perf.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import leonil.sulude.perf.workload.LoadResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the machine-readable results to the report directory:
+ * - perf-report.json: summary, counts per outcome and threshold violations
+ * - {@code <workload>.hgrm}: full latency distribution of every operation (ms),
+ *   in the HdrHistogram format accepted by the usual plotting tools
+ */
+@Slf4j
+public class ReportWriter {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Path directory;
+
+    private final ObjectMapper mapper;
+
+    public ReportWriter(Path directory, ObjectMapper mapper) {
+        this.directory = directory;
+        this.mapper = mapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public void writeDistribution(String workload, LoadResult result) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(workload + ".hgrm")))) {
+            result.all().outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    public Path write(PerfReport report) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("perf-report.json");
+        mapper.writeValue(file.toFile(), report);
+
+        for (WorkloadReport workload : report.workloads()) {
+            log.info("{}: {} ops/s, p50={} ms, p99={} ms, p99.9={} ms, counts={} -> {}",
+                    workload.name(),
+                    String.format("%.1f", workload.throughput()),
+                    workload.latency().p50(),
+                    workload.latency().p99(),
+                    workload.latency().p999(),
+                    workload.counts(),
+                    workload.passed() ? "PASSED" : "FAILED " + workload.violations());
+        }
+        log.info("Report written to {}", file.toAbsolutePath());
+        return file;
+    }
+}
@@ -0,0 +1,118 @@
+package leonil.sulude.perf.report;
+
+import leonil.sulude.perf.config.HarnessProperties;
+import leonil.sulude.perf.infra.LockWaitSampler.LockWaits;
+import leonil.sulude.perf.workload.LoadResult;
+import leonil.sulude.perf.workload.Outcome;
+import leonil.sulude.perf.workload.WorkloadType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of one workload as written to perf-report.json.
+ *
+ * Latencies cover every operation (a 409 is a response too); successLatency
+ * only the 2xx ones and rejectedLatency only the expected rejections.
+ * lockWaits is set for workloads that sample database locks. Violations list
+ * the thresholds the run exceeded and the invariants it broke.
+ */
+public record WorkloadReport(
+        String name,
+        WorkloadType type,
+        int concurrency,
+        double targetRate,
+        double elapsedSeconds,
+        double throughput,
+        double successThroughput,
+        Map<Outcome, Long> counts,
+        Map<Integer, Long> statuses,
+        double errorRate,
+        LatencySummary latency,
+        LatencySummary successLatency,
+        LatencySummary rejectedLatency,
+        LockWaits lockWaits,
+        List<String> errorSamples,
+        List<String> violations
+) {
+
+    public static WorkloadReport of(HarnessProperties.Workload config, LoadResult result) {
+        return of(config, result, null, List.of());
+    }
+
+    public static WorkloadReport of(HarnessProperties.Workload config, LoadResult result,
+                                    LockWaits lockWaits, List<String> invariantViolations) {
+        Map<Outcome, Long> counts = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            counts.put(outcome, result.count(outcome));
+        }
+
+        long total = result.total();
+        double seconds = result.elapsed().toNanos() / 1e9;
+        double throughput = seconds > 0 ? total / seconds : 0;
+        double successThroughput = seconds > 0 ? counts.get(Outcome.SUCCESS) / seconds : 0;
+        double errorRate = total > 0 ? (double) counts.get(Outcome.ERROR) / total : 0;
+
+        LatencySummary latency = LatencySummary.of(result.all());
+
+        List<String> violations = violations(config.getThresholds(), total, throughput, errorRate, latency);
+        violations.addAll(invariantViolations);
+
+        return new WorkloadReport(
+                config.getName(),
+                config.getType(),
+                config.getConcurrency(),
+                config.getRate(),
+                seconds,
+                throughput,
+                successThroughput,
+                counts,
+                result.statuses(),
+                errorRate,
+                latency,
+                summary(result, Outcome.SUCCESS),
+                summary(result, Outcome.REJECTED),
+                lockWaits,
+                result.errorSamples(),
+                violations
+        );
+    }
+
+    private static LatencySummary summary(LoadResult result, Outcome outcome) {
+        return result.latencies().containsKey(outcome)
+                ? LatencySummary.of(result.latencies().get(outcome))
+                : null;
+    }
+
+    public boolean passed() {
+        return violations.isEmpty();
+    }
+
+    static List<String> violations(HarnessProperties.Thresholds thresholds, long total,
+                                   double throughput, double errorRate, LatencySummary latency) {
+        List<String> violations = new ArrayList<>();
+        if (total == 0) {
+            violations.add("no operation completed");
+            return violations;
+        }
+        checkLatency(violations, "p50", latency.p50(), thresholds.getMaxP50());
+        checkLatency(violations, "p99", latency.p99(), thresholds.getMaxP99());
+        checkLatency(violations, "p99.9", latency.p999(), thresholds.getMaxP999());
+        if (thresholds.getMinThroughput() != null && throughput < thresholds.getMinThroughput()) {
+            violations.add(String.format("throughput %.1f ops/s < %.1f ops/s", throughput, thresholds.getMinThroughput()));
+        }
+        if (thresholds.getMaxErrorRate() != null && errorRate > thresholds.getMaxErrorRate()) {
+            violations.add(String.format("error rate %.4f > %.4f", errorRate, thresholds.getMaxErrorRate()));
+        }
+        return violations;
+    }
+
+    private static void checkLatency(List<String> violations, String percentile, double actualMillis, Duration limit) {
+        if (limit != null && actualMillis > limit.toNanos() / 1e6) {
+            violations.add(String.format("%s %.1f ms > %d ms", percentile, actualMillis, limit.toMillis()));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package leonil.sulude.perf.workload;
+
+import leonil.sulude.perf.client.PlatformClient;
+import leonil.sulude.perf.config.HarnessProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Read-heavy catalog traffic through the gateway (response cache, catalog
+ * snapshot). Most reads hit a single offer; the rest fetch the full list or
+ * a category slice.
+ */
+class CatalogReadWorkload implements Workload {
+
+    private static final String[] CATEGORIES = {
+            "EDUCATION", "HEALTH", "FITNESS", "CONSULTING", "TECHNOLOGY", "BEAUTY", "OTHER"
+    };
+
+    private PlatformClient client;
+
+    private String token;
+
+    private List<String> offerIds;
+
+    private double listShare;
+
+    private double categoryShare;
+
+    @Override
+    public void setup(PlatformClient client, HarnessProperties.Workload config) {
+        this.client = client;
+        this.listShare = config.doubleParam("list-share", 0.1);
+        this.categoryShare = config.doubleParam("category-share", 0.2);
+        int resourcesPerOffer = config.intParam("resources-per-offer", 2);
+
+        String provider = client.register("perf-provider-" + UUID.randomUUID() + "@example.com",
+                "perf-password", "PROVIDER");
+
+        offerIds = SetupTasks.parallel(config.intParam("offers", 50), i -> {
+            String offerId = client.postJson("/api/offers", provider, Map.of(
+                    "title", "Perf offer " + i,
+                    "description", "Offer created by the performance harness",
+                    "category", CATEGORIES[i % CATEGORIES.length],
+                    "providerName", "Perf Inc",
+                    "location", "Lisbon"
+            ), 201).path("id").asText();
+
+            for (int r = 0; r < resourcesPerOffer; r++) {
+                client.postJson("/api/resources", provider, Map.of(
+                        "offerId", offerId,
+                        "name", "Perf resource " + i + "-" + r,
+                        "active", true,
+                        "price", 25 + r,
+                        "durationInMinutes", 60
+                ), 201);
+            }
+            return offerId;
+        });
+
+        token = client.register("perf-reader-" + UUID.randomUUID() + "@example.com",
+                "perf-password", "CLIENT");
+    }
+
+    @Override
+    public int execute(ThreadLocalRandom random) {
+        double pick = random.nextDouble();
+        String path;
+        if (pick < listShare) {
+            path = "/api/offers";
+        } else if (pick < listShare + categoryShare) {
+            path = "/api/offers?category=" + CATEGORIES[random.nextInt(CATEGORIES.length)];
+        } else {
+            path = "/api/offers/" + offerIds.get(random.nextInt(offerIds.size()));
+        }
+        return client.get(path, token);
+    }
+}
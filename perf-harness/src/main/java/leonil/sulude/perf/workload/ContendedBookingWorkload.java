@@ -0,0 +1,160 @@
+package leonil.sulude.perf.workload;
+
+import leonil.sulude.perf.client.PlatformClient;
+import leonil.sulude.perf.config.HarnessProperties;
+import leonil.sulude.perf.infra.EmbeddedDatabase;
+import leonil.sulude.perf.infra.ServiceModule;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Many customers competing for a small pool of slots on a few resources.
+ *
+ * Slots start every 30 minutes and last one hour, so each overlaps its
+ * neighbours: most attempts must be rejected with 409 once the pool fills up.
+ * Those rejections are REJECTED outcomes; anything else than 201/409 is an error.
+ *
+ * A 409 alone does not prove the conflict detection is right: two concurrent
+ * requests for overlapping slots can both pass the check, and only the exclusion
+ * constraint of bookings stops the second one. After the run the bookings table
+ * is therefore checked directly: no two non-cancelled bookings of the same
+ * resource may overlap. Lock waits in booking-db are sampled
+ * during the measurement.
+ */
+class ContendedBookingWorkload implements Workload {
+
+    private static final int OVERLAP_SAMPLES = 5;
+
+    private static final String OVERLAPPING_PAIRS = """
+            SELECT a.resource_id, a.id, a.start_time, b.id, b.start_time
+            FROM bookings a
+            JOIN bookings b ON b.resource_id = a.resource_id
+                           AND b.id > a.id
+                           AND b.start_time < a.end_time
+                           AND b.end_time > a.start_time
+            WHERE a.resource_id = ANY (?)
+              AND a.status <> 'CANCELLED'
+              AND b.status <> 'CANCELLED'
+            ORDER BY a.resource_id, a.start_time
+            """;
+
+    private static final int SLOT_STEP_MINUTES = 30;
+
+    private static final int SLOT_LENGTH_MINUTES = 60;
+
+    private PlatformClient client;
+
+    private List<Customer> customers;
+
+    private List<String> resourceIds;
+
+    private List<LocalDateTime> slots;
+
+    private record Customer(String email, String token) {}
+
+    @Override
+    public void setup(PlatformClient client, HarnessProperties.Workload config) {
+        this.client = client;
+
+        String provider = client.register("perf-provider-" + UUID.randomUUID() + "@example.com",
+                "perf-password", "PROVIDER");
+        String offerId = client.postJson("/api/offers", provider, Map.of(
+                "title", "Perf contended offer",
+                "description", "Offer created by the performance harness",
+                "category", "OTHER",
+                "providerName", "Perf Inc",
+                "location", "Lisbon"
+        ), 201).path("id").asText();
+
+        resourceIds = SetupTasks.parallel(config.intParam("resources", 5), i ->
+                client.postJson("/api/resources", provider, Map.of(
+                        "offerId", offerId,
+                        "name", "Perf contended resource " + i,
+                        "active", true,
+                        "price", 40,
+                        "durationInMinutes", SLOT_LENGTH_MINUTES
+                ), 201).path("id").asText());
+
+        customers = SetupTasks.parallel(config.intParam("customers", 50), i -> {
+            String email = "perf-customer-" + i + "-" + UUID.randomUUID() + "@example.com";
+            return new Customer(email, client.register(email, "perf-password", "CLIENT"));
+        });
+
+        // Far enough in the future for @Future validation during the whole run
+        LocalDateTime first = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.DAYS).withHour(8);
+        slots = IntStream.range(0, config.intParam("slots", 40))
+                .mapToObj(i -> first.plusMinutes((long) i * SLOT_STEP_MINUTES))
+                .toList();
+    }
+
+    @Override
+    public int execute(ThreadLocalRandom random) {
+        Customer customer = customers.get(random.nextInt(customers.size()));
+        LocalDateTime start = slots.get(random.nextInt(slots.size()));
+
+        Map<String, Object> booking = new LinkedHashMap<>();
+        booking.put("resourceId", resourceIds.get(random.nextInt(resourceIds.size())));
+        booking.put("customerName", "Perf customer");
+        booking.put("customerEmail", customer.email());
+        booking.put("startTime", start.toString());
+        booking.put("endTime", start.plusMinutes(SLOT_LENGTH_MINUTES).toString());
+
+        return client.post("/api/bookings", customer.token(), booking);
+    }
+
+    @Override
+    public Outcome classify(int status) {
+        // Overlapping booking refused: the expected answer for most attempts
+        return Outcome.of(status, 409);
+    }
+
+    @Override
+    public ServiceModule lockedDatabase() {
+        return ServiceModule.BOOKING;
+    }
+
+    @Override
+    public List<String> verify(EmbeddedDatabase database) throws SQLException {
+        long pairs = 0;
+        List<String> samples = new ArrayList<>();
+
+        try (Connection connection = database.connect(ServiceModule.BOOKING);
+             PreparedStatement statement = connection.prepareStatement(OVERLAPPING_PAIRS)) {
+            Array resources = connection.createArrayOf("uuid",
+                    resourceIds.stream().map(UUID::fromString).toArray());
+            statement.setArray(1, resources);
+
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    pairs++;
+                    if (samples.size() < OVERLAP_SAMPLES) {
+                        samples.add(String.format("resource %s: %s at %s overlaps %s at %s",
+                                result.getString(1), result.getString(2), result.getObject(3, LocalDateTime.class),
+                                result.getString(4), result.getObject(5, LocalDateTime.class)));
+                    }
+                }
+            }
+        }
+
+        if (pairs == 0) {
+            return List.of();
+        }
+        List<String> violations = new ArrayList<>();
+        violations.add(pairs + " overlapping pairs of non-cancelled bookings");
+        violations.addAll(samples);
+        return violations;
+    }
+}
@@ -0,0 +1,137 @@
+package leonil.sulude.perf.workload;
+
+import leonil.sulude.perf.config.HarnessProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a workload with a fixed number of concurrent callers (virtual threads).
+ *
+ * - rate = 0: closed loop, each caller sends its next operation as soon as
+ *   the previous one completed.
+ * - rate > 0: open model. Operations are scheduled at fixed intervals and
+ *   latency is measured from the scheduled start, not the actual one. When
+ *   the platform falls behind, the queueing delay is part of the latency
+ *   instead of silently lowering the offered load (coordinated omission).
+ *
+ * Each caller records into its own histograms (microseconds, per outcome)
+ * and status counters, merged once the phase is over, so callers never
+ * contend on recording. Operations that got no response count as status 0.
+ */
+@Slf4j
+public class LoadDriver {
+
+    private static final int ERROR_SAMPLES = 5;
+
+    private static final int NO_RESPONSE = 0;
+
+    /**
+     * Runs the workload for its warmup duration and discards the results.
+     */
+    public void warmup(Workload workload, HarnessProperties.Workload config) {
+        if (!config.getWarmup().isZero()) {
+            log.info("{}: warmup for {}", config.getName(), config.getWarmup());
+            runPhase(workload, config, config.getWarmup());
+        }
+    }
+
+    public LoadResult measure(Workload workload, HarnessProperties.Workload config) {
+        log.info("{}: measuring for {}", config.getName(), config.getDuration());
+        return runPhase(workload, config, config.getDuration());
+    }
+
+    LoadResult runPhase(Workload workload, HarnessProperties.Workload config, Duration length) {
+        long intervalNanos = config.getRate() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / config.getRate()) : 0;
+        AtomicLong sequence = new AtomicLong();
+
+        List<Caller> callers = new ArrayList<>(config.getConcurrency());
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.getConcurrency(); i++) {
+                Caller caller = new Caller();
+                callers.add(caller);
+                executor.execute(() -> caller.run(workload, start, end, intervalNanos, sequence));
+            }
+        } // Waits for every caller to finish its last operation
+
+        long elapsed = System.nanoTime() - start;
+
+        Map<Outcome, Histogram> latencies = new EnumMap<>(Outcome.class);
+        Map<Integer, Long> statuses = new TreeMap<>();
+        List<String> errors = new ArrayList<>();
+        for (Caller caller : callers) {
+            caller.latencies.forEach((outcome, histogram) ->
+                    latencies.computeIfAbsent(outcome, o -> newHistogram()).add(histogram));
+            caller.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+            caller.errors.stream().limit(ERROR_SAMPLES - errors.size()).forEach(errors::add);
+        }
+        return new LoadResult(Duration.ofNanos(elapsed), latencies, statuses, errors);
+    }
+
+    private static Histogram newHistogram() {
+        // Auto-resizing, 3 significant digits
+        return new Histogram(3);
+    }
+
+    private static final class Caller {
+
+        private final Map<Outcome, Histogram> latencies = new EnumMap<>(Outcome.class);
+
+        private final Map<Integer, Long> statuses = new HashMap<>();
+
+        private final List<String> errors = new ArrayList<>();
+
+        void run(Workload workload, long start, long end, long intervalNanos, AtomicLong sequence) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (true) {
+                long intended;
+                if (intervalNanos > 0) {
+                    intended = start + sequence.getAndIncrement() * intervalNanos;
+                    if (intended >= end) {
+                        return;
+                    }
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                } else {
+                    intended = System.nanoTime();
+                    if (intended >= end) {
+                        return;
+                    }
+                }
+
+                int status;
+                try {
+                    status = workload.execute(random);
+                } catch (RuntimeException e) {
+                    status = NO_RESPONSE;
+                    if (errors.size() < ERROR_SAMPLES) {
+                        errors.add(e.toString());
+                    }
+                }
+
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                Outcome outcome = status == NO_RESPONSE ? Outcome.ERROR : workload.classify(status);
+                latencies.computeIfAbsent(outcome, o -> newHistogram()).recordValue(micros);
+                statuses.merge(status, 1L, Long::sum);
+            }
+        }
+    }
+}
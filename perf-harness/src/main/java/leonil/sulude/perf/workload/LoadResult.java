@@ -0,0 +1,34 @@
+package leonil.sulude.perf.workload;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measured phase of a workload: latency histograms in microseconds per
+ * outcome, operations per HTTP status (0 = no response), the wall-clock
+ * length of the phase and a few error samples.
+ */
+public record LoadResult(Duration elapsed, Map<Outcome, Histogram> latencies,
+                         Map<Integer, Long> statuses, List<String> errorSamples) {
+
+    public long count(Outcome outcome) {
+        Histogram histogram = latencies.get(outcome);
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+
+    public long total() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    /**
+     * Latency of every operation, whatever its outcome.
+     */
+    public Histogram all() {
+        Histogram all = new Histogram(3);
+        latencies.values().forEach(all::add);
+        return all;
+    }
+}
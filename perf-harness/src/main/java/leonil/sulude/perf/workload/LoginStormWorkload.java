@@ -0,0 +1,41 @@
+package leonil.sulude.perf.workload;
+
+import leonil.sulude.perf.client.PlatformClient;
+import leonil.sulude.perf.config.HarnessProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Burst of logins by many distinct users, e.g. at the start of a business day.
+ * Each login verifies a password hash in auth-service, the most CPU-heavy call
+ * of the platform.
+ */
+class LoginStormWorkload implements Workload {
+
+    private static final String PASSWORD = "perf-password";
+
+    private PlatformClient client;
+
+    private List<Map<String, String>> credentials;
+
+    @Override
+    public void setup(PlatformClient client, HarnessProperties.Workload config) {
+        this.client = client;
+
+        String run = UUID.randomUUID().toString();
+        credentials = SetupTasks.parallel(config.intParam("users", 200), i -> {
+            String email = "perf-user-" + i + "-" + run + "@example.com";
+            client.register(email, PASSWORD, "CLIENT");
+            return Map.of("email", email, "password", PASSWORD);
+        });
+    }
+
+    @Override
+    public int execute(ThreadLocalRandom random) {
+        Map<String, String> user = credentials.get(random.nextInt(credentials.size()));
+        return client.post("/api/auth/login", null, user);
+    }
+}
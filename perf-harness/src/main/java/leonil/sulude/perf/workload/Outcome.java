@@ -0,0 +1,35 @@
+package leonil.sulude.perf.workload;
+
+/**
+ * Classification of one operation.
+ *
+ * A contended booking answered with 409 is the platform doing its job, not
+ * a failure, so it is REJECTED and kept apart from ERROR. Reporting both as
+ * "handled" (as the k6 checks do) would hide real failures.
+ */
+public enum Outcome {
+    /** 2xx. */
+    SUCCESS,
+    /** Expected business rejection for this workload (e.g. 409 on an overlapping booking). */
+    REJECTED,
+    /** 429 from the gateway rate limiter. */
+    THROTTLED,
+    /** Any other status, timeout or I/O failure. */
+    ERROR;
+
+    /**
+     * Maps a status code, with {@code expectedRejection} counted as REJECTED (-1 for none).
+     */
+    public static Outcome of(int status, int expectedRejection) {
+        if (status >= 200 && status < 300) {
+            return SUCCESS;
+        }
+        if (status == expectedRejection) {
+            return REJECTED;
+        }
+        if (status == 429) {
+            return THROTTLED;
+        }
+        return ERROR;
+    }
+}
@@ -0,0 +1,51 @@
+package leonil.sulude.perf.workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * Runs setup calls (registrations, catalog entries) in parallel.
+ * Registrations hash passwords, so a few hundred of them sequentially
+ * would add minutes to every run.
+ */
+final class SetupTasks {
+
+    private static final int PARALLELISM = 16;
+
+    private SetupTasks() {}
+
+    static <T> List<T> parallel(int count, IntFunction<T> task) {
+        Semaphore permits = new Semaphore(PARALLELISM);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return task.apply(index);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<T> results = new ArrayList<>(count);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Workload setup failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Workload setup interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package leonil.sulude.perf.workload;
+
+import leonil.sulude.perf.client.PlatformClient;
+import leonil.sulude.perf.config.HarnessProperties;
+import leonil.sulude.perf.infra.EmbeddedDatabase;
+import leonil.sulude.perf.infra.ServiceModule;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A parameterised load scenario.
+ *
+ * setup runs once, before the warmup, and creates the data the operations
+ * need. execute is then called concurrently by the LoadDriver callers and
+ * must be thread-safe; it returns the HTTP status of the operation and is
+ * timed from the intended start of the operation.
+ *
+ * After the measurement, verify checks the invariants the operations must
+ * preserve directly in the service databases.
+ */
+public interface Workload {
+
+    void setup(PlatformClient client, HarnessProperties.Workload config);
+
+    int execute(ThreadLocalRandom random);
+
+    /**
+     * Classifies a status returned by execute; override to accept an expected rejection.
+     */
+    default Outcome classify(int status) {
+        return Outcome.of(status, -1);
+    }
+
+    /**
+     * Database whose lock waits are sampled during the measurement, or null for none.
+     */
+    default ServiceModule lockedDatabase() {
+        return null;
+    }
+
+    /**
+     * Checks the data left by the run; each returned message is an invariant violation.
+     */
+    default List<String> verify(EmbeddedDatabase database) throws SQLException {
+        return List.of();
+    }
+}
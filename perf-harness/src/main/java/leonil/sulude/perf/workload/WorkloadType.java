@@ -0,0 +1,37 @@
+package leonil.sulude.perf.workload;
+
+import java.util.function.Supplier;
+
+/**
+ * Workloads available in harness.workloads[].type.
+ */
+public enum WorkloadType {
+
+    /**
+     * Authenticated catalog reads: full list, single offer and category slice.
+     * Params: offers, resources-per-offer, list-share, category-share.
+     */
+    CATALOG_READ(CatalogReadWorkload::new),
+
+    /**
+     * Many customers booking a small pool of slots on a few resources.
+     * Params: customers, resources, slots.
+     */
+    CONTENDED_BOOKING(ContendedBookingWorkload::new),
+
+    /**
+     * Logins of many registered users (password hashing in auth-service).
+     * Params: users.
+     */
+    LOGIN_STORM(LoginStormWorkload::new);
+
+    private final Supplier<Workload> factory;
+
+    WorkloadType(Supplier<Workload> factory) {
+        this.factory = factory;
+    }
+
+    public Workload create() {
+        return factory.get();
+    }
+}
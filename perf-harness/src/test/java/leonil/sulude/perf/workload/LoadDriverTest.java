@@ -0,0 +1,150 @@
+package leonil.sulude.perf.workload;
+
+import leonil.sulude.perf.client.PlatformClient;
+import leonil.sulude.perf.config.HarnessProperties;
+import leonil.sulude.perf.report.WorkloadReport;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoadDriver and the threshold checks of WorkloadReport.
+ *
+ * These tests validate:
+ * - Operations are counted per outcome, failures included
+ * - The open model sends at the target rate
+ * - Thresholds turn into violations
+ * - Broken invariants fail the workload; rejections and successes are reported apart
+ */
+class LoadDriverTest {
+
+    private final LoadDriver driver = new LoadDriver();
+
+    /**
+     * Tests that every outcome is counted and exceptions become ERROR with a sample.
+     */
+    @Test
+    void shouldCountOutcomesAndErrors() {
+
+        AtomicLong calls = new AtomicLong();
+        Workload workload = workload(random -> {
+            long call = calls.incrementAndGet();
+            if (call % 10 == 0) {
+                throw new IllegalStateException("connection reset");
+            }
+            return call % 2 == 0 ? 409 : 201;
+        }, 409);
+
+        LoadResult result = driver.runPhase(workload, config(4, 0), Duration.ofMillis(200));
+
+        assertEquals(calls.get(), result.total());
+        assertTrue(result.count(Outcome.SUCCESS) > 0);
+        assertTrue(result.count(Outcome.REJECTED) > 0);
+        assertEquals(calls.get() / 10, result.count(Outcome.ERROR));
+        assertEquals(calls.get() / 10, result.statuses().get(0)); // No response
+        assertTrue(result.errorSamples().get(0).contains("connection reset"));
+    }
+
+    /**
+     * Tests that the open model issues operations at the target rate, not as fast as possible.
+     */
+    @Test
+    void shouldSendAtTargetRate() {
+
+        AtomicLong calls = new AtomicLong();
+        Workload workload = workload(random -> {
+            calls.incrementAndGet();
+            return 200;
+        }, -1);
+
+        driver.runPhase(workload, config(8, 100), Duration.ofMillis(500));
+
+        assertEquals(50, calls.get(), 2); // 100 ops/s for half a second
+    }
+
+    /**
+     * Tests that queueing delay counts as latency and exceeded thresholds become violations.
+     */
+    @Test
+    void shouldReportViolationsWhenSlowerThanThresholds() {
+
+        // One caller, 10ms operations, 200 ops/s offered: operations queue up
+        Workload workload = workload(random -> {
+            sleep(10);
+            return 200;
+        }, -1);
+        HarnessProperties.Workload config = config(1, 200);
+        config.getThresholds().setMaxP99(Duration.ofMillis(20));
+        config.getThresholds().setMinThroughput(150.0);
+
+        WorkloadReport report = WorkloadReport.of(config, driver.runPhase(workload, config, Duration.ofMillis(300)));
+
+        assertFalse(report.passed());
+        assertEquals(2, report.violations().size());
+        assertTrue(report.latency().p99() > 20); // Queueing delay is not hidden
+    }
+
+    /**
+     * Tests that invariant violations fail an otherwise passing run, and that
+     * accepted operations and expected rejections get their own figures.
+     */
+    @Test
+    void shouldFailOnInvariantViolationsAndSplitRejections() {
+
+        Workload workload = workload(random -> random.nextBoolean() ? 201 : 409, 409);
+        HarnessProperties.Workload config = config(2, 0);
+
+        LoadResult result = driver.runPhase(workload, config, Duration.ofMillis(100));
+        WorkloadReport report = WorkloadReport.of(config, result, null, List.of("2 overlapping pairs"));
+
+        assertFalse(report.passed());
+        assertEquals(List.of("2 overlapping pairs"), report.violations());
+        assertEquals(result.count(Outcome.REJECTED), report.rejectedLatency().count());
+        assertTrue(report.successThroughput() < report.throughput());
+    }
+
+    private static HarnessProperties.Workload config(int concurrency, double rate) {
+        HarnessProperties.Workload config = new HarnessProperties.Workload();
+        config.setName("test");
+        config.setType(WorkloadType.CATALOG_READ);
+        config.setConcurrency(concurrency);
+        config.setRate(rate);
+        return config;
+    }
+
+    private static Workload workload(Operation operation, int expectedRejection) {
+        return new Workload() {
+            @Override
+            public void setup(PlatformClient client, HarnessProperties.Workload config) {
+            }
+
+            @Override
+            public int execute(ThreadLocalRandom random) {
+                return operation.execute(random);
+            }
+
+            @Override
+            public Outcome classify(int status) {
+                return Outcome.of(status, expectedRejection);
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Operation {
+        int execute(ThreadLocalRandom random);
+    }
+}
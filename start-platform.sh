@@ -49,6 +49,10 @@ wait_for_port() {
 }
 
 
+echo ""
+echo "Installing shared modules..."
+(cd jdbc-support && ./mvnw -q install -DskipTests)
+
 echo ""
 echo "Starting microservices (async)..."
 